@@ -0,0 +1,56 @@
+/*
+ * BlobReadEvent.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A BLOB or MEMO read.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+@Name("com.googlecode.paradox.BlobRead")
+@Label("BLOB Read")
+@Category({ "Paradox", "Storage" })
+@Description("A BLOB or MEMO value read from the MB file")
+@StackTrace(false)
+final class BlobReadEvent extends jdk.jfr.Event {
+
+    /**
+     * The bytes read.
+     */
+    @Label("Bytes")
+    @DataAmount
+    int bytes;
+
+    /**
+     * If the value was found in cache.
+     */
+    @Label("Cached")
+    boolean cached;
+
+    /**
+     * The table name of the MB file.
+     */
+    @Label("Table")
+    String file;
+
+    /**
+     * The raw LOB offset.
+     */
+    @Label("Offset")
+    long offset;
+}
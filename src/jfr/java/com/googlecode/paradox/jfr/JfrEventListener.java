@@ -0,0 +1,111 @@
+/*
+ * JfrEventListener.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.jfr;
+
+import com.googlecode.paradox.management.DriverEventListener;
+import com.googlecode.paradox.management.QueryPhase;
+
+/**
+ * Records the driver events in the JDK Flight Recorder.
+ * <p>
+ * The events are only created when enabled in the recording settings, so the listener can stay in class path in
+ * production.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class JfrEventListener implements DriverEventListener {
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Object beginBlobRead(final String file, final long offset) {
+        final BlobReadEvent event = new BlobReadEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.file = file;
+        event.offset = offset;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Object beginPhase(final QueryPhase phase, final String sql) {
+        final QueryPhaseEvent event = new QueryPhaseEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.phase = phase.name();
+        event.sql = sql;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Object beginScan(final String table) {
+        final ScanEvent event = new ScanEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.table = table;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void endBlobRead(final Object event, final int bytes, final boolean cached) {
+        if (event != null) {
+            final BlobReadEvent read = (BlobReadEvent) event;
+            read.end();
+            if (read.shouldCommit()) {
+                read.bytes = bytes;
+                read.cached = cached;
+                read.commit();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void endPhase(final Object event) {
+        if (event != null) {
+            ((QueryPhaseEvent) event).commit();
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void endScan(final Object event, final long blocks, final long rows) {
+        if (event != null) {
+            final ScanEvent scan = (ScanEvent) event;
+            scan.end();
+            if (scan.shouldCommit()) {
+                scan.blocks = blocks;
+                scan.rows = rows;
+                scan.commit();
+            }
+        }
+    }
+}
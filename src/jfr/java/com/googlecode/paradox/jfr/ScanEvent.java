@@ -0,0 +1,48 @@
+/*
+ * ScanEvent.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A table scan.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+@Name("com.googlecode.paradox.TableScan")
+@Label("Table Scan")
+@Category({ "Paradox", "Storage" })
+@Description("A Paradox table read")
+@StackTrace(false)
+final class ScanEvent extends jdk.jfr.Event {
+
+    /**
+     * Amount of blocks read.
+     */
+    @Label("Blocks")
+    long blocks;
+
+    /**
+     * Amount of rows read.
+     */
+    @Label("Rows")
+    long rows;
+
+    /**
+     * The table name.
+     */
+    @Label("Table")
+    String table;
+}
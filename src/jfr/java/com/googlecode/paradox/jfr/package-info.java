@@ -0,0 +1,6 @@
+/**
+ * JDK Flight Recorder events of the driver, built with the <code>jfr</code> profile.
+ *
+ * @since 1.4.0
+ */
+package com.googlecode.paradox.jfr;
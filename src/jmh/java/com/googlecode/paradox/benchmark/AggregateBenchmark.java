@@ -0,0 +1,119 @@
+/*
+ * AggregateBenchmark.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.benchmark;
+
+import com.googlecode.paradox.data.table.value.BatchList;
+import com.googlecode.paradox.data.table.value.ColumnVector;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.data.table.value.RowBatch;
+import com.googlecode.paradox.planner.vector.AggregateKernels;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Row by row COUNT, SUM, MIN and MAX against the {@link AggregateKernels}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class AggregateBenchmark {
+
+    /**
+     * Amount of rows.
+     */
+    @Param({ "1000000" })
+    private int rows;
+
+    /**
+     * The table rows.
+     */
+    private BatchList data;
+
+    /**
+     * Creates the table rows.
+     */
+    @Setup
+    public void setup() {
+        this.data = BatchData.create(this.rows);
+    }
+
+    /**
+     * Aggregates by the {@link FieldValue} of each row.
+     *
+     * @param blackhole
+     *            the results consumer.
+     */
+    @Benchmark
+    public void rowAtATime(final Blackhole blackhole) {
+        long count = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        double max = Double.NEGATIVE_INFINITY;
+        for (final List<FieldValue> row : this.data) {
+            final FieldValue id = row.get(BatchData.INTEGER_COLUMN);
+            if (!id.isNull()) {
+                final long value = ((Number) id.getValue()).longValue();
+                count++;
+                sum += value;
+                min = Math.min(min, value);
+            }
+            max = Math.max(max, ((Number) row.get(BatchData.DOUBLE_COLUMN).getValue()).doubleValue());
+        }
+        blackhole.consume(count);
+        blackhole.consume(sum);
+        blackhole.consume(min);
+        blackhole.consume(max);
+    }
+
+    /**
+     * Aggregates with the kernels, batch by batch.
+     *
+     * @param blackhole
+     *            the results consumer.
+     */
+    @Benchmark
+    public void kernels(final Blackhole blackhole) {
+        long count = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        double max = Double.NEGATIVE_INFINITY;
+        for (final RowBatch batch : this.data.getBatches()) {
+            final int size = batch.size();
+            final ColumnVector id = batch.getVector(BatchData.INTEGER_COLUMN);
+            count += AggregateKernels.count(id.getValidity(), size);
+            sum += AggregateKernels.sum(id.getLongs(), size);
+            min = Math.min(min, AggregateKernels.min(id.getLongs(), id.getValidity(), size));
+            final ColumnVector value = batch.getVector(BatchData.DOUBLE_COLUMN);
+            max = Math.max(max, AggregateKernels.maxDouble(value.getLongs(), value.getValidity(), size));
+        }
+        blackhole.consume(count);
+        blackhole.consume(sum);
+        blackhole.consume(min);
+        blackhole.consume(max);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * BatchData.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.benchmark;
+
+import com.googlecode.paradox.data.table.value.BatchList;
+import com.googlecode.paradox.data.table.value.RowBatch;
+import com.googlecode.paradox.metadata.ParadoxField;
+import java.sql.Types;
+import java.util.Random;
+
+/**
+ * Generated in memory tables for the benchmarks.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+final class BatchData {
+
+    /**
+     * The integer column.
+     */
+    static final int INTEGER_COLUMN = 0;
+
+    /**
+     * The floating point column.
+     */
+    static final int DOUBLE_COLUMN = 1;
+
+    /**
+     * Utility class.
+     */
+    private BatchData() {
+        // Utility class.
+    }
+
+    /**
+     * Creates a table with an integer and a floating point column. One in each hundred values is NULL.
+     *
+     * @param rows
+     *            amount of rows.
+     * @return the table rows.
+     */
+    static BatchList create(final int rows) {
+        final ParadoxField integer = new ParadoxField();
+        integer.setName("ID");
+        final ParadoxField number = new ParadoxField();
+        number.setName("VALUE");
+        final BatchList list = new BatchList(new ParadoxField[] { integer, number });
+        final Random random = new Random(rows);
+        for (int loop = 0; loop < rows; loop++) {
+            final RowBatch batch = list.appendRow();
+            if (random.nextInt(100) == 0) {
+                batch.setNull(BatchData.INTEGER_COLUMN, Types.INTEGER);
+            } else {
+                batch.setLong(BatchData.INTEGER_COLUMN, random.nextInt(1_000_000), Types.INTEGER);
+            }
+            batch.setDouble(BatchData.DOUBLE_COLUMN, random.nextDouble() * 1_000D);
+        }
+        return list;
+    }
+}
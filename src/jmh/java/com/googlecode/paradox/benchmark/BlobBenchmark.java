@@ -0,0 +1,142 @@
+/*
+ * BlobBenchmark.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.benchmark;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.table.value.BlobDescriptor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.BlobTable;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link BlobTable#read} of all memos in the <code>CUSTOMER</code> test table.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class BlobBenchmark {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * The memo file.
+     */
+    private BlobTable file;
+
+    /**
+     * The memo offsets.
+     */
+    private final List<Long> offsets = new ArrayList<>();
+
+    /**
+     * Loads the memo offsets.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Setup
+    public void setup() throws SQLException {
+        this.conn = Databases.connect("db");
+        final ParadoxTable table = TableData.listTables(this.conn, "customer.db").get(0);
+        ParadoxField comments = null;
+        for (final ParadoxField field : table.getFields()) {
+            if ("comments".equalsIgnoreCase(field.getName())) {
+                comments = field;
+            }
+        }
+        for (final List<FieldValue> row : TableData.loadData(table, Collections.singletonList(comments))) {
+            final Object value = row.get(0).getValue();
+            // Memos with offset zero are stored only in the table.
+            if ((value instanceof BlobDescriptor) && (((BlobDescriptor) value).getOffset() != 0)) {
+                final BlobDescriptor descriptor = (BlobDescriptor) value;
+                this.file = descriptor.getFile();
+                this.offsets.add(Long.valueOf(descriptor.getOffset()));
+            }
+        }
+    }
+
+    /**
+     * Closes the connection.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        this.conn.close();
+    }
+
+    /**
+     * Read all memos with the blocks already in the memo file cache.
+     *
+     * @return amount of bytes read.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Benchmark
+    public int cached() throws SQLException {
+        return this.readAll();
+    }
+
+    /**
+     * Read all memos parsing the memo file again.
+     *
+     * @return amount of bytes read.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Benchmark
+    public int uncached() throws SQLException {
+        this.file.close();
+        return this.readAll();
+    }
+
+    /**
+     * Read all memos.
+     *
+     * @return amount of bytes read.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    private int readAll() throws SQLException {
+        int bytes = 0;
+        for (final Long offset : this.offsets) {
+            bytes += this.file.read(offset.longValue()).length;
+        }
+        return bytes;
+    }
+}
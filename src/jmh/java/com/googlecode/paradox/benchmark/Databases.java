@@ -0,0 +1,55 @@
+/*
+ * Databases.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.benchmark;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * Access to the test databases for the benchmarks. The benchmarks run from the project directory, after the test
+ * resources are copied by <code>test-compile</code>.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+final class Databases {
+
+    /**
+     * The connection string of the test databases.
+     */
+    private static final String CONNECTION_STRING = "jdbc:paradox:target/test-classes/";
+
+    /**
+     * Utility class.
+     */
+    private Databases() {
+        // Utility class.
+    }
+
+    /**
+     * Connects to a test database.
+     *
+     * @param catalog
+     *            the test database name.
+     * @return the connection.
+     * @throws SQLException
+     *             in case of connection errors.
+     */
+    static ParadoxConnection connect(final String catalog) throws SQLException {
+        try {
+            Class.forName(Driver.class.getName());
+        } catch (final ClassNotFoundException e) {
+            throw new SQLException(e);
+        }
+        return (ParadoxConnection) DriverManager.getConnection(Databases.CONNECTION_STRING + catalog);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * FieldParseBenchmark.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.benchmark;
+
+import com.googlecode.paradox.data.FieldFactory;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.data.table.value.Row;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link FieldFactory#parse} by field type, to a {@link FieldValue} and to a reused row.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class FieldParseBenchmark {
+
+    /**
+     * Amount of values parsed by invocation.
+     */
+    private static final int VALUES = 1024;
+
+    /**
+     * The Paradox field type: alpha, date, short, long, currency, number, logical, time, timestamp, autoincrement and
+     * BCD.
+     */
+    @Param({ "1", "2", "3", "4", "5", "6", "9", "20", "21", "22", "23" })
+    private int type;
+
+    /**
+     * The encoded values.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The field to parse.
+     */
+    private ParadoxField field;
+
+    /**
+     * The reused row.
+     */
+    private Row row;
+
+    /**
+     * The table of the field, used only for the charset.
+     */
+    private ParadoxTable table;
+
+    /**
+     * Creates the encoded values.
+     *
+     * @throws SQLException
+     *             in case of invalid type.
+     */
+    @Setup
+    public void setup() throws SQLException {
+        this.table = new ParadoxTable(new File("benchmark.db"), "benchmark.db");
+        this.field = new ParadoxField();
+        this.field.setType((byte) this.type);
+        this.field.setSize(FieldParseBenchmark.getSize(this.type));
+        this.row = new Row(new ParadoxField[] { this.field });
+
+        final int size = this.field.getPhysicsSize();
+        final Random random = new Random(this.type);
+        this.buffer = ByteBuffer.allocate(size * FieldParseBenchmark.VALUES);
+        for (int value = 0; value < FieldParseBenchmark.VALUES; value++) {
+            for (int loop = 0; loop < size; loop++) {
+                if (this.type == 1) {
+                    this.buffer.put((byte) ('A' + random.nextInt(26)));
+                } else if (this.type == 9) {
+                    this.buffer.put((byte) random.nextInt(2));
+                } else {
+                    // Two decimal digits by byte, valid in all types.
+                    this.buffer.put((byte) ((random.nextInt(10) << 4) | random.nextInt(10)));
+                }
+            }
+            // Positive and not NULL.
+            this.buffer.put(value * size, (byte) (this.buffer.get(value * size) | 0x80));
+        }
+    }
+
+    /**
+     * Parse to new {@link FieldValue} instances.
+     *
+     * @return the last value.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    @Benchmark
+    public FieldValue toValue() throws SQLException {
+        this.buffer.clear();
+        FieldValue value = null;
+        for (int loop = 0; loop < FieldParseBenchmark.VALUES; loop++) {
+            value = FieldFactory.parse(this.table, this.buffer, this.field);
+        }
+        return value;
+    }
+
+    /**
+     * Parse to a reused row.
+     *
+     * @return the reused row.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    @Benchmark
+    public Row toRow() throws SQLException {
+        this.buffer.clear();
+        for (int loop = 0; loop < FieldParseBenchmark.VALUES; loop++) {
+            FieldFactory.parse(this.table, this.buffer, this.field, this.row, 0);
+        }
+        return this.row;
+    }
+
+    /**
+     * Gets the declared size of a field type.
+     *
+     * @param type
+     *            the Paradox field type.
+     * @return the declared size.
+     */
+    private static int getSize(final int type) {
+        switch (type) {
+            case 1:
+                return 20;
+            case 3:
+                return 2;
+            case 5:
+            case 6:
+            case 21:
+                return 8;
+            case 9:
+                return 1;
+            case 23:
+                return 2;
+            default:
+                return 4;
+        }
+    }
+}
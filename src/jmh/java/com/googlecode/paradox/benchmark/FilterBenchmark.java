@@ -0,0 +1,107 @@
+/*
+ * FilterBenchmark.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.benchmark;
+
+import com.googlecode.paradox.data.table.value.BatchList;
+import com.googlecode.paradox.data.table.value.ColumnVector;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.data.table.value.RowBatch;
+import com.googlecode.paradox.planner.vector.Comparison;
+import com.googlecode.paradox.planner.vector.FilterKernels;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Row by row filter against the {@link FilterKernels}, for <code>ID &gt; 500000 AND VALUE &lt; 250</code>.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class FilterBenchmark {
+
+    /**
+     * Amount of rows.
+     */
+    @Param({ "1000000" })
+    private int rows;
+
+    /**
+     * The table rows.
+     */
+    private BatchList data;
+
+    /**
+     * Creates the table rows.
+     */
+    @Setup
+    public void setup() {
+        this.data = BatchData.create(this.rows);
+    }
+
+    /**
+     * Filter by the {@link FieldValue} of each row, as the planner did before the kernels.
+     *
+     * @return amount of rows selected.
+     */
+    @Benchmark
+    public int rowAtATime() {
+        int count = 0;
+        for (final List<FieldValue> row : this.data) {
+            final FieldValue id = row.get(BatchData.INTEGER_COLUMN);
+            final FieldValue value = row.get(BatchData.DOUBLE_COLUMN);
+            if (!id.isNull() && (Double.parseDouble(id.getValue().toString()) > 500_000D)
+                    && (Double.parseDouble(value.getValue().toString()) < 250D)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Filter with the kernels, batch by batch.
+     *
+     * @return amount of rows selected.
+     */
+    @Benchmark
+    public int kernels() {
+        final boolean[] result = new boolean[RowBatch.SIZE];
+        final boolean[] mask = new boolean[RowBatch.SIZE];
+        final int[] selection = new int[RowBatch.SIZE];
+        int count = 0;
+        for (final RowBatch batch : this.data.getBatches()) {
+            final int size = batch.size();
+            final ColumnVector id = batch.getVector(BatchData.INTEGER_COLUMN);
+            FilterKernels.compare(Comparison.GREATER_THAN, id.getLongs(), size, 500_000L, result);
+            FilterKernels.clearNulls(result, id.getValidity(), size);
+            final ColumnVector value = batch.getVector(BatchData.DOUBLE_COLUMN);
+            FilterKernels.compare(Comparison.LESS_THAN, value.getLongs(), size, 250D, mask);
+            FilterKernels.and(result, mask, size);
+            count += FilterKernels.select(result, size, selection);
+        }
+        return count;
+    }
+}
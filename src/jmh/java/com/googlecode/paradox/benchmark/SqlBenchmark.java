@@ -0,0 +1,137 @@
+/*
+ * SqlBenchmark.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.benchmark;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.parser.SQLParser;
+import com.googlecode.paradox.parser.nodes.StatementNode;
+import com.googlecode.paradox.planner.Planner;
+import com.googlecode.paradox.planner.plan.Plan;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The SQL path by stage: parse (scanner and parser), plan and the full query round trip.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class SqlBenchmark {
+
+    /**
+     * The query: all columns, a projection and a filter.
+     */
+    @Param({ "select * from areacodes", "select ac, state from areacodes a",
+            "select ac from areacodes where state = 'NY' and ac > 500 or ac = 212" })
+    private String sql;
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * The parsed statement.
+     */
+    private StatementNode statement;
+
+    /**
+     * The statement used in the round trips.
+     */
+    private Statement stmt;
+
+    /**
+     * Connects to the test database.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Setup
+    public void setup() throws SQLException {
+        this.conn = Databases.connect("db");
+        this.stmt = this.conn.createStatement();
+        this.statement = new SQLParser(this.sql).parse().get(0);
+    }
+
+    /**
+     * Closes the connection.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        this.stmt.close();
+        this.conn.close();
+    }
+
+    /**
+     * Scan and parse the query.
+     *
+     * @return the statements.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Benchmark
+    public List<StatementNode> parse() throws SQLException {
+        return new SQLParser(this.sql).parse();
+    }
+
+    /**
+     * Plan the parsed query, loading the table metadata.
+     *
+     * @return the plan.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Benchmark
+    public Plan plan() throws SQLException {
+        return new Planner(this.conn).create(this.statement);
+    }
+
+    /**
+     * Execute the query and read all rows.
+     *
+     * @return amount of rows.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Benchmark
+    public int executeQuery() throws SQLException {
+        int count = 0;
+        try (ResultSet rs = this.stmt.executeQuery(this.sql)) {
+            while (rs.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * TableBenchmark.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.benchmark;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.RowVisitor;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.TableRow;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link TableData#loadData} and {@link TableData#scan} on a small and on a large test table.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class TableBenchmark {
+
+    /**
+     * The test table, as database and table name: a small table and a table with 3218 rows in 23 blocks.
+     */
+    @Param({ "db/areacodes.db", "geog/County.db" })
+    private String name;
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * The table to read.
+     */
+    private ParadoxTable table;
+
+    /**
+     * Opens the table.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Setup
+    public void setup() throws SQLException {
+        final int separator = this.name.indexOf('/');
+        this.conn = Databases.connect(this.name.substring(0, separator));
+        this.table = TableData.listTables(this.conn, this.name.substring(separator + 1)).get(0);
+    }
+
+    /**
+     * Closes the connection.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        this.conn.close();
+    }
+
+    /**
+     * Load all rows and columns.
+     *
+     * @return the rows.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Benchmark
+    public List<List<FieldValue>> loadData() throws SQLException {
+        return TableData.loadData(this.table, this.table.getFields());
+    }
+
+    /**
+     * Scan all rows reading the first column.
+     *
+     * @return the amount of not NULL values.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Benchmark
+    public int scan() throws SQLException {
+        final int[] count = new int[1];
+        this.table.scan(new RowVisitor() {
+            @Override
+            public boolean visit(final TableRow row) throws SQLException {
+                if (!row.isNull(0)) {
+                    count[0]++;
+                }
+                return true;
+            }
+        });
+        return count[0];
+    }
+}
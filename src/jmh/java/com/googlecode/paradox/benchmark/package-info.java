@@ -0,0 +1,6 @@
+/**
+ * Micro benchmarks, run with the benchmark profile.
+ *
+ * @since 1.4.0
+ */
+package com.googlecode.paradox.benchmark;
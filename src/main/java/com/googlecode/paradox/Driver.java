@@ -8,6 +8,7 @@
  */
 package com.googlecode.paradox;
 
+import com.googlecode.paradox.management.ParadoxMetrics;
 import com.googlecode.paradox.utils.Constants;
 import java.io.File;
 import java.sql.Connection;
@@ -20,9 +21,11 @@ import java.util.logging.Logger;
 
 /**
  * PARADOX JDBC Driver type 4.
+ * <p>
+ * The driver metrics are registered as the MBean <code>com.googlecode.paradox:type=Driver</code>.
  *
  * @author Leonardo Alves da Costa
- * @version 2.2
+ * @version 2.5
  * @since 1.0
  */
 public final class Driver implements IParadoxDriver {
@@ -38,6 +41,7 @@ public final class Driver implements IParadoxDriver {
             // Register The Paradox Driver
             final Driver driverInst = new Driver();
             DriverManager.registerDriver(driverInst);
+            ParadoxMetrics.register(ParadoxMetrics.getDriverMetrics(), "type=Driver");
         } catch (final SQLException e) {
             Driver.LOGGER.log(Level.SEVERE, e.getMessage(), e);
         }
@@ -58,7 +62,7 @@ public final class Driver implements IParadoxDriver {
     public Connection connect(final String url, final Properties info) throws SQLException {
         if (this.acceptsURL(url)) {
             final String dirName = url.substring(Constants.URL_PREFIX.length(), url.length());
-            return new ParadoxConnection(new File(dirName), url);
+            return new ParadoxConnection(new File(dirName), url, (info == null) ? new Properties() : info);
         }
         return null;
     }
@@ -100,7 +104,24 @@ public final class Driver implements IParadoxDriver {
         passwordProp.required = false;
         passwordProp.description = "Password to use for authentication";
 
-        return new DriverPropertyInfo[] { dbProp, passwordProp };
+        final DriverPropertyInfo prefetchProp = new DriverPropertyInfo(Constants.PROPERTY_PREFETCH,
+                info.getProperty(Constants.PROPERTY_PREFETCH));
+        prefetchProp.required = false;
+        prefetchProp.description = "Blocks read ahead in table scans, 0 to disable (default "
+                + Constants.DEFAULT_PREFETCH_DEPTH + ")";
+
+        final DriverPropertyInfo slowQueryProp = new DriverPropertyInfo(Constants.PROPERTY_SLOW_QUERY,
+                info.getProperty(Constants.PROPERTY_SLOW_QUERY));
+        slowQueryProp.required = false;
+        slowQueryProp.description = "Milliseconds from which a statement is logged in " + Constants.SLOW_QUERY_LOGGER
+                + ", 0 to disable (default 0)";
+
+        final DriverPropertyInfo memoryProp = new DriverPropertyInfo(Constants.PROPERTY_MAX_QUERY_MEMORY,
+                info.getProperty(Constants.PROPERTY_MAX_QUERY_MEMORY));
+        memoryProp.required = false;
+        memoryProp.description = "Max kilobytes of rows held by a statement, 0 for no limit (default 0)";
+
+        return new DriverPropertyInfo[] { dbProp, passwordProp, prefetchProp, slowQueryProp, memoryProp };
     }
 
     /**
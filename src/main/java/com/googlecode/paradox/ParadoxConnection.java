@@ -8,7 +8,10 @@
  */
 package com.googlecode.paradox;
 
+import com.googlecode.paradox.io.ChannelPool;
+import com.googlecode.paradox.management.ParadoxMetrics;
 import com.googlecode.paradox.metadata.ParadoxDatabaseMetaData;
+import com.googlecode.paradox.utils.Constants;
 import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.Utils;
 import java.io.File;
@@ -32,16 +35,28 @@ import java.util.ArrayList;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.ObjectName;
 
 /**
  * JDBC Paradox connection implementation.
+ * <p>
+ * The connection metrics are registered as a MBean named
+ * <code>com.googlecode.paradox:type=Connection,catalog=&lt;catalog&gt;,id=&lt;n&gt;</code> until the connection is
+ * closed.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.3
  * @since 1.0
  */
 public final class ParadoxConnection implements Connection {
 
+    /**
+     * Sequence of the connection MBean IDs.
+     */
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
     /**
      * Auto Commit flag.
      */
@@ -66,10 +81,26 @@ public final class ParadoxConnection implements Connection {
      * This connection holdability.
      */
     private int holdability = ResultSet.CLOSE_CURSORS_AT_COMMIT;
+    /**
+     * The registered metrics MBean name, if any.
+     */
+    private final ObjectName mbeanName;
+    /**
+     * Max memory in bytes held by the rows of a statement execution, zero for no limit.
+     */
+    private final long maxQueryMemory;
+    /**
+     * The connection metrics.
+     */
+    private final ParadoxMetrics metrics = new ParadoxMetrics(ParadoxMetrics.getDriverMetrics());
     /**
      * Default timeout.
      */
     private int networkTimeout;
+    /**
+     * Amount of blocks read ahead in table scans.
+     */
+    private final int prefetchDepth;
     /**
      * If this connection is read only.
      */
@@ -78,6 +109,10 @@ public final class ParadoxConnection implements Connection {
      * Selected Schema.
      */
     private String schema = "APP";
+    /**
+     * Time in nanoseconds from which a statement is logged as slow, zero if disabled.
+     */
+    private final long slowQueryNanos;
     /**
      * Stores the opened statements.
      */
@@ -106,13 +141,36 @@ public final class ParadoxConnection implements Connection {
      *             in any connection fault.
      */
     public ParadoxConnection(final File dir, final String url) throws SQLException {
+        this(dir, url, new Properties());
+    }
+
+    /**
+     * Creates a new paradox connection with connection properties.
+     *
+     * @param dir
+     *            database directory.
+     * @param url
+     *            connect URL.
+     * @param info
+     *            connection properties.
+     * @throws SQLException
+     *             in any connection fault.
+     */
+    public ParadoxConnection(final File dir, final String url, final Properties info) throws SQLException {
         this.url = url;
         this.dir = dir;
+        this.prefetchDepth = ParadoxConnection.parseInt(info, Constants.PROPERTY_PREFETCH,
+                Constants.DEFAULT_PREFETCH_DEPTH);
+        this.maxQueryMemory = ParadoxConnection.parseInt(info, Constants.PROPERTY_MAX_QUERY_MEMORY, 0) * 1024L;
+        this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(ParadoxConnection.parseInt(info,
+                Constants.PROPERTY_SLOW_QUERY, 0));
 
         if (!dir.exists() && !dir.isDirectory()) {
             throw new SQLException("Directory not found.", SQLStates.DIR_NOT_FOUND.getValue());
         }
         this.catalog = dir.getName();
+        this.mbeanName = ParadoxMetrics.register(this.metrics, "type=Connection,catalog="
+                + ObjectName.quote(this.catalog) + ",id=" + ParadoxConnection.SEQUENCE.incrementAndGet());
     }
 
     /**
@@ -140,6 +198,10 @@ public final class ParadoxConnection implements Connection {
             stmt.close();
         }
         this.statements.clear();
+        ChannelPool.getInstance().closeIdle(this.dir);
+        if (!this.closed) {
+            ParadoxMetrics.unregister(this.mbeanName);
+        }
         this.closed = true;
     }
 
@@ -283,6 +345,24 @@ public final class ParadoxConnection implements Connection {
         return new ParadoxDatabaseMetaData(this);
     }
 
+    /**
+     * Gets the max memory held by the rows of a statement execution.
+     *
+     * @return the max memory in bytes. Zero for no limit.
+     */
+    public long getMaxQueryMemory() {
+        return this.maxQueryMemory;
+    }
+
+    /**
+     * Gets the connection metrics.
+     *
+     * @return the connection metrics.
+     */
+    public ParadoxMetrics getMetrics() {
+        return this.metrics;
+    }
+
     /**
      * {@inheritDoc}.
      */
@@ -291,6 +371,15 @@ public final class ParadoxConnection implements Connection {
         return this.networkTimeout;
     }
 
+    /**
+     * Gets the amount of blocks read ahead in table scans.
+     *
+     * @return the amount of blocks read ahead. Zero disables the read ahead.
+     */
+    public int getPrefetchDepth() {
+        return this.prefetchDepth;
+    }
+
     /**
      * {@inheritDoc}.
      */
@@ -299,6 +388,15 @@ public final class ParadoxConnection implements Connection {
         return this.schema;
     }
 
+    /**
+     * Gets the time from which a statement is logged as slow.
+     *
+     * @return the time in nanoseconds from which a statement is logged as slow. Zero disables the log.
+     */
+    public long getSlowQueryNanos() {
+        return this.slowQueryNanos;
+    }
+
     /**
      * {@inheritDoc}.
      */
@@ -581,4 +679,36 @@ public final class ParadoxConnection implements Connection {
     public <T> T unwrap(final Class<T> iFace) throws SQLException {
         return Utils.unwrap(this, iFace);
     }
+
+    /**
+     * Parses a non negative integer connection property.
+     *
+     * @param info
+     *            connection properties.
+     * @param name
+     *            the property name.
+     * @param defaultValue
+     *            the value when the property is not set.
+     * @return the property value.
+     * @throws SQLException
+     *             if the value is invalid.
+     */
+    private static int parseInt(final Properties info, final String name, final int defaultValue)
+            throws SQLException {
+        final String value = info.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            final int ret = Integer.parseInt(value.trim());
+            if (ret >= 0) {
+                return ret;
+            }
+        } catch (final NumberFormatException e) {
+            throw new SQLException("Invalid value for property '" + name + "': " + value,
+                    SQLStates.INVALID_PARAMETER.getValue(), e);
+        }
+        throw new SQLException("Invalid value for property '" + name + "': " + value,
+                SQLStates.INVALID_PARAMETER.getValue());
+    }
 }
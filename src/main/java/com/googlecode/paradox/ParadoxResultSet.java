@@ -10,11 +10,14 @@ package com.googlecode.paradox;
 
 import com.googlecode.paradox.data.table.value.ClobDescriptor;
 import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.data.table.value.Row;
 import com.googlecode.paradox.metadata.ParadoxResultSetMetaData;
 import com.googlecode.paradox.results.Column;
 import com.googlecode.paradox.rowset.ParadoxClob;
+import com.googlecode.paradox.utils.DecimalUtils;
 import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.Utils;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
@@ -37,6 +40,7 @@ import java.sql.SQLXML;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.HashMap;
@@ -47,7 +51,7 @@ import java.util.Map;
  * JDBC ResultSet implementation.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.3
  * @since 1.0
  */
 public final class ParadoxResultSet implements ResultSet {
@@ -80,6 +84,10 @@ public final class ParadoxResultSet implements ResultSet {
      * The amount of rows fetched.
      */
     private int fetchSize = ParadoxResultSet.FETCH_SIZE;
+    /**
+     * If the last value read from primitive slots was NULL.
+     */
+    private boolean lastNull;
     /**
      * Last got value.
      */
@@ -260,7 +268,37 @@ public final class ParadoxResultSet implements ResultSet {
      */
     @Override
     public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
-        throw new SQLFeatureNotSupportedException();
+        this.verifyRow();
+
+        final List<FieldValue> row = this.values.get(this.position);
+        if (columnIndex > row.size()) {
+            throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
+        }
+        if (row instanceof Row) {
+            final Row cells = (Row) row;
+            final int type = cells.getType(columnIndex - 1);
+            if ((type == Types.INTEGER) || (type == Types.BIGINT) || (type == Types.DOUBLE)) {
+                this.lastValue = null;
+                this.lastNull = cells.isNull(columnIndex - 1);
+                if (this.lastNull) {
+                    return null;
+                } else if (type == Types.DOUBLE) {
+                    return ParadoxResultSet.toBigDecimal(cells.getDouble(columnIndex - 1));
+                }
+                return BigDecimal.valueOf(cells.getLong(columnIndex - 1));
+            }
+        }
+        this.lastValue = row.get(columnIndex - 1);
+        if (this.lastValue.isNull()) {
+            return null;
+        }
+        final Number value = this.lastValue.getNumber();
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof Double) {
+            return ParadoxResultSet.toBigDecimal(value.doubleValue());
+        }
+        return BigDecimal.valueOf(value.longValue());
     }
 
     /**
@@ -274,6 +312,9 @@ public final class ParadoxResultSet implements ResultSet {
         this.verifyRow();
 
         final BigDecimal value = this.getBigDecimal(columnIndex);
+        if (value == null) {
+            return null;
+        }
         return value.setScale(scale, RoundingMode.HALF_DOWN);
     }
 
@@ -300,8 +341,13 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public InputStream getBinaryStream(final int columnIndex) {
-        return null;
+    public InputStream getBinaryStream(final int columnIndex) throws SQLException {
+        final byte[] value = this.getBinary(columnIndex);
+        if (value == null) {
+            return null;
+        }
+        // Read only view, without copy.
+        return new ByteArrayInputStream(value);
     }
 
     /**
@@ -339,6 +385,12 @@ public final class ParadoxResultSet implements ResultSet {
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
+        if (row instanceof Row) {
+            final Row cells = (Row) row;
+            this.lastValue = null;
+            this.lastNull = cells.isNull(columnIndex - 1);
+            return !this.lastNull && cells.getBoolean(columnIndex - 1);
+        }
         this.lastValue = row.get(columnIndex - 1);
         if (!this.lastValue.isNull()) {
             return this.lastValue.getBoolean();
@@ -365,6 +417,15 @@ public final class ParadoxResultSet implements ResultSet {
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
+        if (row instanceof Row) {
+            final Row cells = (Row) row;
+            this.lastValue = null;
+            this.lastNull = cells.isNull(columnIndex - 1);
+            if (this.lastNull) {
+                return 0;
+            }
+            return (byte) cells.getInt(columnIndex - 1);
+        }
         this.lastValue = row.get(columnIndex - 1);
         if (this.lastValue.isNull()) {
             return (byte) 0;
@@ -385,7 +446,11 @@ public final class ParadoxResultSet implements ResultSet {
      */
     @Override
     public byte[] getBytes(final int columnIndex) throws SQLException {
-        throw new SQLFeatureNotSupportedException();
+        final byte[] value = this.getBinary(columnIndex);
+        if (value == null) {
+            return null;
+        }
+        return value.clone();
     }
 
     /**
@@ -513,6 +578,15 @@ public final class ParadoxResultSet implements ResultSet {
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
+        if (row instanceof Row) {
+            final Row cells = (Row) row;
+            this.lastValue = null;
+            this.lastNull = cells.isNull(columnIndex - 1);
+            if (this.lastNull) {
+                return 0D;
+            }
+            return cells.getDouble(columnIndex - 1);
+        }
         this.lastValue = row.get(columnIndex - 1);
         if (this.lastValue.isNull()) {
             return 0D;
@@ -589,6 +663,15 @@ public final class ParadoxResultSet implements ResultSet {
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
+        if (row instanceof Row) {
+            final Row cells = (Row) row;
+            this.lastValue = null;
+            this.lastNull = cells.isNull(columnIndex - 1);
+            if (this.lastNull) {
+                return 0;
+            }
+            return cells.getInt(columnIndex - 1);
+        }
         this.lastValue = row.get(columnIndex - 1);
         if (this.lastValue.isNull()) {
             return 0;
@@ -615,6 +698,15 @@ public final class ParadoxResultSet implements ResultSet {
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
+        if (row instanceof Row) {
+            final Row cells = (Row) row;
+            this.lastValue = null;
+            this.lastNull = cells.isNull(columnIndex - 1);
+            if (this.lastNull) {
+                return 0L;
+            }
+            return cells.getLong(columnIndex - 1);
+        }
         this.lastValue = row.get(columnIndex - 1);
         if (this.lastValue.isNull()) {
             return 0L;
@@ -792,6 +884,15 @@ public final class ParadoxResultSet implements ResultSet {
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
+        if (row instanceof Row) {
+            final Row cells = (Row) row;
+            this.lastValue = null;
+            this.lastNull = cells.isNull(columnIndex - 1);
+            if (this.lastNull) {
+                return 0;
+            }
+            return (short) cells.getInt(columnIndex - 1);
+        }
         this.lastValue = row.get(columnIndex - 1);
         if (this.lastValue.isNull()) {
             return (short) 0;
@@ -1850,6 +1951,10 @@ public final class ParadoxResultSet implements ResultSet {
         if (this.closed) {
             throw new SQLException("Closed result set.", SQLStates.RESULTSET_CLOSED.getValue());
         }
+        if (this.lastValue == null) {
+            // Values read from primitive slots.
+            return this.lastNull;
+        }
         return this.lastValue.isNull();
     }
 
@@ -1862,6 +1967,49 @@ public final class ParadoxResultSet implements ResultSet {
         }
     }
 
+    /**
+     * Gets a binary value, not copied.
+     *
+     * @param columnIndex
+     *            the column index.
+     * @return the binary value or null if NULL.
+     * @throws SQLException
+     *             if this is not a binary value.
+     */
+    private byte[] getBinary(final int columnIndex) throws SQLException {
+        this.verifyRow();
+
+        final List<FieldValue> row = this.values.get(this.position);
+        if (columnIndex > row.size()) {
+            throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
+        }
+        this.lastValue = row.get(columnIndex - 1);
+        if (this.lastValue.isNull()) {
+            return null;
+        }
+        if (this.lastValue.getType() != Types.BINARY) {
+            throw new SQLDataException("Invalid field type.", SQLStates.INVALID_FIELD_VALUE.getValue());
+        }
+        return (byte[]) this.lastValue.getValue();
+    }
+
+    /**
+     * Converts a floating point value to decimal, without text formatting.
+     *
+     * @param value
+     *            the value.
+     * @return the decimal value.
+     * @throws SQLDataException
+     *             if the value is infinite or NaN.
+     */
+    private static BigDecimal toBigDecimal(final double value) throws SQLDataException {
+        try {
+            return DecimalUtils.toBigDecimal(value);
+        } catch (final NumberFormatException e) {
+            throw new SQLDataException(e.getMessage(), SQLStates.INVALID_FIELD_VALUE.getValue(), e);
+        }
+    }
+
     private boolean hasNext() {
         return (this.values != null) && (this.position < this.values.size());
     }
@@ -9,12 +9,21 @@
 package com.googlecode.paradox;
 
 import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.data.ScanContext;
+import com.googlecode.paradox.management.DriverEvents;
+import com.googlecode.paradox.management.ParadoxMetrics;
+import com.googlecode.paradox.management.QueryPhase;
+import com.googlecode.paradox.management.QueryStatistics;
+import com.googlecode.paradox.management.StatementStatistics;
 import com.googlecode.paradox.parser.SQLParser;
+import com.googlecode.paradox.parser.nodes.ExplainNode;
 import com.googlecode.paradox.parser.nodes.SelectNode;
 import com.googlecode.paradox.parser.nodes.StatementNode;
 import com.googlecode.paradox.planner.Planner;
+import com.googlecode.paradox.planner.plan.PlanNode;
 import com.googlecode.paradox.planner.plan.SelectPlan;
 import com.googlecode.paradox.results.Column;
+import com.googlecode.paradox.utils.Constants;
 import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.Utils;
 import java.sql.Connection;
@@ -25,15 +34,23 @@ import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * JDBC statement implementation.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.5
  * @since 1.0
  */
-final class ParadoxStatement implements Statement {
+final class ParadoxStatement implements Statement, StatementStatistics {
+    
+    /**
+     * The slow statements logger.
+     */
+    private static final Logger SLOW_QUERY_LOGGER = Logger.getLogger(Constants.SLOW_QUERY_LOGGER);
     
     /**
      * If this statement is closed.
@@ -45,6 +62,11 @@ final class ParadoxStatement implements Statement {
      */
     private final ParadoxConnection conn;
     
+    /**
+     * The table scan state of the running execution.
+     */
+    private volatile ScanContext context;
+    
     /**
      * The cursor name.
      */
@@ -70,6 +92,16 @@ final class ParadoxStatement implements Statement {
      */
     private int maxRows;
     
+    /**
+     * The last plan of the running execution.
+     */
+    private SelectPlan plan;
+    
+    /**
+     * The metrics of the running execution.
+     */
+    private ParadoxMetrics metrics;
+    
     /**
      * If this statement is poolable.
      */
@@ -78,13 +110,18 @@ final class ParadoxStatement implements Statement {
     /**
      * The query timeout.
      */
-    private int queryTimeout = 20;
+    private int queryTimeout;
     
     /**
      * The result set associated with this statement.
      */
     private ParadoxResultSet rs;
     
+    /**
+     * The statistics of the last execution.
+     */
+    private QueryStatistics statistics;
+    
     /**
      * Creates a statement.
      *
@@ -108,7 +145,10 @@ final class ParadoxStatement implements Statement {
      */
     @Override
     public void cancel() {
-        throw new UnsupportedOperationException();
+        final ScanContext running = this.context;
+        if (running != null) {
+            running.cancel();
+        }
     }
     
     /**
@@ -154,16 +194,23 @@ final class ParadoxStatement implements Statement {
         if ((this.rs != null) && !this.rs.isClosed()) {
             this.rs.close();
         }
-        boolean select = false;
-        final SQLParser parser = new SQLParser(sql);
-        final List<StatementNode> statements = parser.parse();
-        for (final StatementNode statement : statements) {
-            if (statement instanceof SelectNode) {
-                this.executeSelect((SelectNode) statement);
-                select = true;
+        this.startExecution();
+        try {
+            boolean select = false;
+            final List<StatementNode> statements = this.parse(sql);
+            for (final StatementNode statement : statements) {
+                if (statement instanceof SelectNode) {
+                    this.executeSelect((SelectNode) statement, sql);
+                    select = true;
+                } else if (statement instanceof ExplainNode) {
+                    this.executeExplain((ExplainNode) statement, sql);
+                    select = true;
+                }
             }
+            return select;
+        } finally {
+            this.endExecution(sql);
         }
-        return select;
     }
     
     /**
@@ -206,17 +253,26 @@ final class ParadoxStatement implements Statement {
         if ((this.rs != null) && !this.rs.isClosed()) {
             this.rs.close();
         }
-        final SQLParser parser = new SQLParser(sql);
-        final List<StatementNode> statementList = parser.parse();
-        if (statementList.size() > 1) {
-            throw new SQLFeatureNotSupportedException("Unsupported operation.", SQLStates.INVALID_SQL.getValue());
-        }
-        final StatementNode node = statementList.get(0);
-        if (!(node instanceof SelectNode)) {
-            throw new SQLFeatureNotSupportedException("Not a SELECT statement.", SQLStates.INVALID_SQL.getValue());
+        this.startExecution();
+        try {
+            final List<StatementNode> statementList = this.parse(sql);
+            if (statementList.size() > 1) {
+                throw new SQLFeatureNotSupportedException("Unsupported operation.",
+                        SQLStates.INVALID_SQL.getValue());
+            }
+            final StatementNode node = statementList.get(0);
+            if (node instanceof ExplainNode) {
+                this.executeExplain((ExplainNode) node, sql);
+            } else if (node instanceof SelectNode) {
+                this.executeSelect((SelectNode) node, sql);
+            } else {
+                throw new SQLFeatureNotSupportedException("Not a SELECT statement.",
+                        SQLStates.INVALID_SQL.getValue());
+            }
+            return this.rs;
+        } finally {
+            this.endExecution(sql);
         }
-        this.executeSelect((SelectNode) node);
-        return this.rs;
     }
     
     /**
@@ -355,6 +411,14 @@ final class ParadoxStatement implements Statement {
         return ResultSet.TYPE_FORWARD_ONLY;
     }
     
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public QueryStatistics getStatistics() {
+        return this.statistics;
+    }
+    
     /**
      * {@inheritDoc}.
      */
@@ -400,7 +464,7 @@ final class ParadoxStatement implements Statement {
      */
     @Override
     public boolean isWrapperFor(final Class<?> iFace) {
-        return Utils.isWrapperFor(this, iFace);
+        return (iFace == StatementStatistics.class) || Utils.isWrapperFor(this, iFace);
     }
     
     /**
@@ -470,7 +534,10 @@ final class ParadoxStatement implements Statement {
      * {@inheritDoc}.
      */
     @Override
-    public void setQueryTimeout(final int seconds) {
+    public void setQueryTimeout(final int seconds) throws SQLException {
+        if (seconds < 0) {
+            throw new SQLException("Invalid query timeout: " + seconds, SQLStates.INVALID_PARAMETER.getValue());
+        }
         this.queryTimeout = seconds;
     }
     
@@ -482,13 +549,92 @@ final class ParadoxStatement implements Statement {
         return Utils.unwrap(this, iFace);
     }
     
-    private void executeSelect(final SelectNode node) throws SQLException {
-        final Planner planner = new Planner(this.conn);
-        final SelectPlan plan = (SelectPlan) planner.create(node);
-        plan.execute();
+    private void executeExplain(final ExplainNode node, final String sql) throws SQLException {
+        final SelectPlan plan = this.createPlan(node.getSelect(), sql);
+        final List<PlanNode> nodes;
+        final Object event = DriverEvents.beginPhase(QueryPhase.EXECUTE, sql);
+        try {
+            nodes = plan.explain(node.isAnalyze());
+        } finally {
+            DriverEvents.endPhase(event);
+        }
+        this.rs = new ParadoxResultSet(this.conn, this, PlanNode.toRows(nodes), PlanNode.getColumns());
+    }
+    
+    private SelectPlan createPlan(final SelectNode node, final String sql) throws SQLException {
+        final Object event = DriverEvents.beginPhase(QueryPhase.PLAN, sql);
+        try {
+            this.plan = (SelectPlan) new Planner(this.conn, this.context).create(node);
+            return this.plan;
+        } finally {
+            DriverEvents.endPhase(event);
+        }
+    }
+    
+    /**
+     * Creates the state of a new execution, starting its timeout.
+     */
+    private void startExecution() {
+        this.metrics = new ParadoxMetrics(this.conn.getMetrics());
+        this.plan = null;
+        final ScanContext running = new ScanContext(this.conn.getPrefetchDepth(), this.metrics);
+        running.setMemoryLimit(this.conn.getMaxQueryMemory());
+        running.setTimeout(this.queryTimeout);
+        this.context = running;
+    }
+    
+    /**
+     * Stores the execution statistics and logs the slow statements.
+     *
+     * @param sql
+     *            the SQL statement.
+     */
+    private void endExecution(final String sql) {
+        this.statistics = new QueryStatistics(this.metrics, this.context.getMemoryUsed());
+        final long threshold = this.conn.getSlowQueryNanos();
+        if ((threshold > 0) && (this.statistics.getTotalNanos() >= threshold)
+                && ParadoxStatement.SLOW_QUERY_LOGGER.isLoggable(Level.WARNING)) {
+            String planText = "not planned";
+            if (this.plan != null) {
+                try {
+                    planText = PlanNode.toText(this.plan.explain(false));
+                } catch (final SQLException e) {
+                    planText = e.getMessage();
+                }
+            }
+            ParadoxStatement.SLOW_QUERY_LOGGER.log(Level.WARNING, "Slow statement ({0} ms): {1}\nPlan:\n{2}\n{3}",
+                    new Object[] { TimeUnit.NANOSECONDS.toMillis(this.statistics.getTotalNanos()), sql, planText,
+                        this.statistics });
+        }
+    }
+    
+    private void executeSelect(final SelectNode node, final String sql) throws SQLException {
+        final long start = System.nanoTime();
+        final SelectPlan plan = this.createPlan(node, sql);
+        final long planned = System.nanoTime();
+        final Object event = DriverEvents.beginPhase(QueryPhase.EXECUTE, sql);
+        try {
+            plan.execute();
+        } finally {
+            DriverEvents.endPhase(event);
+        }
+        this.metrics.addQuery(planned - start, System.nanoTime() - planned, plan.getValues().size());
         this.rs = new ParadoxResultSet(this.conn, this, plan.getValues(), plan.getColumns());
     }
     
+    private List<StatementNode> parse(final String sql) throws SQLException {
+        final long start = System.nanoTime();
+        final Object event = DriverEvents.beginPhase(QueryPhase.PARSE, sql);
+        final List<StatementNode> statements;
+        try {
+            statements = new SQLParser(sql).parse();
+        } finally {
+            DriverEvents.endPhase(event);
+        }
+        this.metrics.addParse(System.nanoTime() - start);
+        return statements;
+    }
+    
     /**
      * Gets the cursor name.
      *
@@ -0,0 +1,334 @@
+/*
+ * BlockDecoder.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.BatchList;
+import com.googlecode.paradox.data.table.value.RowBatch;
+import com.googlecode.paradox.io.BlockReader;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Decodes a block chain in parallel.
+ * <p>
+ * The chain is split in a few large ranges, about one by pool thread, and every range is decoded with its own reader
+ * into its own batches. The ranges are joined in chain order, so the result keeps the table order, and the last batch
+ * of each range is compacted to its rows.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.9
+ * @since 1.4.0
+ */
+final class BlockDecoder extends RecursiveAction {
+
+    /**
+     * Minimum blocks in chain to use the parallel decoding.
+     */
+    static final int PARALLEL_THRESHOLD = 16;
+
+    /**
+     * Min blocks decoded by a single task.
+     */
+    private static final int MIN_SEGMENT_SIZE = 8;
+
+    /**
+     * Pool shared by all decoders.
+     */
+    private static final ForkJoinPool POOL = new ForkJoinPool();
+
+    /**
+     * The serial version ID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The block chain.
+     */
+    private final int[] chain;
+
+    /**
+     * The table scan settings.
+     */
+    private final ScanContext context;
+
+    /**
+     * The first error found.
+     */
+    private final AtomicReference<SQLException> error;
+
+    /**
+     * The fields to read, in table order.
+     */
+    private final ParadoxField[] columns;
+
+    /**
+     * First chain position to decode.
+     */
+    private final int from;
+
+    /**
+     * The decoded rows by range.
+     */
+    private final BatchList[] results;
+
+    /**
+     * Max blocks decoded by a single task.
+     */
+    private final int segmentSize;
+
+    /**
+     * The table to read.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * Chain position after the last to decode.
+     */
+    private final int to;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param parent
+     *            the task being split.
+     * @param from
+     *            first chain position to decode.
+     * @param to
+     *            chain position after the last to decode.
+     */
+    private BlockDecoder(final BlockDecoder parent, final int from, final int to) {
+        this(parent.table, parent.columns, parent.chain, parent.results, parent.error, parent.context,
+                parent.segmentSize, from, to);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table
+     *            the table to read.
+     * @param columns
+     *            the fields to read, in table order.
+     * @param chain
+     *            the block chain.
+     * @param results
+     *            the decoded rows by range.
+     * @param error
+     *            the first error found.
+     * @param context
+     *            the table scan settings.
+     * @param segmentSize
+     *            max blocks decoded by a single task.
+     * @param from
+     *            first chain position to decode.
+     * @param to
+     *            chain position after the last to decode.
+     */
+    private BlockDecoder(final ParadoxTable table, final ParadoxField[] columns, final int[] chain,
+            final BatchList[] results, final AtomicReference<SQLException> error, final ScanContext context,
+            final int segmentSize, final int from, final int to) {
+        this.table = table;
+        this.columns = columns;
+        this.chain = chain;
+        this.results = results;
+        this.error = error;
+        this.context = context;
+        this.segmentSize = segmentSize;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Decode all blocks in chain.
+     *
+     * @param table
+     *            the table to read.
+     * @param columns
+     *            the fields to read, in table order.
+     * @param chain
+     *            the block chain.
+     * @param context
+     *            the table scan settings.
+     * @return the row values in chain order.
+     * @throws SQLException
+     *             in case of failures, if the execution is cancelled or exceeds its memory limit.
+     */
+    static BatchList decode(final ParadoxTable table, final ParadoxField[] columns, final int[] chain,
+            final ScanContext context) throws SQLException {
+        final AtomicReference<SQLException> error = new AtomicReference<>();
+        final int parallelism = BlockDecoder.POOL.getParallelism();
+        final int segmentSize = Math.max(BlockDecoder.MIN_SEGMENT_SIZE, (chain.length + parallelism - 1)
+                / parallelism);
+        final BatchList[] results = new BatchList[(chain.length + segmentSize - 1) / segmentSize];
+        BlockDecoder.POOL.invoke(new BlockDecoder(table, columns, chain, results, error, context, segmentSize, 0,
+                chain.length));
+        if (error.get() != null) {
+            throw error.get();
+        }
+
+        final BatchList ret = new BatchList(columns);
+        for (final BatchList rows : results) {
+            if ((rows != null) && !rows.isEmpty()) {
+                ret.append(rows);
+                if (context.isMemoryLimited()) {
+                    final List<RowBatch> batches = ret.getBatches();
+                    context.reserveMemory(batches.get(batches.size() - 1).estimateSize());
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Decode the rows of a block.
+     *
+     * @param table
+     *            the table to read.
+     * @param columns
+     *            the fields to read, in table order.
+     * @param buffer
+     *            the block data.
+     * @param rows
+     *            the batches to store the rows.
+     * @return the next block number.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    static int decodeBlock(final ParadoxTable table, final ParadoxField[] columns, final ByteBuffer buffer,
+            final BatchList rows) throws SQLException {
+        final int rowsInBlock = BlockDecoder.getRowCount(table, buffer);
+        final int nextBlock = BlockDecoder.readHeader(buffer);
+        for (int loop = 0; loop < rowsInBlock; loop++) {
+            TableData.readRow(table, columns, buffer, rows.appendRow());
+        }
+        return nextBlock;
+    }
+
+    /**
+     * Visit the rows of a block.
+     *
+     * @param table
+     *            the table to read.
+     * @param buffer
+     *            the block data.
+     * @param row
+     *            the reused row view.
+     * @param visitor
+     *            the row visitor.
+     * @return the next block number or -1 if the visitor stopped the scan.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    static int visitBlock(final ParadoxTable table, final ByteBuffer buffer, final TableRow row,
+            final RowVisitor visitor) throws SQLException {
+        final int rowsInBlock = BlockDecoder.getRowCount(table, buffer);
+        final int nextBlock = BlockDecoder.readHeader(buffer);
+        final int start = buffer.position();
+        for (int loop = 0; loop < rowsInBlock; loop++) {
+            row.reset(buffer, start + (loop * table.getRecordSize()));
+            if (!visitor.visit(row)) {
+                return -1;
+            }
+        }
+        return nextBlock;
+    }
+
+    /**
+     * Reads the block header, leaving the buffer in the first row in big endian order.
+     *
+     * @param buffer
+     *            the block data.
+     * @return the next block number.
+     */
+    private static int readHeader(final ByteBuffer buffer) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        final int nextBlock = buffer.getShort() & 0xFFFF;
+        // The block number and the rows size.
+        buffer.position(buffer.position() + 4);
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        return nextBlock;
+    }
+
+    /**
+     * Gets the amount of rows in block, without moving the buffer.
+     *
+     * @param table
+     *            the table to read.
+     * @param buffer
+     *            the block data, in the block header.
+     * @return the amount of rows in block.
+     */
+    private static int getRowCount(final ParadoxTable table, final ByteBuffer buffer) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        final int addDataSize = buffer.getShort(buffer.position() + 4) & 0xFFFF;
+        return (addDataSize / table.getRecordSize()) + 1;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected void compute() {
+        final int ranges = ((this.to - this.from) + this.segmentSize - 1) / this.segmentSize;
+        if (ranges > 1) {
+            // Split in range bounds.
+            final int middle = this.from + ((ranges >>> 1) * this.segmentSize);
+            ForkJoinTask.invokeAll(new BlockDecoder(this, this.from, middle), new BlockDecoder(this, middle, this.to));
+            return;
+        }
+
+        try (BlockReader reader = TableData.createReader(this.table, this.context)) {
+            final BatchList rows = new BatchList(this.columns);
+            int reserved = 0;
+            // Chain position after the current run of consecutive blocks.
+            int runEnd = this.from;
+            for (int loop = this.from; (loop < this.to) && (this.error.get() == null); loop++) {
+                this.context.checkCancelled();
+                if (loop == runEnd) {
+                    runEnd = loop + this.runLength(loop, reader.getMaxRun());
+                }
+                BlockDecoder.decodeBlock(this.table, this.columns, reader.read(this.chain[loop], runEnd - loop),
+                        rows);
+                reserved = TableData.reserveBatches(rows, reserved, false, this.context);
+            }
+            // The last batch is reserved when compacted.
+            this.results[this.from / this.segmentSize] = rows;
+        } catch (final IOException e) {
+            this.error.compareAndSet(null, new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e));
+        } catch (final SQLException e) {
+            this.error.compareAndSet(null, e);
+        }
+    }
+
+    /**
+     * Gets the amount of consecutive blocks in this task range.
+     *
+     * @param start
+     *            the first chain position.
+     * @param maxRun
+     *            the max blocks read at once.
+     * @return the amount of consecutive blocks, up to the max run.
+     */
+    private int runLength(final int start, final int maxRun) {
+        int run = 1;
+        while ((run < maxRun) && ((start + run) < this.to) && (this.chain[start + run] == (this.chain[start] + run))) {
+            run++;
+        }
+        return run;
+    }
+}
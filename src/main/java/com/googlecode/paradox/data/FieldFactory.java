@@ -9,8 +9,10 @@
 package com.googlecode.paradox.data;
 
 import com.googlecode.paradox.data.field.AutoIncrementField;
+import com.googlecode.paradox.data.field.BCDField;
 import com.googlecode.paradox.data.field.BlobField;
 import com.googlecode.paradox.data.field.BooleanField;
+import com.googlecode.paradox.data.field.BytesField;
 import com.googlecode.paradox.data.field.DateField;
 import com.googlecode.paradox.data.field.IntegerField;
 import com.googlecode.paradox.data.field.LongField;
@@ -32,7 +34,7 @@ import java.util.List;
  * Handles field parsers.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.2
  * @since 1.3
  */
 public final class FieldFactory {
@@ -45,8 +47,10 @@ public final class FieldFactory {
     // Initialize the parsers.
     static {
         FieldFactory.ALL_PARSES.add(new AutoIncrementField());
+        FieldFactory.ALL_PARSES.add(new BCDField());
         FieldFactory.ALL_PARSES.add(new BooleanField());
         FieldFactory.ALL_PARSES.add(new BlobField());
+        FieldFactory.ALL_PARSES.add(new BytesField());
         FieldFactory.ALL_PARSES.add(new DateField());
         FieldFactory.ALL_PARSES.add(new IntegerField());
         FieldFactory.ALL_PARSES.add(new LongField());
@@ -79,9 +83,43 @@ public final class FieldFactory {
      */
     public static FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field)
             throws SQLException {
+        return FieldFactory.getParser(field.getType()).parse(table, buffer, field);
+    }
+
+    /**
+     * Parses the field to a value sink.
+     *
+     * @param table
+     *            the paradox tables.
+     * @param buffer
+     *            the buffer to read of.
+     * @param field
+     *            the paradox field.
+     * @param sink
+     *            the sink to store the value.
+     * @param column
+     *            the column index in sink.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    public static void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ValueSink sink, final int column) throws SQLException {
+        FieldFactory.getParser(field.getType()).parse(table, buffer, field, sink, column);
+    }
+
+    /**
+     * Gets the parser of a field type.
+     *
+     * @param type
+     *            the Paradox field type.
+     * @return the field parser.
+     * @throws SQLException
+     *             if the type is not supported.
+     */
+    public static FieldParser getParser(final int type) throws SQLException {
         for (final FieldParser parser : FieldFactory.ALL_PARSES) {
-            if (parser.match(field.getType())) {
-                return parser.parse(table, buffer, field);
+            if (parser.match(type)) {
+                return parser;
             }
         }
         throw new SQLException("Field type unsupported.", SQLStates.TYPE_NOT_FOUND.getValue());
@@ -18,7 +18,7 @@ import java.sql.SQLException;
  * Parses a database field.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public interface FieldParser {
@@ -46,4 +46,24 @@ public interface FieldParser {
      *             in case of parse errors.
      */
     FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) throws SQLException;
+
+    /**
+     * Parses the field to a value sink, without boxing the fixed width values.
+     *
+     * @param table
+     *            the paradox tables.
+     * @param buffer
+     *            the buffer to read of.
+     * @param field
+     *            the paradox field.
+     * @param sink
+     *            the sink to store the value.
+     * @param column
+     *            the column index in sink.
+     * @throws SQLException
+     *             in case of parse errors.
+     * @since 1.4.0
+     */
+    void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field, final ValueSink sink,
+            final int column) throws SQLException;
 }
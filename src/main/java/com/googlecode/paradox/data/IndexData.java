@@ -9,16 +9,16 @@
 package com.googlecode.paradox.data;
 
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.io.ChannelPool;
+import com.googlecode.paradox.io.PooledChannel;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxIndex;
 import com.googlecode.paradox.utils.Utils;
 import com.googlecode.paradox.utils.filefilters.SecondaryIndexFilter;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.channels.FileChannel;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
@@ -27,7 +27,7 @@ import java.util.List;
  * Reads index data files.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public final class IndexData extends AbstractParadoxData {
@@ -86,19 +86,19 @@ public final class IndexData extends AbstractParadoxData {
 
         final ParadoxIndex index = new ParadoxIndex(file, file.getName());
 
-        try (final FileInputStream fs = new FileInputStream(file); FileChannel channel = fs.getChannel()) {
-            channel.read(buffer);
+        try (PooledChannel channel = ChannelPool.getInstance().acquire(file)) {
+            channel.read(buffer, 0);
             buffer.flip();
 
-            index.setRecordSize(buffer.getShort());
-            index.setHeaderSize(buffer.getShort());
+            index.setRecordSize(buffer.getShort() & 0xFFFF);
+            index.setHeaderSize(buffer.getShort() & 0xFFFF);
             index.setType(buffer.get());
             index.setBlockSize(buffer.get());
             index.setRowCount(buffer.getInt());
-            index.setUsedBlocks(buffer.getShort());
-            index.setTotalBlocks(buffer.getShort());
-            index.setFirstBlock(buffer.getShort());
-            index.setLastBlock(buffer.getShort());
+            index.setUsedBlocks(buffer.getShort() & 0xFFFF);
+            index.setTotalBlocks(buffer.getShort() & 0xFFFF);
+            index.setFirstBlock(buffer.getShort() & 0xFFFF);
+            index.setLastBlock(buffer.getShort() & 0xFFFF);
 
             buffer.position(0x21);
             index.setFieldCount(buffer.getShort());
@@ -110,7 +110,7 @@ public final class IndexData extends AbstractParadoxData {
 
             buffer.position(0x49);
             index.setAutoIncrementValue(buffer.getInt());
-            index.setFirstFreeBlock(buffer.getShort());
+            index.setFirstFreeBlock(buffer.getShort() & 0xFFFF);
 
             buffer.position(0x55);
             index.setReferentialIntegrity(buffer.get());
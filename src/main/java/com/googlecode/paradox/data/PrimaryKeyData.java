@@ -9,22 +9,22 @@
 package com.googlecode.paradox.data;
 
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.io.ChannelPool;
+import com.googlecode.paradox.io.PooledChannel;
 import com.googlecode.paradox.metadata.ParadoxPK;
 import com.googlecode.paradox.metadata.ParadoxTable;
 import com.googlecode.paradox.utils.filefilters.PrimaryKeyFilter;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.channels.FileChannel;
 import java.sql.SQLException;
 
 /**
  * Reads primary key data fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public final class PrimaryKeyData {
@@ -75,20 +75,20 @@ public final class PrimaryKeyData {
         buffer.order(ByteOrder.LITTLE_ENDIAN);
         final ParadoxPK pk = new ParadoxPK();
         
-        try (final FileInputStream fs = new FileInputStream(file); FileChannel channel = fs.getChannel()) {
-            channel.read(buffer);
+        try (PooledChannel channel = ChannelPool.getInstance().acquire(file)) {
+            channel.read(buffer, 0);
             buffer.flip();
             
             pk.setName(file.getName());
-            pk.setRecordSize(buffer.getShort());
-            pk.setHeaderSize(buffer.getShort());
+            pk.setRecordSize(buffer.getShort() & 0xFFFF);
+            pk.setHeaderSize(buffer.getShort() & 0xFFFF);
             pk.setType(buffer.get());
             pk.setBlockSize(buffer.get());
             pk.setRowCount(buffer.getInt());
-            pk.setUsedBlocks(buffer.getShort());
-            pk.setTotalBlocks(buffer.getShort());
-            pk.setFirstBlock(buffer.getShort());
-            pk.setLastBlock(buffer.getShort());
+            pk.setUsedBlocks(buffer.getShort() & 0xFFFF);
+            pk.setTotalBlocks(buffer.getShort() & 0xFFFF);
+            pk.setFirstBlock(buffer.getShort() & 0xFFFF);
+            pk.setLastBlock(buffer.getShort() & 0xFFFF);
             
             buffer.position(0x15);
             pk.setIndexFieldNumber(buffer.get());
@@ -0,0 +1,33 @@
+/*
+ * RowVisitor.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import java.sql.SQLException;
+
+/**
+ * Receives the rows of a table scan.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ * @see TableData#scan(com.googlecode.paradox.metadata.ParadoxTable, ScanContext, RowVisitor)
+ */
+public interface RowVisitor {
+
+    /**
+     * Visits a row.
+     *
+     * @param row
+     *            the row view. The same instance is used for all rows and it is valid only during this call.
+     * @return false to stop the scan.
+     * @throws SQLException
+     *             to stop the scan with an error.
+     */
+    boolean visit(TableRow row) throws SQLException;
+}
@@ -0,0 +1,244 @@
+/*
+ * ScanContext.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.management.ParadoxMetrics;
+import com.googlecode.paradox.utils.Constants;
+import com.googlecode.paradox.utils.SQLStates;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Settings and state of the table scans of a statement execution.
+ * <p>
+ * The scan counters are updated by the thread running the statement, at the end of each table read. The scans check
+ * for cancellation and timeout between blocks, so a stopped scan fails at the next block and releases its files.
+ * <p>
+ * The memory of the rows loaded by the execution is reserved in this context, by batch, and the execution fails when
+ * the memory limit is exceeded. The memory is an estimate and is never released while the execution runs.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.5
+ * @since 1.4.0
+ */
+public final class ScanContext {
+
+    /**
+     * Amount of blocks read by the scans.
+     */
+    private long blocksScanned;
+
+    /**
+     * If the execution was cancelled.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * The {@link System#nanoTime()} of the execution timeout.
+     */
+    private long deadline;
+
+    /**
+     * Max memory in bytes reserved by the execution, zero for no limit.
+     */
+    private long memoryLimit;
+
+    /**
+     * Memory in bytes reserved by the execution.
+     */
+    private final AtomicLong memoryUsed = new AtomicLong();
+
+    /**
+     * The metrics to add the reads to.
+     */
+    private final ParadoxMetrics metrics;
+
+    /**
+     * Amount of blocks read ahead.
+     */
+    private final int prefetchDepth;
+
+    /**
+     * Amount of rows read by the scans.
+     */
+    private long rowsScanned;
+
+    /**
+     * If the execution has a timeout.
+     */
+    private boolean timed;
+
+    /**
+     * Creates a context with the default settings.
+     */
+    public ScanContext() {
+        this(Constants.DEFAULT_PREFETCH_DEPTH);
+    }
+
+    /**
+     * Creates a context with the connection settings.
+     *
+     * @param conn
+     *            the Paradox connection.
+     */
+    public ScanContext(final ParadoxConnection conn) {
+        this(conn.getPrefetchDepth(), conn.getMetrics());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param prefetchDepth
+     *            amount of blocks read ahead. Zero disables the read ahead.
+     */
+    public ScanContext(final int prefetchDepth) {
+        this(prefetchDepth, ParadoxMetrics.getDriverMetrics());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param prefetchDepth
+     *            amount of blocks read ahead. Zero disables the read ahead.
+     * @param metrics
+     *            the metrics to add the reads to.
+     */
+    public ScanContext(final int prefetchDepth, final ParadoxMetrics metrics) {
+        this.prefetchDepth = prefetchDepth;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Adds a table read to the scan counters.
+     *
+     * @param blocks
+     *            amount of blocks read.
+     * @param rows
+     *            amount of rows read.
+     */
+    public void addScan(final long blocks, final long rows) {
+        this.blocksScanned += blocks;
+        this.rowsScanned += rows;
+    }
+
+    /**
+     * Cancels the execution. May be called by any thread.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Checks if the execution can continue.
+     *
+     * @throws SQLException
+     *             if the execution was cancelled or the timeout expired.
+     */
+    public void checkCancelled() throws SQLException {
+        if (this.cancelled) {
+            throw new SQLException("Statement cancelled.", SQLStates.STATEMENT_CANCELLED.getValue());
+        }
+        if (this.timed && ((System.nanoTime() - this.deadline) >= 0)) {
+            throw new SQLTimeoutException("Query timeout expired.", SQLStates.QUERY_TIMEOUT.getValue());
+        }
+    }
+
+    /**
+     * Gets the amount of blocks read by the scans.
+     *
+     * @return the amount of blocks read.
+     */
+    public long getBlocksScanned() {
+        return this.blocksScanned;
+    }
+
+    /**
+     * Gets the memory reserved by the execution.
+     *
+     * @return the memory in bytes reserved by the execution or zero without memory limit.
+     */
+    public long getMemoryUsed() {
+        return this.memoryUsed.get();
+    }
+
+    /**
+     * Gets the metrics to add the reads to.
+     *
+     * @return the metrics to add the reads to.
+     */
+    public ParadoxMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Gets the amount of blocks read ahead.
+     *
+     * @return the amount of blocks read ahead.
+     */
+    public int getPrefetchDepth() {
+        return this.prefetchDepth;
+    }
+
+    /**
+     * Gets the amount of rows read by the scans.
+     *
+     * @return the amount of rows read.
+     */
+    public long getRowsScanned() {
+        return this.rowsScanned;
+    }
+
+    /**
+     * Gets if the execution has a memory limit. Without limit the memory is not accounted.
+     *
+     * @return true if the execution has a memory limit.
+     */
+    public boolean isMemoryLimited() {
+        return this.memoryLimit > 0;
+    }
+
+    /**
+     * Reserves memory for the execution. May be called by any thread.
+     *
+     * @param bytes
+     *            the memory in bytes.
+     * @throws SQLException
+     *             if the memory limit is exceeded.
+     */
+    public void reserveMemory(final long bytes) throws SQLException {
+        final long used = this.memoryUsed.addAndGet(bytes);
+        if ((this.memoryLimit > 0) && (used > this.memoryLimit)) {
+            throw new SQLException("Statement memory limit exceeded: " + used + " bytes used, limit is "
+                    + this.memoryLimit + " bytes.", SQLStates.MEMORY_LIMIT.getValue());
+        }
+    }
+
+    /**
+     * Sets the max memory reserved by the execution. Must be called before the execution starts.
+     *
+     * @param bytes
+     *            the max memory in bytes. Zero disables the limit.
+     */
+    public void setMemoryLimit(final long bytes) {
+        this.memoryLimit = bytes;
+    }
+
+    /**
+     * Sets the execution timeout, starting now. Must be called before the execution starts.
+     *
+     * @param seconds
+     *            the timeout in seconds. Zero disables the timeout.
+     */
+    public void setTimeout(final int seconds) {
+        this.timed = seconds > 0;
+        this.deadline = System.nanoTime() + (seconds * 1_000_000_000L);
+    }
+}
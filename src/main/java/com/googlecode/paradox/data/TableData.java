@@ -9,20 +9,26 @@
 package com.googlecode.paradox.data;
 
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.BatchList;
 import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.data.table.value.RowBatch;
+import com.googlecode.paradox.io.BlockPrefetcher;
+import com.googlecode.paradox.io.BlockReader;
+import com.googlecode.paradox.io.ChannelPool;
+import com.googlecode.paradox.io.PooledChannel;
+import com.googlecode.paradox.management.DriverEvents;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
 import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.Utils;
 import com.googlecode.paradox.utils.filefilters.TableFilter;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.channels.FileChannel;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -30,7 +36,7 @@ import java.util.List;
  * Utility class for loading table files.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.13
  * @since 1.0
  */
 public final class TableData extends AbstractParadoxData {
@@ -100,43 +106,322 @@ public final class TableData extends AbstractParadoxData {
      */
     public static List<List<FieldValue>> loadData(final ParadoxTable table, final Collection<ParadoxField> fields)
             throws SQLException {
-        final List<List<FieldValue>> ret = new ArrayList<>();
+        return TableData.loadData(table, fields, new ScanContext());
+    }
 
-        final int blockSize = table.getBlockSizeBytes();
-        final int recordSize = table.getRecordSize();
-        final int headerSize = table.getHeaderSize();
-        final ByteBuffer buffer = ByteBuffer.allocate(blockSize);
+    /**
+     * Load the table data from file.
+     *
+     * @param table
+     *            the table to read.
+     * @param fields
+     *            the fields to read.
+     * @param context
+     *            the scan settings.
+     * @return the row values.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    public static List<List<FieldValue>> loadData(final ParadoxTable table, final Collection<ParadoxField> fields,
+            final ScanContext context) throws SQLException {
+        return TableData.loadBatches(table, fields, context);
+    }
+
+    /**
+     * Load the table data from file in column batches.
+     *
+     * @param table
+     *            the table to read.
+     * @param fields
+     *            the fields to read.
+     * @param context
+     *            the scan settings.
+     * @return the row batches, in table order.
+     * @throws SQLException
+     *             in case of failures, if the execution is cancelled or exceeds its memory limit.
+     */
+    public static BatchList loadBatches(final ParadoxTable table, final Collection<ParadoxField> fields,
+            final ScanContext context) throws SQLException {
+        final ParadoxField[] columns = TableData.getColumns(table, fields);
+        final BatchList ret = new BatchList(columns);
 
-        try (FileInputStream fs = new FileInputStream(table.getFile()); FileChannel channel = fs.getChannel()) {
-            if (table.getUsedBlocks() == 0) {
-                return ret;
+        if (table.getUsedBlocks() == 0) {
+            return ret;
+        }
+        final Object event = DriverEvents.beginScan(table.getName());
+        long blocks = 0;
+        try {
+            // Batches with memory reserved.
+            int reserved = 0;
+            final BlockReader chainReader = TableData.createReader(table, context);
+            if (TableData.isParallel(table, chainReader.isCacheable(), context)) {
+                final int[] chain;
+                try (BlockReader reader = chainReader) {
+                    chain = TableData.loadChain(table, reader, context);
+                }
+                // Reserved by the decoder.
+                ret.append(BlockDecoder.decode(table, columns, chain, context));
+                reserved = ret.getBatches().size();
+                blocks = chain.length;
+            } else if ((context.getPrefetchDepth() > 0) && (table.getUsedBlocks() > 1)) {
+                try (BlockPrefetcher prefetcher = new BlockPrefetcher(chainReader, table.getFirstBlock(),
+                        context.getPrefetchDepth())) {
+                    ByteBuffer block = prefetcher.next();
+                    while (block != null) {
+                        context.checkCancelled();
+                        BlockDecoder.decodeBlock(table, columns, block, ret);
+                        reserved = TableData.reserveBatches(ret, reserved, false, context);
+                        blocks++;
+                        block = prefetcher.next();
+                    }
+                }
+            } else {
+                try (BlockReader reader = chainReader) {
+                    int nextBlock = table.getFirstBlock();
+                    do {
+                        context.checkCancelled();
+                        nextBlock = BlockDecoder.decodeBlock(table, columns, reader.read(nextBlock), ret);
+                        reserved = TableData.reserveBatches(ret, reserved, false, context);
+                        blocks++;
+                    } while (nextBlock != 0);
+                }
             }
-            long nextBlock = table.getFirstBlock();
-            do {
-                buffer.order(ByteOrder.LITTLE_ENDIAN);
-                channel.position(headerSize + ((nextBlock - 1) * blockSize));
+            TableData.reserveBatches(ret, reserved, true, context);
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        } finally {
+            DriverEvents.endScan(event, blocks, ret.size());
+        }
+        context.addScan(blocks, ret.size());
+        context.getMetrics().addRowsDecoded(ret.size());
+        return ret;
+    }
 
-                buffer.clear();
-                channel.read(buffer);
-                buffer.flip();
+    /**
+     * Scans the table rows in table order, without loading them.
+     * <p>
+     * The visitor receives a single reused row view, decoded only when read, so a scan that reads only primitive
+     * values does not allocate by row.
+     *
+     * @param table
+     *            the table to read.
+     * @param context
+     *            the scan settings.
+     * @param visitor
+     *            the row visitor.
+     * @throws SQLException
+     *             in case of failures or if the execution is cancelled.
+     */
+    public static void scan(final ParadoxTable table, final ScanContext context, final RowVisitor visitor)
+            throws SQLException {
+        if (table.getUsedBlocks() == 0) {
+            return;
+        }
+        final TableRow row = new TableRow(table);
+        final Object event = DriverEvents.beginScan(table.getName());
+        long blocks = 0;
+        try {
+            if ((context.getPrefetchDepth() > 0) && (table.getUsedBlocks() > 1)) {
+                try (BlockPrefetcher prefetcher = new BlockPrefetcher(TableData.createReader(table, context),
+                        table.getFirstBlock(), context.getPrefetchDepth())) {
+                    ByteBuffer block = prefetcher.next();
+                    while (block != null) {
+                        context.checkCancelled();
+                        blocks++;
+                        if (BlockDecoder.visitBlock(table, block, row, visitor) < 0) {
+                            break;
+                        }
+                        block = prefetcher.next();
+                    }
+                }
+            } else {
+                try (BlockReader reader = TableData.createReader(table, context)) {
+                    int nextBlock = table.getFirstBlock();
+                    do {
+                        context.checkCancelled();
+                        nextBlock = BlockDecoder.visitBlock(table, reader.read(nextBlock), row, visitor);
+                        blocks++;
+                    } while (nextBlock > 0);
+                }
+            }
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        } finally {
+            DriverEvents.endScan(event, blocks, row.getRowNumber());
+        }
+        context.addScan(blocks, row.getRowNumber());
+    }
 
-                nextBlock = buffer.getShort();
-                // The block number.
-                buffer.getShort();
+    /**
+     * Gets if the table rows are decoded in parallel.
+     * <p>
+     * Tables in block cache are decoded in parallel, because reading the block chain loads their blocks in cache. The
+     * tables not in cache are read ahead by a single I/O thread instead, unless the prefetch is disabled: the parallel
+     * decoding reads their blocks twice, once to follow the chain and again to decode the rows.
+     *
+     * @param table
+     *            the table to read.
+     * @param cacheable
+     *            if the table blocks are kept in cache.
+     * @param context
+     *            the scan settings.
+     * @return true if the table rows are decoded in parallel.
+     */
+    static boolean isParallel(final ParadoxTable table, final boolean cacheable, final ScanContext context) {
+        return (table.getUsedBlocks() >= BlockDecoder.PARALLEL_THRESHOLD)
+                && (Runtime.getRuntime().availableProcessors() > 1)
+                && (cacheable || (context.getPrefetchDepth() == 0));
+    }
 
-                final int addDataSize = buffer.getShort() & 0xFFFF;
-                final int rowsInBlock = (addDataSize / recordSize) + 1;
+    /**
+     * Reserves the memory of the batches loaded since the last reserve.
+     *
+     * @param rows
+     *            the rows loaded.
+     * @param reserved
+     *            amount of batches with memory reserved.
+     * @param last
+     *            if the last batch is complete.
+     * @param context
+     *            the scan settings.
+     * @return amount of batches with memory reserved.
+     * @throws SQLException
+     *             if the memory limit is exceeded.
+     */
+    static int reserveBatches(final BatchList rows, final int reserved, final boolean last,
+            final ScanContext context) throws SQLException {
+        final List<RowBatch> batches = rows.getBatches();
+        int loop = reserved;
+        // The last batch may still receive rows.
+        final int end = last ? batches.size() : (batches.size() - 1);
+        if (!context.isMemoryLimited()) {
+            return Math.max(loop, end);
+        }
+        for (; loop < end; loop++) {
+            context.reserveMemory(batches.get(loop).estimateSize());
+        }
+        return loop;
+    }
 
-                buffer.order(ByteOrder.BIG_ENDIAN);
+    /**
+     * Creates a split over all table blocks, for parallel processing.
+     *
+     * @param table
+     *            the table to read.
+     * @return the split over all table blocks.
+     * @throws SQLException
+     *             in case of failures.
+     * @see TableSplit#trySplit()
+     */
+    public static TableSplit split(final ParadoxTable table) throws SQLException {
+        return TableData.split(table, new ScanContext());
+    }
 
-                for (int loop = 0; loop < rowsInBlock; loop++) {
-                    ret.add(TableData.readRow(table, fields, buffer));
-                }
-            } while (nextBlock != 0);
+    /**
+     * Creates a split over all table blocks, for parallel processing.
+     *
+     * @param table
+     *            the table to read.
+     * @param context
+     *            the scan settings, shared by all splits of the table.
+     * @return the split over all table blocks.
+     * @throws SQLException
+     *             in case of failures or if the execution is cancelled.
+     * @see TableSplit#trySplit()
+     */
+    public static TableSplit split(final ParadoxTable table, final ScanContext context) throws SQLException {
+        if (table.getUsedBlocks() == 0) {
+            return new TableSplit(table, context, new int[0], 0, 0);
+        }
+        try (BlockReader reader = TableData.createReader(table, context)) {
+            final int[] chain = TableData.loadChain(table, reader, context);
+            return new TableSplit(table, context, chain, 0, chain.length);
         } catch (final IOException e) {
             throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
         }
-        return ret;
+    }
+
+    /**
+     * Read the block chain from the block headers.
+     * <p>
+     * A chain can not be longer than the blocks in file, so a longer chain is a corrupted one, like a cyclic chain.
+     *
+     * @param table
+     *            the table to read.
+     * @param reader
+     *            the table block reader.
+     * @param context
+     *            the scan settings.
+     * @return the block numbers in chain order.
+     * @throws IOException
+     *             in case of I/O errors or if the chain is corrupted.
+     * @throws SQLException
+     *             if the execution is cancelled.
+     */
+    static int[] loadChain(final ParadoxTable table, final BlockReader reader, final ScanContext context)
+            throws IOException, SQLException {
+        final int maxBlocks = reader.getBlockCount();
+        int[] chain = new int[Math.min(table.getUsedBlocks(), maxBlocks)];
+        int size = 0;
+        int nextBlock = table.getFirstBlock();
+        do {
+            context.checkCancelled();
+            if (size == maxBlocks) {
+                throw new IOException("Block chain of " + table.getName() + " longer than the " + maxBlocks
+                        + " blocks in file.");
+            }
+            if (size == chain.length) {
+                chain = Arrays.copyOf(chain, Math.min(Math.max(size * 2, 1), maxBlocks));
+            }
+            chain[size++] = nextBlock;
+            nextBlock = reader.getNextBlock(nextBlock);
+        } while (nextBlock != 0);
+        return Arrays.copyOf(chain, size);
+    }
+
+    /**
+     * Creates a block reader for the table.
+     *
+     * @param table
+     *            the table to read.
+     * @return the block reader.
+     */
+    private static BlockReader createReader(final ParadoxTable table) {
+        return new BlockReader(table.getFile(), table.getHeaderSize(), table.getBlockSizeBytes());
+    }
+
+    /**
+     * Creates a block reader for the table, adding the reads to the scan metrics.
+     *
+     * @param table
+     *            the table to read.
+     * @param context
+     *            the scan settings.
+     * @return the block reader.
+     */
+    static BlockReader createReader(final ParadoxTable table, final ScanContext context) {
+        final BlockReader reader = TableData.createReader(table);
+        reader.setMetrics(context.getMetrics());
+        return reader;
+    }
+
+    /**
+     * Gets the fields to read in table order.
+     *
+     * @param table
+     *            the table to read.
+     * @param fields
+     *            the fields to read.
+     * @return the fields to read in table order.
+     */
+    private static ParadoxField[] getColumns(final ParadoxTable table, final Collection<ParadoxField> fields) {
+        final List<ParadoxField> columns = new ArrayList<>(fields.size());
+        for (final ParadoxField field : table.getFields()) {
+            if (fields.contains(field)) {
+                columns.add(field);
+            }
+        }
+        return columns.toArray(new ParadoxField[columns.size()]);
     }
 
     /**
@@ -176,19 +461,19 @@ public final class TableData extends AbstractParadoxData {
         ByteBuffer buffer = ByteBuffer.allocate(2048);
         buffer.order(ByteOrder.LITTLE_ENDIAN);
         
-        try (FileInputStream fs = new FileInputStream(file); FileChannel channel = fs.getChannel()) {
-            channel.read(buffer);
+        try (PooledChannel channel = ChannelPool.getInstance().acquire(file)) {
+            channel.read(buffer, 0);
             buffer.flip();
 
-            table.setRecordSize(buffer.getShort());
-            table.setHeaderSize(buffer.getShort());
+            table.setRecordSize(buffer.getShort() & 0xFFFF);
+            table.setHeaderSize(buffer.getShort() & 0xFFFF);
             table.setType(buffer.get());
             table.setBlockSize(buffer.get());
             table.setRowCount(buffer.getInt());
-            table.setUsedBlocks(buffer.getShort());
-            table.setTotalBlocks(buffer.getShort());
-            table.setFirstBlock(buffer.getShort());
-            table.setLastBlock(buffer.getShort());
+            table.setUsedBlocks(buffer.getShort() & 0xFFFF);
+            table.setTotalBlocks(buffer.getShort() & 0xFFFF);
+            table.setFirstBlock(buffer.getShort() & 0xFFFF);
+            table.setLastBlock(buffer.getShort() & 0xFFFF);
 
             buffer.position(0x21);
             table.setFieldCount(buffer.getShort());
@@ -200,7 +485,7 @@ public final class TableData extends AbstractParadoxData {
 
             buffer.position(0x49);
             table.setAutoIncrementValue(buffer.getInt());
-            table.setFirstFreeBlock(buffer.getShort());
+            table.setFirstFreeBlock(buffer.getShort() & 0xFFFF);
 
             buffer.position(0x55);
             table.setReferentialIntegrity(buffer.get());
@@ -210,9 +495,8 @@ public final class TableData extends AbstractParadoxData {
             final List<ParadoxField> fields = TableData.parseTableFields(table, buffer);
 
             // Restart the buffer with all table header
-            channel.position(0);
             buffer = ByteBuffer.allocate(table.getHeaderSize());
-            channel.read(buffer);
+            channel.read(buffer, 0);
 
             TableData.fixTablePositionByVersion(table, buffer, fields.size());
 
@@ -299,27 +583,28 @@ public final class TableData extends AbstractParadoxData {
      *
      * @param table
      *            the table to read of.
-     * @param fields
-     *            the fields to read.
+     * @param columns
+     *            the fields to read, in table order. The other fields are skipped.
      * @param buffer
      *            the buffer to read of.
-     * @return the row.
+     * @param sink
+     *            the sink to store the values.
      * @throws SQLException
      *             in case of parse errors.
      */
-    private static List<FieldValue> readRow(final ParadoxTable table, final Collection<ParadoxField> fields,
-            final ByteBuffer buffer) throws SQLException {
-        final List<FieldValue> row = new ArrayList<>();
-
-        for (final ParadoxField field : table.getFields()) {
-            final FieldValue fieldValue = FieldFactory.parse(table, buffer, field);
-
-            // Field filter
-            if (fields.contains(field) && (fieldValue != null)) {
-                fieldValue.setField(field);
-                row.add(fieldValue);
+    static void readRow(final ParadoxTable table, final ParadoxField[] columns, final ByteBuffer buffer,
+            final ValueSink sink) throws SQLException {
+        final List<ParadoxField> tableFields = table.getFields();
+        int column = 0;
+
+        for (int loop = 0; loop < tableFields.size(); loop++) {
+            final ParadoxField field = tableFields.get(loop);
+            if ((column < columns.length) && (columns[column] == field)) {
+                FieldFactory.parse(table, buffer, field, sink, column);
+                column++;
+            } else {
+                buffer.position(buffer.position() + field.getPhysicsSize());
             }
         }
-        return row;
     }
 }
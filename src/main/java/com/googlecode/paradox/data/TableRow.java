@@ -0,0 +1,263 @@
+/*
+ * TableRow.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.data.table.value.Row;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+
+/**
+ * A reused view over the current row of a table scan.
+ * <p>
+ * The fields are decoded from the block data only when requested, and at most once per row. Integer, floating point,
+ * boolean and date and time values are read by the typed getters without allocation.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class TableRow {
+
+    /**
+     * The block data.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The row number in which each column was decoded.
+     */
+    private final long[] decoded;
+
+    /**
+     * The table fields.
+     */
+    private final ParadoxField[] fields;
+
+    /**
+     * The field offsets in row.
+     */
+    private final int[] offsets;
+
+    /**
+     * The field parsers.
+     */
+    private final FieldParser[] parsers;
+
+    /**
+     * The row offset in block data.
+     */
+    private int rowOffset;
+
+    /**
+     * The current row number, starting at one.
+     */
+    private long rowNumber;
+
+    /**
+     * The table to read.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * The decoded values.
+     */
+    private final Row values;
+
+    /**
+     * Creates a new row view.
+     *
+     * @param table
+     *            the table to read.
+     * @throws SQLException
+     *             if the table has fields not supported.
+     */
+    TableRow(final ParadoxTable table) throws SQLException {
+        this.table = table;
+        this.fields = table.getFields().toArray(new ParadoxField[0]);
+        this.offsets = new int[this.fields.length];
+        this.parsers = new FieldParser[this.fields.length];
+        this.decoded = new long[this.fields.length];
+        int offset = 0;
+        for (int loop = 0; loop < this.fields.length; loop++) {
+            this.offsets[loop] = offset;
+            this.parsers[loop] = FieldFactory.getParser(this.fields[loop].getType());
+            offset += this.fields[loop].getPhysicsSize();
+        }
+        this.values = new Row(this.fields);
+    }
+
+    /**
+     * Gets a boolean value.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the value or false if NULL.
+     * @throws SQLException
+     *             if this is not a boolean value.
+     */
+    public boolean getBoolean(final int column) throws SQLException {
+        return this.decode(column).getBoolean(column);
+    }
+
+    /**
+     * Gets the amount of columns.
+     *
+     * @return the amount of columns.
+     */
+    public int getColumnCount() {
+        return this.fields.length;
+    }
+
+    /**
+     * Gets a numeric value as double.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the value or zero if NULL.
+     * @throws SQLException
+     *             if this is not a numeric value.
+     */
+    public double getDouble(final int column) throws SQLException {
+        return this.decode(column).getDouble(column);
+    }
+
+    /**
+     * Gets the column field.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the column field.
+     */
+    public ParadoxField getField(final int column) {
+        return this.fields[column];
+    }
+
+    /**
+     * Gets a numeric value as int.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the value or zero if NULL.
+     * @throws SQLException
+     *             if this is not a numeric value.
+     */
+    public int getInt(final int column) throws SQLException {
+        return this.decode(column).getInt(column);
+    }
+
+    /**
+     * Gets a numeric value as long.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the value or zero if NULL.
+     * @throws SQLException
+     *             if this is not a numeric value.
+     */
+    public long getLong(final int column) throws SQLException {
+        return this.decode(column).getLong(column);
+    }
+
+    /**
+     * Gets the value in Java format. The integer, floating point and date and time values are boxed.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the value in Java format or null if NULL.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    public Object getObject(final int column) throws SQLException {
+        return this.decode(column).getValue(column);
+    }
+
+    /**
+     * Gets the row number in the scan.
+     *
+     * @return the row number, starting at one.
+     */
+    public long getRowNumber() {
+        return this.rowNumber;
+    }
+
+    /**
+     * Gets the value type.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the value type.
+     * @throws SQLException
+     *             in case of parse errors.
+     * @see java.sql.Types
+     */
+    public int getType(final int column) throws SQLException {
+        return this.decode(column).getType(column);
+    }
+
+    /**
+     * Gets the column value as {@link FieldValue}.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the column value.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    public FieldValue getValue(final int column) throws SQLException {
+        return this.decode(column).get(column);
+    }
+
+    /**
+     * Check for null value.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return true if this value is NULL.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    public boolean isNull(final int column) throws SQLException {
+        return this.decode(column).isNull(column);
+    }
+
+    /**
+     * Moves this view to other row.
+     *
+     * @param buffer
+     *            the block data, in big endian order.
+     * @param offset
+     *            the row offset in block data.
+     */
+    void reset(final ByteBuffer buffer, final int offset) {
+        this.buffer = buffer;
+        this.rowOffset = offset;
+        this.rowNumber++;
+    }
+
+    /**
+     * Decodes a column of the current row, if not decoded yet.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the decoded values.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    private Row decode(final int column) throws SQLException {
+        if (this.decoded[column] != this.rowNumber) {
+            this.buffer.position(this.rowOffset + this.offsets[column]);
+            this.parsers[column].parse(this.table, this.buffer, this.fields[column], this.values, column);
+            this.decoded[column] = this.rowNumber;
+        }
+        return this.values;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * TableSplit.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.io.BlockReader;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * A range of the table block chain that can be split for parallel processing.
+ * <p>
+ * Works like a {@link java.util.Spliterator} over the table rows: {@link #trySplit()} gives half of the remaining
+ * blocks to a new split, so each one can be traversed by its own thread. Every split reads its blocks with its own
+ * reader and has its own row view, but the visitor given to each split must be safe for the thread running it.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.0
+ */
+public final class TableSplit {
+
+    /**
+     * The block chain, shared by all splits of the table.
+     */
+    private final int[] chain;
+
+    /**
+     * The scan settings, shared by all splits of the table.
+     */
+    private final ScanContext context;
+
+    /**
+     * First chain position not read yet.
+     */
+    private int from;
+
+    /**
+     * The table to read.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * Chain position after the last to read.
+     */
+    private final int to;
+
+    /**
+     * Creates a new split.
+     *
+     * @param table
+     *            the table to read.
+     * @param context
+     *            the scan settings.
+     * @param chain
+     *            the block chain.
+     * @param from
+     *            first chain position to read.
+     * @param to
+     *            chain position after the last to read.
+     */
+    TableSplit(final ParadoxTable table, final ScanContext context, final int[] chain, final int from,
+            final int to) {
+        this.table = table;
+        this.context = context;
+        this.chain = chain;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Gets the amount of blocks not read yet.
+     *
+     * @return the amount of blocks not read yet.
+     */
+    public int estimateBlocks() {
+        return this.to - this.from;
+    }
+
+    /**
+     * Gets an estimate of the rows not read yet, assuming full blocks.
+     *
+     * @return an estimate of the rows not read yet.
+     */
+    public long estimateSize() {
+        final long rowsByBlock = (this.table.getBlockSizeBytes() - 6) / this.table.getRecordSize();
+        return this.estimateBlocks() * rowsByBlock;
+    }
+
+    /**
+     * Visits all rows not read yet, in table order.
+     * <p>
+     * The split is exhausted after this call, even if the visitor stops the traversal.
+     *
+     * @param visitor
+     *            the row visitor.
+     * @return false if the visitor stopped the traversal.
+     * @throws SQLException
+     *             in case of failures or if the execution is cancelled.
+     */
+    public boolean forEachRemaining(final RowVisitor visitor) throws SQLException {
+        if (this.from >= this.to) {
+            return true;
+        }
+        final TableRow row = new TableRow(this.table);
+        try (BlockReader reader = TableData.createReader(this.table, this.context)) {
+            while (this.from < this.to) {
+                this.context.checkCancelled();
+                final int block = this.chain[this.from++];
+                if (BlockDecoder.visitBlock(this.table, reader.read(block), row, visitor) < 0) {
+                    this.from = this.to;
+                    return false;
+                }
+            }
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the table to read.
+     *
+     * @return the table to read.
+     */
+    public ParadoxTable getTable() {
+        return this.table;
+    }
+
+    /**
+     * Gives the first half of the remaining blocks to a new split.
+     * <p>
+     * This split keeps the second half, so traversing the returned split before this one keeps the table order.
+     *
+     * @return the new split or null if there are less than two blocks left.
+     */
+    public TableSplit trySplit() {
+        if ((this.to - this.from) < 2) {
+            return null;
+        }
+        final int middle = (this.from + this.to) >>> 1;
+        final TableSplit prefix = new TableSplit(this.table, this.context, this.chain, this.from, middle);
+        this.from = middle;
+        return prefix;
+    }
+}
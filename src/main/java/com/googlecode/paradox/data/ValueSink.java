@@ -0,0 +1,79 @@
+/*
+ * ValueSink.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+/**
+ * Receives the values decoded by the field parsers.
+ * <p>
+ * Fixed width values are passed as primitives, so the receiver can store them without boxing.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.0
+ */
+public interface ValueSink {
+
+    /**
+     * Stores a NULL value.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @param type
+     *            the value type.
+     * @see java.sql.Types
+     */
+    void setNull(int column, int type);
+
+    /**
+     * Stores a floating point value.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @param value
+     *            the value.
+     */
+    void setDouble(int column, double value);
+
+    /**
+     * Stores a fixed point value as an unscaled long: the value is <code>unscaled * 10^-scale</code>.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @param unscaled
+     *            the unscaled value.
+     * @param scale
+     *            the amount of decimal digits.
+     */
+    void setDecimal(int column, long unscaled, int scale);
+
+    /**
+     * Stores a integer, boolean (one for true, zero for false) or date and time (milliseconds since 1970) value.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @param value
+     *            the value.
+     * @param type
+     *            the value type.
+     * @see java.sql.Types
+     */
+    void setLong(int column, long value, int type);
+
+    /**
+     * Stores a value without primitive representation.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @param value
+     *            the value.
+     */
+    void setValue(int column, FieldValue value);
+}
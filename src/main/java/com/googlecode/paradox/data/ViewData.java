@@ -9,6 +9,8 @@
 package com.googlecode.paradox.data;
 
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.io.ChannelPool;
+import com.googlecode.paradox.io.PooledChannel;
 import com.googlecode.paradox.metadata.ParadoxDataFile;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
@@ -17,12 +19,10 @@ import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.filefilters.ViewFilter;
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.StringReader;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -176,8 +176,8 @@ public final class ViewData {
         buffer.order(ByteOrder.LITTLE_ENDIAN);
         final ParadoxView view = new ParadoxView(file, file.getName());
 
-        try (FileInputStream fs = new FileInputStream(file); FileChannel channel = fs.getChannel()) {
-            channel.read(buffer);
+        try (PooledChannel channel = ChannelPool.getInstance().acquire(file)) {
+            channel.read(buffer, 0);
             buffer.flip();
 
             final BufferedReader reader =
@@ -9,6 +9,7 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.ValueSink;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
@@ -19,7 +20,7 @@ import java.sql.Types;
  * Parses auto increment fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public final class AutoIncrementField implements FieldParser {
@@ -37,7 +38,26 @@ public final class AutoIncrementField implements FieldParser {
      */
     @Override
     public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
-        final int v = buffer.getInt() & 0x0FFF_FFFF;
-        return new FieldValue(v, Types.INTEGER);
+        return new FieldValue(AutoIncrementField.read(buffer), Types.INTEGER);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ValueSink sink, final int column) {
+        sink.setLong(column, AutoIncrementField.read(buffer), Types.INTEGER);
+    }
+
+    /**
+     * Reads the field value.
+     *
+     * @param buffer
+     *            the buffer to read of.
+     * @return the field value.
+     */
+    private static int read(final ByteBuffer buffer) {
+        return buffer.getInt() & 0x0FFF_FFFF;
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * BCDField.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.field;
+
+import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.ValueSink;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.data.table.value.Row;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Parses BCD fields.
+ * <p>
+ * The value has 32 packed decimal digits after a sign and scale byte, with the digits complemented for negative
+ * values. Values up to 18 digits are decoded to an unscaled long; only larger values are created as
+ * {@link BigDecimal}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class BCDField implements FieldParser {
+
+    /**
+     * Digits always stored in a long.
+     */
+    private static final int LONG_DIGITS = 18;
+
+    /**
+     * First digit nibble (the first byte is the sign and scale).
+     */
+    private static final int FIRST_NIBBLE = 2;
+
+    /**
+     * The sign bit: set for positive values.
+     */
+    private static final int SIGN = 0x80;
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean match(final int type) {
+        return type == 0x17;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field)
+            throws SQLException {
+        final Row row = new Row(new ParadoxField[] { field });
+        this.parse(table, buffer, field, row, 0);
+        return row.get(0);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ValueSink sink, final int column) throws SQLException {
+        final int start = buffer.position();
+        final int size = field.getPhysicsSize();
+        buffer.position(start + size);
+
+        if (BCDField.isBlank(buffer, start, size)) {
+            sink.setNull(column, Types.NUMERIC);
+            return;
+        }
+
+        final boolean positive = (buffer.get(start) & BCDField.SIGN) != 0;
+        final int complement = positive ? 0 : 0xF;
+        final int nibbles = size * 2;
+        long unscaled = 0;
+        int digits = 0;
+        for (int loop = BCDField.FIRST_NIBBLE; loop < nibbles; loop++) {
+            final int digit = BCDField.digit(buffer, start, loop, complement);
+            if ((digits > 0) || (digit != 0)) {
+                digits++;
+                if (digits > BCDField.LONG_DIGITS) {
+                    sink.setValue(column, new FieldValue(BCDField.readLarge(buffer, start, nibbles, complement,
+                            positive, field.getScale()), Types.NUMERIC));
+                    return;
+                }
+                unscaled = (unscaled * 10) + digit;
+            }
+        }
+        sink.setDecimal(column, positive ? unscaled : -unscaled, field.getScale());
+    }
+
+    /**
+     * Reads a digit.
+     *
+     * @param buffer
+     *            the buffer to read of.
+     * @param start
+     *            the field start.
+     * @param nibble
+     *            the nibble index.
+     * @param complement
+     *            the digits complement mask.
+     * @return the digit.
+     * @throws SQLDataException
+     *             if the nibble is not a decimal digit.
+     */
+    private static int digit(final ByteBuffer buffer, final int start, final int nibble, final int complement)
+            throws SQLDataException {
+        final int data = buffer.get(start + (nibble / 2));
+        final int digit = ((((nibble % 2) == 0) ? (data >>> 4) : data) & 0xF) ^ complement;
+        if (digit > 9) {
+            throw new SQLDataException("Invalid BCD digit.", SQLStates.INVALID_FIELD_VALUE.getValue());
+        }
+        return digit;
+    }
+
+    /**
+     * If the field has only zeros (a NULL value).
+     *
+     * @param buffer
+     *            the buffer to read of.
+     * @param start
+     *            the field start.
+     * @param size
+     *            the field size.
+     * @return true if the field has only zeros.
+     */
+    private static boolean isBlank(final ByteBuffer buffer, final int start, final int size) {
+        for (int loop = 0; loop < size; loop++) {
+            if (buffer.get(start + loop) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads a value too large for a long.
+     *
+     * @param buffer
+     *            the buffer to read of.
+     * @param start
+     *            the field start.
+     * @param nibbles
+     *            amount of nibbles.
+     * @param complement
+     *            the digits complement mask.
+     * @param positive
+     *            the value sign.
+     * @param scale
+     *            the field scale.
+     * @return the value.
+     * @throws SQLDataException
+     *             if the value has invalid digits.
+     */
+    private static BigDecimal readLarge(final ByteBuffer buffer, final int start, final int nibbles,
+            final int complement, final boolean positive, final int scale) throws SQLDataException {
+        final StringBuilder digits = new StringBuilder(nibbles);
+        if (!positive) {
+            digits.append('-');
+        }
+        for (int loop = BCDField.FIRST_NIBBLE; loop < nibbles; loop++) {
+            digits.append((char) ('0' + BCDField.digit(buffer, start, loop, complement)));
+        }
+        return new BigDecimal(new BigInteger(digits.toString()), scale);
+    }
+}
@@ -9,6 +9,7 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.ValueSink;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
@@ -20,7 +21,7 @@ import java.sql.Types;
  * Parses boolean fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public final class BooleanField implements FieldParser {
@@ -39,13 +40,40 @@ public final class BooleanField implements FieldParser {
     @Override
     public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field)
             throws SQLException {
+        return new FieldValue(BooleanField.read(buffer), Types.BOOLEAN);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ValueSink sink, final int column) throws SQLException {
+        final Boolean value = BooleanField.read(buffer);
+        if (value == null) {
+            sink.setNull(column, Types.BOOLEAN);
+        } else {
+            sink.setLong(column, value ? 1 : 0, Types.BOOLEAN);
+        }
+    }
+
+    /**
+     * Reads the field value.
+     *
+     * @param buffer
+     *            the buffer to read of.
+     * @return the field value or null.
+     * @throws SQLException
+     *             in case of invalid value.
+     */
+    private static Boolean read(final ByteBuffer buffer) throws SQLException {
         final byte v = buffer.get();
         if (v == 0) {
-            return new FieldValue(Types.BOOLEAN);
+            return null;
         } else if (v == -127) {
-            return new FieldValue(Boolean.TRUE, Types.BOOLEAN);
+            return Boolean.TRUE;
         } else if (v == -128) {
-            return new FieldValue(Boolean.FALSE, Types.BOOLEAN);
+            return Boolean.FALSE;
         } else {
             throw new SQLException("Invalid value " + v + ".");
         }
@@ -9,19 +9,19 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.ValueSink;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
 import com.googlecode.paradox.utils.DateUtils;
 import java.nio.ByteBuffer;
-import java.sql.Date;
 import java.sql.Types;
 
 /**
  * Parses date fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.2
  * @since 1.3
  */
 public final class DateField implements FieldParser {
@@ -39,13 +39,39 @@ public final class DateField implements FieldParser {
      */
     @Override
     public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
-        final int a1 = 0xFF & buffer.get();
-        final int a2 = 0xFF & buffer.get();
-        final int a3 = 0xFF & buffer.get();
-        final int a4 = 0xFF & buffer.get();
-        final long days = ((a1 << 24) | (a2 << 16) | (a3 << 8) | a4) & 0x0FFF_FFFFL;
-        
-        final Date date = DateUtils.sdnToGregorian(days + 1_721_425);
-        return new FieldValue(date, Types.DATE);
+        final long sdn = DateField.read(buffer);
+        if (sdn <= 0) {
+            return new FieldValue(Types.DATE);
+        }
+        return FieldValue.ofMillis(DateUtils.sdnToMillis(sdn), Types.DATE);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ValueSink sink, final int column) {
+        final long sdn = DateField.read(buffer);
+        if (sdn <= 0) {
+            sink.setNull(column, Types.DATE);
+        } else {
+            sink.setLong(column, DateUtils.sdnToMillis(sdn), Types.DATE);
+        }
+    }
+
+    /**
+     * Reads the field value.
+     *
+     * @param buffer
+     *            the buffer to read of.
+     * @return the date serial day number or zero if NULL.
+     */
+    private static long read(final ByteBuffer buffer) {
+        final int value = buffer.getInt();
+        if (value == 0) {
+            return 0;
+        }
+        return (value & 0x0FFF_FFFFL) + 1_721_425;
     }
 }
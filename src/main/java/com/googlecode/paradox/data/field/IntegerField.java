@@ -9,6 +9,7 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.ValueSink;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
@@ -19,7 +20,7 @@ import java.sql.Types;
  * Parses integer fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public final class IntegerField implements FieldParser {
@@ -33,14 +34,32 @@ public final class IntegerField implements FieldParser {
     }
     
     /**
-     * {@inheritDoc}
-     * 
-     * Integer (2 bytes) fields are stored as two's complement with the high bit inverted.
-     * 
+     * {@inheritDoc}.
      */
     @Override
     public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
-        final int v = (short) (buffer.getShort() ^ 0x8000);
-        return new FieldValue(v, Types.INTEGER);
+        return new FieldValue(IntegerField.read(buffer), Types.INTEGER);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ValueSink sink, final int column) {
+        sink.setLong(column, IntegerField.read(buffer), Types.INTEGER);
+    }
+
+    /**
+     * Reads the field value.
+     * <p>
+     * Integer (2 bytes) fields are stored as two's complement with the high bit inverted.
+     *
+     * @param buffer
+     *            the buffer to read of.
+     * @return the field value.
+     */
+    private static int read(final ByteBuffer buffer) {
+        return (short) (buffer.getShort() ^ 0x8000);
     }
 }
@@ -1,6 +1,7 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.ValueSink;
 import com.googlecode.paradox.data.table.value.BlobDescriptor;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
@@ -31,7 +32,7 @@ public abstract class LobField implements FieldParser {
         value.flip();
 
         buffer.order(ByteOrder.LITTLE_ENDIAN);
-        final long offset = buffer.getInt();
+        final long offset = buffer.getInt() & 0xFFFFFFFFL;
         // Length
         buffer.getInt();
         // Modifier
@@ -46,6 +47,15 @@ public abstract class LobField implements FieldParser {
         return new FieldValue(descriptor, getFieldType());
     }
 
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ValueSink sink, final int column) throws SQLException {
+        sink.setValue(column, this.parse(table, buffer, field));
+    }
+
     /**
      * 
      * @param table
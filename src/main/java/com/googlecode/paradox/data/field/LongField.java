@@ -9,6 +9,7 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.ValueSink;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
@@ -19,7 +20,7 @@ import java.sql.Types;
  * Parses long fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public final class LongField implements FieldParser {
@@ -33,14 +34,32 @@ public final class LongField implements FieldParser {
     }
     
     /**
-     * {@inheritDoc}
-     * 
-     * Longs (4 bytes) fields are stored as two's complement with the high bit inverted.
-     * 
+     * {@inheritDoc}.
      */
     @Override
     public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
-        final long l = (int) (buffer.getInt() ^ 0x8000_0000);
-        return new FieldValue(l, Types.BIGINT);
+        return new FieldValue(LongField.read(buffer), Types.BIGINT);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ValueSink sink, final int column) {
+        sink.setLong(column, LongField.read(buffer), Types.BIGINT);
+    }
+
+    /**
+     * Reads the field value.
+     * <p>
+     * Longs (4 bytes) fields are stored as two's complement with the high bit inverted.
+     *
+     * @param buffer
+     *            the buffer to read of.
+     * @return the field value.
+     */
+    private static long read(final ByteBuffer buffer) {
+        return buffer.getInt() ^ 0x8000_0000;
     }
 }
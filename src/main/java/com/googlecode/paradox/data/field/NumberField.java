@@ -9,6 +9,7 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.ValueSink;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
@@ -19,7 +20,7 @@ import java.sql.Types;
  * Parses the numeric fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public final class NumberField implements FieldParser {
@@ -37,12 +38,32 @@ public final class NumberField implements FieldParser {
      */
     @Override
     public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
+        return new FieldValue(NumberField.read(buffer), Types.DOUBLE);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ValueSink sink, final int column) {
+        sink.setDouble(column, NumberField.read(buffer));
+    }
+
+    /**
+     * Reads the field value.
+     *
+     * @param buffer
+     *            the buffer to read of.
+     * @return the field value.
+     */
+    private static double read(final ByteBuffer buffer) {
         long value = buffer.getLong();
         if ((value >>> 63) == 1) {
             value &= 0x7FFFFFFFFFFFFFFFL;
         } else {
             value = ~value;
         }
-        return new FieldValue(Double.longBitsToDouble(value), Types.DOUBLE);
+        return Double.longBitsToDouble(value);
     }
 }
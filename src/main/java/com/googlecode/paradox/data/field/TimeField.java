@@ -9,20 +9,19 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.ValueSink;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.DateUtils;
 import java.nio.ByteBuffer;
-import java.sql.Time;
 import java.sql.Types;
-import java.util.Calendar;
-import java.util.GregorianCalendar;
 
 /**
  * Parses time fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.2
  * @since 1.3
  */
 public final class TimeField implements FieldParser {
@@ -40,18 +39,35 @@ public final class TimeField implements FieldParser {
      */
     @Override
     public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
-        final int a1 = buffer.get();
-        final int a2 = buffer.get();
-        final int a3 = buffer.get();
-        final int a4 = buffer.get();
-        final long timeInMillis = (a1 << 24) | (a2 << 16) | (a3 << 8) | a4;
-        
+        final int timeInMillis = TimeField.read(buffer);
         if (timeInMillis != 0) {
-            final Calendar calendar = new GregorianCalendar(1, 0, 0);
-            calendar.add(Calendar.MILLISECOND, (int) timeInMillis);
-            final Time time = new Time(calendar.getTimeInMillis());
-            return new FieldValue(time, Types.TIME);
+            return FieldValue.ofMillis(DateUtils.timeToMillis(timeInMillis & 0x7FFF_FFFF), Types.TIME);
         }
         return new FieldValue(Types.TIME);
     }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ValueSink sink, final int column) {
+        final int timeInMillis = TimeField.read(buffer);
+        if (timeInMillis != 0) {
+            sink.setLong(column, DateUtils.timeToMillis(timeInMillis & 0x7FFF_FFFF), Types.TIME);
+        } else {
+            sink.setNull(column, Types.TIME);
+        }
+    }
+
+    /**
+     * Reads the field value.
+     *
+     * @param buffer
+     *            the buffer to read of.
+     * @return the milliseconds of day, with the sign bit set by Paradox, or zero if NULL.
+     */
+    private static int read(final ByteBuffer buffer) {
+        return buffer.getInt();
+    }
 }
@@ -9,13 +9,12 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.ValueSink;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
 import java.nio.ByteBuffer;
-import java.sql.Timestamp;
 import java.sql.Types;
-import java.util.Date;
 
 /**
  * Parses timestamp fields.
@@ -39,6 +38,26 @@ public final class TimestampField implements FieldParser {
      */
     @Override
     public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
+        return FieldValue.ofMillis(TimestampField.read(buffer), Types.TIMESTAMP);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ValueSink sink, final int column) {
+        sink.setLong(column, TimestampField.read(buffer), Types.TIMESTAMP);
+    }
+
+    /**
+     * Reads the field value.
+     *
+     * @param buffer
+     *            the buffer to read of.
+     * @return the milliseconds since 1970.
+     */
+    private static long read(final ByteBuffer buffer) {
         long rawValue = buffer.getLong();
         if ((rawValue >>> 63) == 1) {
             rawValue &= 0x7FFFFFFFFFFFFFFFL;
@@ -47,8 +66,6 @@ public final class TimestampField implements FieldParser {
         }
         long value = (long) Double.longBitsToDouble(rawValue);
 
-        Date date = new Date();
-        date.setTime(value - MILLIS_UNTIL_1970);
-        return new FieldValue(new Timestamp(date.getTime()), Types.TIMESTAMP);
+        return value - MILLIS_UNTIL_1970;
     }
 }
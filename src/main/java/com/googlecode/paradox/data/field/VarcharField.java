@@ -9,20 +9,17 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.ValueSink;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
-import com.googlecode.paradox.utils.Constants;
-import com.googlecode.paradox.utils.Utils;
 import java.nio.ByteBuffer;
-import java.sql.Types;
-import java.util.Arrays;
 
 /**
  * Parses a VARCHAR field.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public final class VarcharField implements FieldParser {
@@ -40,15 +37,26 @@ public final class VarcharField implements FieldParser {
      */
     @Override
     public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
-        final ByteBuffer valueString = ByteBuffer.allocate(Constants.MAX_STRING_SIZE);
-        
-        // reset buffer to zeros
-        Arrays.fill(valueString.array(), (byte) 0);
-        
-        for (int chars = 0; chars < field.getSize(); chars++) {
-            valueString.put(buffer.get());
+        final int start = buffer.position();
+        int length = field.getSize();
+        // The Paradox fill the end of VARCHAR with zeros.
+        while ((length > 0) && (buffer.get((start + length) - 1) == 0)) {
+            length--;
         }
-        return new FieldValue(Utils.parseString(valueString, table.getCharset()), Types.VARCHAR);
+
+        final byte[] value = new byte[length];
+        buffer.get(value);
+        buffer.position(start + field.getSize());
+        return FieldValue.ofString(value, table.getCharset());
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ValueSink sink, final int column) {
+        sink.setValue(column, this.parse(table, buffer, field));
     }
     
 }
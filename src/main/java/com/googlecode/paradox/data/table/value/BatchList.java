@@ -0,0 +1,166 @@
+/*
+ * BatchList.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.table.value;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A sequence of {@link RowBatch} seen as a list of rows.
+ * <p>
+ * The rows are {@link Row} views over the batches, created when requested. Batches appended from other lists may be
+ * not full, so the first row of each batch is kept to find the batch of a row.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4.0
+ */
+public final class BatchList extends AbstractList<List<FieldValue>> implements RandomAccess {
+
+    /**
+     * The batches.
+     */
+    private final List<RowBatch> batches = new ArrayList<>();
+
+    /**
+     * The fields by column.
+     */
+    private final ParadoxField[] fields;
+
+    /**
+     * Amount of rows.
+     */
+    private int size;
+
+    /**
+     * First row of each batch.
+     */
+    private int[] starts = new int[16];
+
+    /**
+     * Creates a new empty list.
+     *
+     * @param fields
+     *            the fields by column, not changed after this call.
+     */
+    public BatchList(final ParadoxField[] fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Appends all batches of other list. The batches not full are replaced by compacted copies.
+     *
+     * @param other
+     *            the list to append.
+     */
+    public void append(final BatchList other) {
+        for (final RowBatch batch : other.batches) {
+            if (batch.size() > 0) {
+                this.addBatch(batch.compact());
+            }
+        }
+    }
+
+    /**
+     * Adds a row with all values NULL.
+     *
+     * @return the batch with the new row as its last row.
+     */
+    public RowBatch appendRow() {
+        RowBatch last = null;
+        if (!this.batches.isEmpty()) {
+            last = this.batches.get(this.batches.size() - 1);
+        }
+        if ((last == null) || last.isFull()) {
+            last = new RowBatch(this.fields);
+            this.addBatch(last);
+        }
+        last.addRow();
+        this.size++;
+        return last;
+    }
+
+    /**
+     * Estimates the memory used by the rows.
+     *
+     * @return the estimated size in bytes.
+     */
+    public long estimateSize() {
+        long size = ColumnVector.HEADER_SIZE + (this.starts.length * 4L);
+        for (final RowBatch batch : this.batches) {
+            size += batch.estimateSize();
+        }
+        return size;
+    }
+
+    /**
+     * Gets a row view.
+     *
+     * @param index
+     *            the row index.
+     * @return the row view.
+     */
+    @Override
+    public Row get(final int index) {
+        if ((index < 0) || (index >= this.size)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+        int batch = Arrays.binarySearch(this.starts, 0, this.batches.size(), index);
+        if (batch < 0) {
+            batch = -batch - 2;
+        }
+        return this.batches.get(batch).getRow(index - this.starts[batch]);
+    }
+
+    /**
+     * Gets the batches.
+     *
+     * @return the batches.
+     */
+    public List<RowBatch> getBatches() {
+        return Collections.unmodifiableList(this.batches);
+    }
+
+    /**
+     * Gets the fields by column.
+     *
+     * @return the fields by column.
+     */
+    public ParadoxField[] getFields() {
+        return this.fields.clone();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds a batch.
+     *
+     * @param batch
+     *            the batch to add.
+     */
+    private void addBatch(final RowBatch batch) {
+        if (this.batches.size() == this.starts.length) {
+            this.starts = Arrays.copyOf(this.starts, this.starts.length * 2);
+        }
+        this.starts[this.batches.size()] = this.size;
+        this.batches.add(batch);
+        this.size += batch.size();
+    }
+}
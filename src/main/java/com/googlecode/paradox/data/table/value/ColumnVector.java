@@ -0,0 +1,573 @@
+/*
+ * ColumnVector.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.table.value;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.utils.DecimalUtils;
+import com.googlecode.paradox.utils.SQLStates;
+import java.math.BigDecimal;
+import java.sql.SQLDataException;
+import java.sql.Types;
+
+/**
+ * The values of a column in a {@link RowBatch}.
+ * <p>
+ * Integer, floating point (raw bits), boolean (one or zero), date and time (milliseconds since 1970) and fixed
+ * point (unscaled, with the vector scale) values are stored in a long array. The other values, like the strings still
+ * not decoded or the fixed point values too large for a long, are kept as {@link FieldValue}. A validity mask marks
+ * the rows with values: NULL values and rows not set have the mask bit cleared.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.3
+ * @since 1.4.0
+ */
+public final class ColumnVector {
+
+    /**
+     * Invalid field message error.
+     */
+    private static final String ERROR_INVALID_TYPE = "Invalid field type.";
+
+    /**
+     * Estimated size of an array or object header.
+     */
+    public static final int HEADER_SIZE = 16;
+
+    /**
+     * Estimated size of a {@link FieldValue}, without its value.
+     */
+    private static final int FIELD_VALUE_SIZE = 32;
+
+    /**
+     * Estimated size of an object reference.
+     */
+    private static final int REFERENCE_SIZE = 8;
+
+
+    /**
+     * Max values in this vector.
+     */
+    private final int capacity;
+
+    /**
+     * The primitive values.
+     */
+    private long[] longs;
+
+    /**
+     * The values without primitive representation.
+     */
+    private FieldValue[] objects;
+
+    /**
+     * The fixed point values scale.
+     */
+    private int scale;
+
+    /**
+     * The value type.
+     */
+    private int type;
+
+    /**
+     * The validity mask. A bit is set for each row with a not NULL value.
+     */
+    private final long[] validity;
+
+    /**
+     * Creates a new vector.
+     *
+     * @param capacity
+     *            max values in this vector.
+     */
+    public ColumnVector(final int capacity) {
+        this.capacity = capacity;
+        this.validity = new long[(capacity + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    /**
+     * If the type is stored in the long array.
+     *
+     * @param type
+     *            the value type.
+     * @return true if the type is stored in the long array.
+     */
+    static boolean isPrimitive(final int type) {
+        switch (type) {
+            case Types.BIGINT:
+            case Types.BOOLEAN:
+            case Types.DATE:
+            case Types.DOUBLE:
+            case Types.INTEGER:
+            case Types.NUMERIC:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Copy a value from other vector without boxing.
+     *
+     * @param row
+     *            the row in this vector.
+     * @param source
+     *            the vector to copy from.
+     * @param sourceRow
+     *            the row in source vector.
+     */
+    public void copy(final int row, final ColumnVector source, final int sourceRow) {
+        if (!source.isValid(sourceRow)) {
+            this.setNull(row, source.type);
+        } else if (source.hasObject(sourceRow)) {
+            this.setValue(row, source.objects[sourceRow]);
+        } else if (source.type == Types.NUMERIC) {
+            this.setDecimal(row, source.longs[sourceRow], source.scale);
+        } else {
+            this.setLong(row, source.longs[sourceRow], source.type);
+        }
+    }
+
+    /**
+     * Estimates the memory used by this vector, including the values without primitive representation. The lazy values
+     * are not decoded.
+     *
+     * @return the estimated size in bytes.
+     */
+    public long estimateSize() {
+        long size = ColumnVector.HEADER_SIZE + ColumnVector.HEADER_SIZE + (this.validity.length * 8L);
+        if (this.longs != null) {
+            size += ColumnVector.HEADER_SIZE + (this.longs.length * 8L);
+        }
+        if (this.objects != null) {
+            size += ColumnVector.HEADER_SIZE + (this.objects.length * (long) ColumnVector.REFERENCE_SIZE);
+            for (final FieldValue value : this.objects) {
+                if (value != null) {
+                    size += ColumnVector.estimateSize(value.getRawValue());
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Estimates the memory used by a {@link FieldValue}.
+     *
+     * @param value
+     *            the value in Java format or the raw string bytes.
+     * @return the estimated size in bytes.
+     */
+    private static long estimateSize(final Object value) {
+        long size = ColumnVector.FIELD_VALUE_SIZE;
+        if (value instanceof String) {
+            size += (ColumnVector.HEADER_SIZE * 3) + (((String) value).length() * 2L);
+        } else if (value instanceof byte[]) {
+            size += ColumnVector.HEADER_SIZE + ((byte[]) value).length;
+        } else if (value != null) {
+            size += ColumnVector.HEADER_SIZE * 2;
+        }
+        return size;
+    }
+
+    /**
+     * Gets the value as {@link FieldValue}, created on demand for the primitive values.
+     *
+     * @param row
+     *            the row.
+     * @param field
+     *            the column field.
+     * @return the value.
+     */
+    public FieldValue get(final int row, final ParadoxField field) {
+        final FieldValue value;
+        if (!this.isValid(row)) {
+            value = new FieldValue(this.type);
+        } else if (this.hasObject(row)) {
+            return this.objects[row];
+        } else {
+            final long data = this.longs[row];
+            switch (this.type) {
+                case Types.BOOLEAN:
+                    value = new FieldValue(Boolean.valueOf(data != 0), this.type);
+                    break;
+                case Types.DATE:
+                case Types.TIME:
+                case Types.TIMESTAMP:
+                    value = FieldValue.ofMillis(data, this.type);
+                    break;
+                case Types.DOUBLE:
+                    value = new FieldValue(Double.valueOf(Double.longBitsToDouble(data)), this.type);
+                    break;
+                case Types.INTEGER:
+                    value = new FieldValue(Integer.valueOf((int) data), this.type);
+                    break;
+                case Types.NUMERIC:
+                    value = new FieldValue(BigDecimal.valueOf(data, this.scale), this.type);
+                    break;
+                default:
+                    value = new FieldValue(Long.valueOf(data), this.type);
+                    break;
+            }
+        }
+        value.setField(field);
+        return value;
+    }
+
+    /**
+     * Gets a boolean value without boxing.
+     *
+     * @param row
+     *            the row.
+     * @return the value or false if NULL.
+     * @throws SQLDataException
+     *             if this is not a boolean value.
+     */
+    public boolean getBoolean(final int row) throws SQLDataException {
+        if (this.type != Types.BOOLEAN) {
+            throw new SQLDataException(ColumnVector.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
+        }
+        return this.isValid(row) && (this.longs[row] != 0);
+    }
+
+    /**
+     * Gets the max values in this vector.
+     *
+     * @return the max values in this vector.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Gets a numeric value as double without boxing.
+     *
+     * @param row
+     *            the row.
+     * @return the value or zero if NULL.
+     * @throws SQLDataException
+     *             if this is not a numeric value.
+     */
+    public double getDouble(final int row) throws SQLDataException {
+        switch (this.type) {
+            case Types.DOUBLE:
+                return Double.longBitsToDouble(this.getRaw(row));
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return this.getRaw(row);
+            case Types.NUMERIC:
+                return this.getDecimalDouble(row);
+            default:
+                throw new SQLDataException(ColumnVector.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
+        }
+    }
+
+    /**
+     * Gets a numeric value as int without boxing.
+     *
+     * @param row
+     *            the row.
+     * @return the value or zero if NULL.
+     * @throws SQLDataException
+     *             if this is not a numeric value.
+     */
+    public int getInt(final int row) throws SQLDataException {
+        switch (this.type) {
+            case Types.DOUBLE:
+                return (int) Double.longBitsToDouble(this.getRaw(row));
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return (int) this.getRaw(row);
+            case Types.NUMERIC:
+                return (int) this.getDecimalLong(row);
+            default:
+                throw new SQLDataException(ColumnVector.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
+        }
+    }
+
+    /**
+     * Gets the values stored in the long array, for the vector kernels. The rows without value and the rows stored as
+     * {@link FieldValue} have zero.
+     *
+     * @return the backing array, not copied, or null if no value was stored in the long array.
+     */
+    public long[] getLongs() {
+        return this.longs;
+    }
+
+    /**
+     * Gets a numeric value as long without boxing.
+     *
+     * @param row
+     *            the row.
+     * @return the value or zero if NULL.
+     * @throws SQLDataException
+     *             if this is not a numeric value.
+     */
+    public long getLong(final int row) throws SQLDataException {
+        switch (this.type) {
+            case Types.DOUBLE:
+                return (long) Double.longBitsToDouble(this.getRaw(row));
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return this.getRaw(row);
+            case Types.NUMERIC:
+                return this.getDecimalLong(row);
+            default:
+                throw new SQLDataException(ColumnVector.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
+        }
+    }
+
+    /**
+     * Gets the fixed point values scale.
+     *
+     * @return the amount of decimal digits of the unscaled values in the long array.
+     */
+    public int getScale() {
+        return this.scale;
+    }
+
+    /**
+     * Gets the value type.
+     *
+     * @return the value type or {@link Types#NULL} if no value was set.
+     */
+    public int getType() {
+        return this.type;
+    }
+
+    /**
+     * Gets the validity mask, for the vector kernels. The bit of each row with a not NULL value is set.
+     *
+     * @return the backing array, not copied.
+     */
+    public long[] getValidity() {
+        return this.validity;
+    }
+
+    /**
+     * If the row value is stored as {@link FieldValue}, not in the long array. Fixed point values too large for a long
+     * are stored this way.
+     *
+     * @param row
+     *            the row.
+     * @return true if the row value is stored as {@link FieldValue}.
+     */
+    public boolean hasObject(final int row) {
+        return (this.objects != null) && (this.objects[row] != null);
+    }
+
+    /**
+     * Check for null value.
+     *
+     * @param row
+     *            the row.
+     * @return true if this value is NULL or not set.
+     */
+    public boolean isNull(final int row) {
+        return !this.isValid(row) || (this.hasObject(row) && this.objects[row].isNull());
+    }
+
+    /**
+     * Stores a fixed point value. Values with other scale than the already stored in the long array are kept as
+     * {@link FieldValue}.
+     *
+     * @param row
+     *            the row.
+     * @param unscaled
+     *            the unscaled value.
+     * @param scale
+     *            the amount of decimal digits.
+     */
+    public void setDecimal(final int row, final long unscaled, final int scale) {
+        if ((this.longs != null) && (this.scale != scale)) {
+            this.setObject(row, new FieldValue(BigDecimal.valueOf(unscaled, scale), Types.NUMERIC));
+        } else {
+            this.scale = scale;
+            this.setLong(row, unscaled, Types.NUMERIC);
+        }
+    }
+
+    /**
+     * Stores a floating point value.
+     *
+     * @param row
+     *            the row.
+     * @param value
+     *            the value.
+     */
+    public void setDouble(final int row, final double value) {
+        this.setLong(row, Double.doubleToRawLongBits(value), Types.DOUBLE);
+    }
+
+    /**
+     * Stores a value in the long array.
+     *
+     * @param row
+     *            the row.
+     * @param value
+     *            the value.
+     * @param type
+     *            the value type.
+     */
+    public void setLong(final int row, final long value, final int type) {
+        if (this.longs == null) {
+            this.longs = new long[this.capacity];
+        }
+        if (this.objects != null) {
+            this.objects[row] = null;
+        }
+        this.type = type;
+        this.longs[row] = value;
+        this.validity[row / Long.SIZE] |= 1L << row;
+    }
+
+    /**
+     * Stores a NULL value.
+     *
+     * @param row
+     *            the row.
+     * @param type
+     *            the value type.
+     */
+    public void setNull(final int row, final int type) {
+        this.type = type;
+        this.validity[row / Long.SIZE] &= ~(1L << row);
+        if (this.longs != null) {
+            this.longs[row] = 0;
+        }
+        if (this.objects != null) {
+            this.objects[row] = null;
+        }
+    }
+
+    /**
+     * Stores a value, unboxing it if the type has primitive representation.
+     *
+     * @param row
+     *            the row.
+     * @param value
+     *            the value.
+     */
+    public void setValue(final int row, final FieldValue value) {
+        final int valueType = value.getType();
+        if (ColumnVector.isPrimitive(valueType)) {
+            final Object data = value.getValue();
+            if (data == null) {
+                this.setNull(row, valueType);
+            } else if (valueType == Types.BOOLEAN) {
+                this.setLong(row, ((Boolean) data) ? 1 : 0, valueType);
+            } else if (valueType == Types.DOUBLE) {
+                this.setDouble(row, ((Number) data).doubleValue());
+            } else if (valueType == Types.NUMERIC) {
+                this.setDecimal(row, (BigDecimal) data);
+            } else if (data instanceof java.util.Date) {
+                this.setLong(row, ((java.util.Date) data).getTime(), valueType);
+            } else {
+                this.setLong(row, ((Number) data).longValue(), valueType);
+            }
+            return;
+        }
+        this.setObject(row, value);
+    }
+
+    /**
+     * Gets a fixed point value as double.
+     *
+     * @param row
+     *            the row.
+     * @return the value or zero if NULL.
+     */
+    private double getDecimalDouble(final int row) {
+        if (this.hasObject(row)) {
+            return ((BigDecimal) this.objects[row].getValue()).doubleValue();
+        }
+        return DecimalUtils.toDouble(this.getRaw(row), this.scale);
+    }
+
+    /**
+     * Gets a fixed point value as long, discarding the decimal digits.
+     *
+     * @param row
+     *            the row.
+     * @return the value or zero if NULL.
+     */
+    private long getDecimalLong(final int row) {
+        if (this.hasObject(row)) {
+            return ((BigDecimal) this.objects[row].getValue()).longValue();
+        }
+        long value = this.getRaw(row);
+        for (int loop = 0; (loop < this.scale) && (value != 0); loop++) {
+            value /= 10;
+        }
+        return value;
+    }
+
+    /**
+     * Stores a fixed point value, in the long array if possible.
+     *
+     * @param row
+     *            the row.
+     * @param value
+     *            the value.
+     */
+    private void setDecimal(final int row, final BigDecimal value) {
+        if (value.unscaledValue().bitLength() < Long.SIZE) {
+            this.setDecimal(row, value.unscaledValue().longValue(), value.scale());
+        } else {
+            this.setObject(row, new FieldValue(value, Types.NUMERIC));
+        }
+    }
+
+    /**
+     * Stores a value as {@link FieldValue}.
+     *
+     * @param row
+     *            the row.
+     * @param value
+     *            the value.
+     */
+    private void setObject(final int row, final FieldValue value) {
+        if (this.objects == null) {
+            this.objects = new FieldValue[this.capacity];
+        }
+        if (this.longs != null) {
+            this.longs[row] = 0;
+        }
+        this.type = value.getType();
+        this.objects[row] = value;
+        this.validity[row / Long.SIZE] |= 1L << row;
+    }
+
+    /**
+     * Gets the raw value of a primitive row.
+     *
+     * @param row
+     *            the row.
+     * @return the raw value or zero if NULL.
+     */
+    private long getRaw(final int row) {
+        if (this.isValid(row)) {
+            return this.longs[row];
+        }
+        return 0;
+    }
+
+    /**
+     * If the row has a value set.
+     *
+     * @param row
+     *            the row.
+     * @return true if the row has a value set.
+     */
+    private boolean isValid(final int row) {
+        return (this.validity[row / Long.SIZE] & (1L << row)) != 0;
+    }
+}
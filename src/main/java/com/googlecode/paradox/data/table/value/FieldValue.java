@@ -10,6 +10,8 @@ package com.googlecode.paradox.data.table.value;
 
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.utils.SQLStates;
+import com.googlecode.paradox.utils.StringDecoder;
+import java.nio.charset.Charset;
 import java.sql.Date;
 import java.sql.SQLDataException;
 import java.sql.Time;
@@ -20,7 +22,7 @@ import java.sql.Types;
  * Stores the database values in Java format.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.4
  * @since 1.0
  */
 public final class FieldValue {
@@ -33,6 +35,22 @@ public final class FieldValue {
      * Reference on field.
      */
     private ParadoxField field;
+    /**
+     * Raw string bytes, decoded only when requested.
+     */
+    private byte[] bytes;
+    /**
+     * The raw string charset.
+     */
+    private Charset charset;
+    /**
+     * If the Java value is created only when requested.
+     */
+    private boolean lazy;
+    /**
+     * Date and time values in milliseconds since 1970, converted to Java only when requested.
+     */
+    private long millis;
     /**
      * Value type in database.
      *
@@ -67,6 +85,39 @@ public final class FieldValue {
         this.value = value;
     }
     
+    /**
+     * Store a date or time value in milliseconds.
+     *
+     * @param millis
+     *            the milliseconds since 1970.
+     * @param type
+     *            Database value type ({@link Types#DATE}, {@link Types#TIME} or {@link Types#TIMESTAMP}).
+     * @return the field value.
+     */
+    public static FieldValue ofMillis(final long millis, final int type) {
+        final FieldValue value = new FieldValue(type);
+        value.millis = millis;
+        value.lazy = true;
+        return value;
+    }
+    
+    /**
+     * Store a string value not decoded yet.
+     *
+     * @param bytes
+     *            the string bytes, not changed after this call.
+     * @param charset
+     *            the string charset.
+     * @return the field value.
+     */
+    public static FieldValue ofString(final byte[] bytes, final Charset charset) {
+        final FieldValue value = new FieldValue(Types.VARCHAR);
+        value.bytes = bytes;
+        value.charset = charset;
+        value.lazy = true;
+        return value;
+    }
+    
     /**
      * Check for value type and return an Boolean value.
      *
@@ -92,7 +143,7 @@ public final class FieldValue {
         if (this.type != Types.DATE) {
             throw new SQLDataException(FieldValue.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
         }
-        return (Date) this.value;
+        return (Date) this.getValue();
     }
     
     /**
@@ -104,6 +155,29 @@ public final class FieldValue {
         return this.field;
     }
     
+    /**
+     * Gets a date or time value in milliseconds since 1970 without creating the Java value.
+     *
+     * @return the milliseconds since 1970.
+     * @throws SQLDataException
+     *             if this is not a date or time value or if the value is NULL.
+     */
+    public long getMillis() throws SQLDataException {
+        switch (this.type) {
+            case Types.DATE:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+                if (this.lazy) {
+                    return this.millis;
+                } else if (this.value != null) {
+                    return ((java.util.Date) this.value).getTime();
+                }
+                throw new SQLDataException("Null value.", SQLStates.INVALID_FIELD_VALUE.getValue());
+            default:
+                throw new SQLDataException(FieldValue.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
+        }
+    }
+    
     /**
      * Check for value type and return an Number value.
      *
@@ -116,6 +190,7 @@ public final class FieldValue {
             case Types.INTEGER:
             case Types.BIGINT:
             case Types.DOUBLE:
+            case Types.NUMERIC:
                 return (Number) this.value;
             default:
                 throw new SQLDataException(FieldValue.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
@@ -133,7 +208,7 @@ public final class FieldValue {
         if (this.type != Types.TIME) {
             throw new SQLDataException(FieldValue.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
         }
-        return (Time) this.value;
+        return (Time) this.getValue();
     }
     
     /**
@@ -147,7 +222,7 @@ public final class FieldValue {
         if (this.type != Types.TIMESTAMP) {
             throw new SQLDataException(FieldValue.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
         }
-        return (Timestamp) this.value;
+        return (Timestamp) this.getValue();
     }
     
     /**
@@ -165,6 +240,37 @@ public final class FieldValue {
      * @return the field value in Java format.
      */
     public Object getValue() {
+        if (this.lazy && (this.value == null)) {
+            switch (this.type) {
+                case Types.DATE:
+                    this.value = new Date(this.millis);
+                    break;
+                case Types.TIME:
+                    this.value = new Time(this.millis);
+                    break;
+                case Types.TIMESTAMP:
+                    this.value = new Timestamp(this.millis);
+                    break;
+                default:
+                    this.value = StringDecoder.decode(this.bytes, 0, this.bytes.length, this.charset);
+                    this.bytes = null;
+                    this.charset = null;
+                    break;
+            }
+        }
+        return this.value;
+    }
+    
+    /**
+     * Gets the value held in memory, without creating the Java value: the raw bytes of a string not decoded yet, or
+     * null for a date or time value not created yet.
+     *
+     * @return the value held in memory.
+     */
+    Object getRawValue() {
+        if (this.bytes != null) {
+            return this.bytes;
+        }
         return this.value;
     }
     
@@ -174,7 +280,7 @@ public final class FieldValue {
      * @return true if this value is NULL.
      */
     public boolean isNull() {
-        return this.value == null;
+        return (this.value == null) && !this.lazy;
     }
     
     /**
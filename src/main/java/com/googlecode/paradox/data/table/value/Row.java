@@ -0,0 +1,257 @@
+/*
+ * Row.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.table.value;
+
+import com.googlecode.paradox.data.ValueSink;
+import com.googlecode.paradox.metadata.ParadoxField;
+import java.sql.SQLDataException;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A row of a {@link RowBatch}.
+ * <p>
+ * The values stay in the batch column vectors: integer, floating point, boolean and date and time values are read by
+ * the typed getters without boxing. The list view creates the {@link FieldValue} of the primitive values only when
+ * requested.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4.0
+ */
+public final class Row extends AbstractList<FieldValue> implements RandomAccess, ValueSink {
+
+    /**
+     * The batch storing the values.
+     */
+    private final RowBatch batch;
+
+    /**
+     * The row index in batch.
+     */
+    private final int index;
+
+    /**
+     * Creates a standalone row.
+     *
+     * @param fields
+     *            the fields by column, not changed after this call.
+     */
+    public Row(final ParadoxField[] fields) {
+        this(new RowBatch(fields, 1), 0);
+        this.batch.addRow();
+    }
+
+    /**
+     * Creates a row view.
+     *
+     * @param batch
+     *            the batch storing the values.
+     * @param index
+     *            the row index in batch.
+     */
+    Row(final RowBatch batch, final int index) {
+        this.batch = batch;
+        this.index = index;
+    }
+
+    /**
+     * Gets the column value as {@link FieldValue}.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the column value.
+     */
+    @Override
+    public FieldValue get(final int column) {
+        return this.batch.getVector(column).get(this.index, this.batch.getField(column));
+    }
+
+    /**
+     * Gets the batch storing the values.
+     *
+     * @return the batch storing the values.
+     */
+    public RowBatch getBatch() {
+        return this.batch;
+    }
+
+    /**
+     * Gets a boolean value without boxing.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the value or false if NULL.
+     * @throws SQLDataException
+     *             if this is not a boolean value.
+     */
+    public boolean getBoolean(final int column) throws SQLDataException {
+        return this.batch.getVector(column).getBoolean(this.index);
+    }
+
+    /**
+     * Gets a numeric value as double without boxing.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the value or zero if NULL.
+     * @throws SQLDataException
+     *             if this is not a numeric value.
+     */
+    public double getDouble(final int column) throws SQLDataException {
+        return this.batch.getVector(column).getDouble(this.index);
+    }
+
+    /**
+     * Gets the column field.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the column field.
+     */
+    public ParadoxField getField(final int column) {
+        return this.batch.getField(column);
+    }
+
+    /**
+     * Gets the row index in batch.
+     *
+     * @return the row index in batch.
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Gets a numeric value as int without boxing.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the value or zero if NULL.
+     * @throws SQLDataException
+     *             if this is not a numeric value.
+     */
+    public int getInt(final int column) throws SQLDataException {
+        return this.batch.getVector(column).getInt(this.index);
+    }
+
+    /**
+     * Gets a numeric value as long without boxing.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the value or zero if NULL.
+     * @throws SQLDataException
+     *             if this is not a numeric value.
+     */
+    public long getLong(final int column) throws SQLDataException {
+        return this.batch.getVector(column).getLong(this.index);
+    }
+
+    /**
+     * Gets the value type.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the value type or {@link java.sql.Types#NULL} if the column is not set.
+     */
+    public int getType(final int column) {
+        return this.batch.getVector(column).getType();
+    }
+
+    /**
+     * Gets the value in Java format.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the value in Java format.
+     */
+    public Object getValue(final int column) {
+        return this.get(column).getValue();
+    }
+
+    /**
+     * Check for null value.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return true if this value is NULL.
+     */
+    public boolean isNull(final int column) {
+        return this.batch.getVector(column).isNull(this.index);
+    }
+
+    /**
+     * Copy a value from other row, without boxing if the source is also a {@link Row}.
+     *
+     * @param column
+     *            the column index in this row.
+     * @param source
+     *            the row to copy from.
+     * @param sourceColumn
+     *            the column index in the source row.
+     */
+    public void set(final int column, final List<FieldValue> source, final int sourceColumn) {
+        if (source instanceof Row) {
+            final Row row = (Row) source;
+            this.batch.getVector(column).copy(this.index, row.batch.getVector(sourceColumn), row.index);
+        } else {
+            this.setValue(column, source.get(sourceColumn));
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setDecimal(final int column, final long unscaled, final int scale) {
+        this.batch.getVector(column).setDecimal(this.index, unscaled, scale);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setDouble(final int column, final double value) {
+        this.batch.getVector(column).setDouble(this.index, value);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setLong(final int column, final long value, final int type) {
+        this.batch.getVector(column).setLong(this.index, value, type);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setNull(final int column, final int type) {
+        this.batch.getVector(column).setNull(this.index, type);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setValue(final int column, final FieldValue value) {
+        this.batch.setValue(column, this.index, value);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int size() {
+        return this.batch.getColumnCount();
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * RowBatch.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.table.value;
+
+import com.googlecode.paradox.data.ValueSink;
+import com.googlecode.paradox.metadata.ParadoxField;
+
+/**
+ * A fixed size batch of rows stored by column.
+ * <p>
+ * Each column has its own {@link ColumnVector}. As a {@link ValueSink}, the values are stored in the last row added.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.3
+ * @since 1.4.0
+ */
+public final class RowBatch implements ValueSink {
+
+    /**
+     * Default amount of rows in a batch.
+     */
+    public static final int SIZE = 1024;
+
+    /**
+     * Max rows in this batch.
+     */
+    private final int capacity;
+
+    /**
+     * The fields by column.
+     */
+    private final ParadoxField[] fields;
+
+    /**
+     * Amount of rows in this batch.
+     */
+    private int size;
+
+    /**
+     * The column values.
+     */
+    private final ColumnVector[] vectors;
+
+    /**
+     * Creates a batch with the default size.
+     *
+     * @param fields
+     *            the fields by column, not changed after this call.
+     */
+    public RowBatch(final ParadoxField[] fields) {
+        this(fields, RowBatch.SIZE);
+    }
+
+    /**
+     * Creates a new batch.
+     *
+     * @param fields
+     *            the fields by column, not changed after this call.
+     * @param capacity
+     *            max rows in this batch.
+     */
+    public RowBatch(final ParadoxField[] fields, final int capacity) {
+        this.capacity = capacity;
+        this.fields = fields;
+        this.vectors = new ColumnVector[fields.length];
+        for (int loop = 0; loop < fields.length; loop++) {
+            this.vectors[loop] = new ColumnVector(capacity);
+        }
+    }
+
+    /**
+     * Adds a row with all values NULL.
+     *
+     * @return the new row index.
+     * @throws IllegalStateException
+     *             if the batch is full.
+     */
+    public int addRow() {
+        if (this.isFull()) {
+            throw new IllegalStateException("Row batch is full.");
+        }
+        return this.size++;
+    }
+
+    /**
+     * Gets a batch with only the rows of this one.
+     *
+     * @return this batch if full or a copy with capacity for its rows.
+     */
+    public RowBatch compact() {
+        if (this.isFull()) {
+            return this;
+        }
+        final RowBatch ret = new RowBatch(this.fields, this.size);
+        for (int row = 0; row < this.size; row++) {
+            ret.addRow();
+            for (int column = 0; column < this.vectors.length; column++) {
+                ret.vectors[column].copy(row, this.vectors[column], row);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Estimates the memory used by this batch.
+     *
+     * @return the estimated size in bytes.
+     */
+    public long estimateSize() {
+        long size = ColumnVector.HEADER_SIZE * 2L;
+        for (final ColumnVector vector : this.vectors) {
+            size += vector.estimateSize();
+        }
+        return size;
+    }
+
+    /**
+     * Gets the amount of columns.
+     *
+     * @return the amount of columns.
+     */
+    public int getColumnCount() {
+        return this.vectors.length;
+    }
+
+    /**
+     * Gets the column field.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the column field.
+     */
+    public ParadoxField getField(final int column) {
+        return this.fields[column];
+    }
+
+    /**
+     * Gets a row view.
+     *
+     * @param row
+     *            the row index.
+     * @return the row view.
+     */
+    public Row getRow(final int row) {
+        return new Row(this, row);
+    }
+
+    /**
+     * Gets the column values.
+     *
+     * @param column
+     *            the column index, starting at zero.
+     * @return the column values.
+     */
+    public ColumnVector getVector(final int column) {
+        return this.vectors[column];
+    }
+
+    /**
+     * If no more rows can be added.
+     *
+     * @return true if no more rows can be added.
+     */
+    public boolean isFull() {
+        return this.size == this.capacity;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setDecimal(final int column, final long unscaled, final int scale) {
+        this.vectors[column].setDecimal(this.size - 1, unscaled, scale);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setDouble(final int column, final double value) {
+        this.vectors[column].setDouble(this.size - 1, value);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setLong(final int column, final long value, final int type) {
+        this.vectors[column].setLong(this.size - 1, value, type);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setNull(final int column, final int type) {
+        this.vectors[column].setNull(this.size - 1, type);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void setValue(final int column, final FieldValue value) {
+        this.setValue(column, this.size - 1, value);
+    }
+
+    /**
+     * Stores a value in a row, setting the value field.
+     *
+     * @param column
+     *            the column index.
+     * @param row
+     *            the row index.
+     * @param value
+     *            the value.
+     */
+    void setValue(final int column, final int row, final FieldValue value) {
+        if (value.getField() == null) {
+            value.setField(this.fields[column]);
+        }
+        this.vectors[column].setValue(row, value);
+    }
+
+    /**
+     * Gets the amount of rows.
+     *
+     * @return the amount of rows.
+     */
+    public int size() {
+        return this.size;
+    }
+}
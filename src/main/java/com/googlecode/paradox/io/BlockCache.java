@@ -0,0 +1,352 @@
+/*
+ * BlockCache.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.io;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Driver wide cache of raw table blocks.
+ * <p>
+ * The blocks are stored by file, file generation (size and modification time) and block number, and evicted in LRU
+ * order when the byte budget is reached. Files bigger than a quarter of the budget are never cached, so a full scan
+ * in a big table don't evict the small lookup tables.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class BlockCache {
+
+    /**
+     * Default cache size in bytes.
+     */
+    public static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+    /**
+     * The driver cache instance.
+     */
+    private static final BlockCache INSTANCE = new BlockCache(BlockCache.DEFAULT_MAX_BYTES);
+
+    /**
+     * The cached blocks in access order.
+     */
+    private final LinkedHashMap<Key, byte[]> blocks = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * Bytes in cache.
+     */
+    private long bytes;
+
+    /**
+     * The current generation of each cached file.
+     */
+    private final Map<File, Generation> generations = new HashMap<>();
+
+    /**
+     * Max bytes in cache.
+     */
+    private long maxBytes;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxBytes
+     *            max bytes in cache.
+     */
+    public BlockCache(final long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets the driver cache.
+     *
+     * @return the driver cache.
+     */
+    public static BlockCache getInstance() {
+        return BlockCache.INSTANCE;
+    }
+
+    /**
+     * Remove all blocks.
+     */
+    public synchronized void clear() {
+        this.blocks.clear();
+        this.generations.clear();
+        this.bytes = 0;
+    }
+
+    /**
+     * Gets a block from cache.
+     *
+     * @param generation
+     *            the file generation.
+     * @param block
+     *            the block number.
+     * @return the block data or null if not in cache. The data must not be changed.
+     */
+    public synchronized byte[] get(final Generation generation, final int block) {
+        if (!this.checkGeneration(generation)) {
+            return null;
+        }
+        return this.blocks.get(new Key(generation, block));
+    }
+
+    /**
+     * Gets the bytes in cache.
+     *
+     * @return the bytes in cache.
+     */
+    public synchronized long getBytes() {
+        return this.bytes;
+    }
+
+    /**
+     * Gets the max bytes in cache.
+     *
+     * @return the max bytes in cache.
+     */
+    public synchronized long getMaxBytes() {
+        return this.maxBytes;
+    }
+
+    /**
+     * If a file with this size can be cached.
+     *
+     * @param size
+     *            the file size.
+     * @return true if the file can be cached.
+     */
+    public synchronized boolean isCacheable(final long size) {
+        return size <= (this.maxBytes / 4);
+    }
+
+    /**
+     * Stores a block in cache.
+     *
+     * @param generation
+     *            the file generation.
+     * @param block
+     *            the block number.
+     * @param data
+     *            the block data. The data must not be changed after this call.
+     */
+    public synchronized void put(final Generation generation, final int block, final byte[] data) {
+        if (!this.checkGeneration(generation)) {
+            return;
+        }
+        final byte[] old = this.blocks.put(new Key(generation, block), data);
+        if (old != null) {
+            this.bytes -= old.length;
+        }
+        this.bytes += data.length;
+        this.evict();
+    }
+
+    /**
+     * Changes the max bytes in cache.
+     *
+     * @param maxBytes
+     *            the max bytes in cache.
+     */
+    public synchronized void setMaxBytes(final long maxBytes) {
+        this.maxBytes = maxBytes;
+        this.evict();
+    }
+
+    /**
+     * Gets the amount of blocks in cache.
+     *
+     * @return the amount of blocks in cache.
+     */
+    public synchronized int size() {
+        return this.blocks.size();
+    }
+
+    /**
+     * Check for file changes, removing the old blocks.
+     *
+     * @param generation
+     *            the file generation.
+     * @return false if the generation is older than the one in cache.
+     */
+    private boolean checkGeneration(final Generation generation) {
+        final Generation current = this.generations.get(generation.file);
+        if (generation.equals(current)) {
+            return true;
+        }
+        if ((current != null) && (current.lastModified > generation.lastModified)) {
+            return false;
+        }
+        this.generations.put(generation.file, generation);
+        if (current != null) {
+            final Iterator<Map.Entry<Key, byte[]>> it = this.blocks.entrySet().iterator();
+            while (it.hasNext()) {
+                final Map.Entry<Key, byte[]> entry = it.next();
+                if (entry.getKey().generation.file.equals(generation.file)) {
+                    this.bytes -= entry.getValue().length;
+                    it.remove();
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remove the least used blocks until the cache fits in the max bytes.
+     */
+    private void evict() {
+        final Iterator<Map.Entry<Key, byte[]>> it = this.blocks.entrySet().iterator();
+        while ((this.bytes > this.maxBytes) && it.hasNext()) {
+            this.bytes -= it.next().getValue().length;
+            it.remove();
+        }
+    }
+
+    /**
+     * A file version, identified by its size and modification time.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4.0
+     */
+    public static final class Generation {
+
+        /**
+         * The file.
+         */
+        private final File file;
+
+        /**
+         * The file modification time.
+         */
+        private final long lastModified;
+
+        /**
+         * The file size.
+         */
+        private final long size;
+
+        /**
+         * Creates the current generation of a file.
+         *
+         * @param file
+         *            the file.
+         */
+        public Generation(final File file) {
+            this.file = file.getAbsoluteFile();
+            this.size = this.file.length();
+            this.lastModified = this.file.lastModified();
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if ((obj == null) || (this.getClass() != obj.getClass())) {
+                return false;
+            }
+            final Generation other = (Generation) obj;
+            return (this.size == other.size) && (this.lastModified == other.lastModified)
+                    && this.file.equals(other.file);
+        }
+
+        /**
+         * Gets the file.
+         *
+         * @return the file.
+         */
+        public File getFile() {
+            return this.file;
+        }
+
+        /**
+         * Gets the file size.
+         *
+         * @return the file size.
+         */
+        public long getSize() {
+            return this.size;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public int hashCode() {
+            int hash = this.file.hashCode();
+            hash = (31 * hash) + (int) (this.size ^ (this.size >>> 32));
+            hash = (31 * hash) + (int) (this.lastModified ^ (this.lastModified >>> 32));
+            return hash;
+        }
+    }
+
+    /**
+     * The cache key.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4.0
+     */
+    private static final class Key {
+
+        /**
+         * The block number.
+         */
+        private final int block;
+
+        /**
+         * The file generation.
+         */
+        private final Generation generation;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param generation
+         *            the file generation.
+         * @param block
+         *            the block number.
+         */
+        Key(final Generation generation, final int block) {
+            this.generation = generation;
+            this.block = block;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if ((obj == null) || (this.getClass() != obj.getClass())) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return (this.block == other.block) && this.generation.equals(other.generation);
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public int hashCode() {
+            return (31 * this.generation.hashCode()) + this.block;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * BlockPrefetcher.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads a block chain in background, some blocks ahead of the consumer.
+ * <p>
+ * The I/O thread follows the chain and queues the blocks while the consumer decodes the current one. Not cached
+ * tables use a small ring of buffers reused by the next blocks.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4.0
+ */
+public final class BlockPrefetcher implements Closeable {
+
+    /**
+     * Marks the end of chain in queue.
+     */
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    /**
+     * Threads shared by all prefetchers.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+
+        /**
+         * Thread counter.
+         */
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread thread = new Thread(r, "paradox-prefetch-" + this.count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    /**
+     * The block being decoded.
+     */
+    private ByteBuffer current;
+
+    /**
+     * The error found by the I/O thread.
+     */
+    private volatile Throwable error;
+
+    /**
+     * The blocks read.
+     */
+    private final BlockingQueue<ByteBuffer> filled = new LinkedBlockingQueue<>();
+
+    /**
+     * Buffers free to reuse.
+     */
+    private final ConcurrentLinkedQueue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Blocks allowed to be read ahead.
+     */
+    private final Semaphore permits;
+
+    /**
+     * The block reader.
+     */
+    private final BlockReader reader;
+
+    /**
+     * If the I/O task is started or the reading is stopped.
+     */
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    /**
+     * If the reading is stopped.
+     */
+    private volatile boolean stopped;
+
+    /**
+     * Creates a new instance and starts the reading.
+     *
+     * @param reader
+     *            the block reader, closed at the end of reading.
+     * @param firstBlock
+     *            the first block in chain.
+     * @param depth
+     *            amount of blocks to read ahead.
+     */
+    public BlockPrefetcher(final BlockReader reader, final int firstBlock, final int depth) {
+        this.reader = reader;
+        // One more for the block being decoded.
+        this.permits = new Semaphore(Math.max(depth, 1) + 1);
+        BlockPrefetcher.EXECUTOR.execute(new Runnable() {
+
+            @Override
+            public void run() {
+                BlockPrefetcher.this.readChain(firstBlock);
+            }
+        });
+    }
+
+    /**
+     * Stops the reading.
+     */
+    @Override
+    public void close() {
+        // Not interrupted: an interrupted read closes the shared channel.
+        this.stopped = true;
+        this.permits.release(Integer.MAX_VALUE >> 1);
+        if (this.started.compareAndSet(false, true)) {
+            this.reader.close();
+        }
+        this.filled.clear();
+        this.current = null;
+    }
+
+    /**
+     * Gets the next block in chain. The previous block buffer may be reused.
+     *
+     * @return the next block or null at the end of chain.
+     * @throws IOException
+     *             in case of I/O errors or any other failure of the I/O thread.
+     */
+    public ByteBuffer next() throws IOException {
+        if (this.current != null) {
+            if (!this.reader.isCacheable()) {
+                this.free.offer(this.current);
+            }
+            this.current = null;
+            this.permits.release();
+        }
+
+        final ByteBuffer block;
+        try {
+            block = this.filled.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
+        if (block == BlockPrefetcher.END) {
+            this.filled.offer(BlockPrefetcher.END);
+            if (this.error instanceof IOException) {
+                throw (IOException) this.error;
+            } else if (this.error instanceof Error) {
+                throw (Error) this.error;
+            } else if (this.error != null) {
+                throw new IOException(this.error.getMessage(), this.error);
+            }
+            return null;
+        }
+        this.current = block;
+        return block;
+    }
+
+    /**
+     * Reads the chain in the I/O thread.
+     *
+     * @param firstBlock
+     *            the first block in chain.
+     */
+    private void readChain(final int firstBlock) {
+        if (!this.started.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int nextBlock = firstBlock;
+            do {
+                this.permits.acquire();
+                if (this.stopped) {
+                    break;
+                }
+                final ByteBuffer data = this.reader.read(nextBlock);
+                if (data.remaining() < 2) {
+                    throw new IOException("Block " + nextBlock + " out of file bounds.");
+                }
+                final ByteBuffer block;
+                if (this.reader.isCacheable()) {
+                    // Cached blocks are never changed.
+                    block = data;
+                } else {
+                    block = this.copy(data);
+                }
+                nextBlock = block.order(ByteOrder.LITTLE_ENDIAN).getShort(0) & 0xFFFF;
+                this.filled.put(block);
+            } while (nextBlock != 0);
+        } catch (final InterruptedException e) {
+            if (!this.stopped) {
+                this.error = new InterruptedIOException(e.getMessage());
+            }
+            Thread.currentThread().interrupt();
+        } catch (final Throwable e) {
+            // Any failure must reach the consumer, or it would see a truncated chain as complete.
+            this.error = e;
+        } finally {
+            this.reader.close();
+            this.filled.offer(BlockPrefetcher.END);
+        }
+    }
+
+    /**
+     * Copy the block to a ring buffer.
+     *
+     * @param data
+     *            the block data.
+     * @return the ring buffer.
+     */
+    private ByteBuffer copy(final ByteBuffer data) {
+        ByteBuffer block = this.free.poll();
+        if ((block == null) || (block.capacity() < data.remaining())) {
+            block = ByteBuffer.allocate(Math.max(data.remaining(), this.reader.getBlockSize()));
+        }
+        block.clear();
+        block.put(data);
+        block.flip();
+        return block;
+    }
+}
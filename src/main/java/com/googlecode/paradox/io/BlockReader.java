@@ -0,0 +1,416 @@
+/*
+ * BlockReader.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.io;
+
+import com.googlecode.paradox.management.ParadoxMetrics;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Reads the data blocks of a table file, using the block cache when the file is small enough.
+ * <p>
+ * Runs of consecutive blocks are fetched with a single read. The run length grows while the blocks are requested in
+ * sequence and restarts at one block after a jump in the chain. The file channel is only acquired at the first block
+ * not found in cache. A reader must be used by only one thread. The read counters are added to the metrics when the
+ * reader is closed.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.6
+ * @since 1.4.0
+ */
+public final class BlockReader implements Closeable {
+
+    /**
+     * The block header size.
+     */
+    private static final int BLOCK_HEADER_SIZE = 6;
+
+    /**
+     * Max bytes fetched in a single read.
+     */
+    private static final int MAX_RUN_BYTES = 256 * 1024;
+
+    /**
+     * Amount of blocks in file.
+     */
+    private final int blockCount;
+
+    /**
+     * The block size in bytes.
+     */
+    private final int blockSize;
+
+    /**
+     * Amount of blocks requested, not yet added to the metrics.
+     */
+    private long blocksRequested;
+
+    /**
+     * Bytes read from file, not yet added to the metrics.
+     */
+    private long bytesRead;
+
+    /**
+     * The block cache.
+     */
+    private final BlockCache cache;
+
+    /**
+     * Block reads found in cache, not yet added to the metrics.
+     */
+    private long cacheHits;
+
+    /**
+     * Block reads not found in cache, not yet added to the metrics.
+     */
+    private long cacheMisses;
+
+    /**
+     * If the file blocks can be cached.
+     */
+    private final boolean cacheable;
+
+    /**
+     * The file channel.
+     */
+    private PooledChannel channel;
+
+    /**
+     * The current file generation.
+     */
+    private final BlockCache.Generation generation;
+
+    /**
+     * Buffer used to read only the block headers.
+     */
+    private ByteBuffer header;
+
+    /**
+     * The file header size.
+     */
+    private final int headerSize;
+
+    /**
+     * The last block requested.
+     */
+    private int lastBlock;
+
+    /**
+     * Max blocks fetched in a single read.
+     */
+    private final int maxRun;
+
+    /**
+     * The metrics to add the reads to.
+     */
+    private ParadoxMetrics metrics = ParadoxMetrics.getDriverMetrics();
+
+    /**
+     * Amount of reads in file.
+     */
+    private long reads;
+
+    /**
+     * Current run length.
+     */
+    private int runLength;
+
+    /**
+     * Blocks read when the file is not cached. Reused in the next reads and grown for larger runs.
+     */
+    private ByteBuffer window;
+
+    /**
+     * Amount of blocks in window.
+     */
+    private int windowCount;
+
+    /**
+     * The first block in window.
+     */
+    private int windowFirst;
+
+    /**
+     * Creates a new instance using the driver block cache.
+     *
+     * @param file
+     *            the table file.
+     * @param headerSize
+     *            the file header size.
+     * @param blockSize
+     *            the block size in bytes.
+     */
+    public BlockReader(final File file, final int headerSize, final int blockSize) {
+        this(file, headerSize, blockSize, BlockCache.getInstance());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param file
+     *            the table file.
+     * @param headerSize
+     *            the file header size.
+     * @param blockSize
+     *            the block size in bytes.
+     * @param cache
+     *            the block cache to use.
+     */
+    public BlockReader(final File file, final int headerSize, final int blockSize, final BlockCache cache) {
+        this.headerSize = headerSize;
+        this.blockSize = blockSize;
+        this.cache = cache;
+        this.generation = new BlockCache.Generation(file);
+        this.cacheable = cache.isCacheable(this.generation.getSize());
+        this.maxRun = Math.max(1, BlockReader.MAX_RUN_BYTES / blockSize);
+        this.blockCount = (int) (((this.generation.getSize() - headerSize) + blockSize - 1) / blockSize);
+    }
+
+    /**
+     * Release the file channel and add the read counters to the metrics.
+     */
+    @Override
+    public void close() {
+        if (this.channel != null) {
+            this.channel.close();
+            this.channel = null;
+        }
+        if ((this.blocksRequested > 0) || (this.bytesRead > 0)) {
+            this.metrics.addReads(this.generation.getFile().getName(), this.blocksRequested, this.bytesRead,
+                    this.cacheHits, this.cacheMisses);
+            this.blocksRequested = 0;
+            this.bytesRead = 0;
+            this.cacheHits = 0;
+            this.cacheMisses = 0;
+        }
+    }
+
+    /**
+     * Gets the amount of blocks in file.
+     *
+     * @return the amount of blocks in file.
+     */
+    public int getBlockCount() {
+        return this.blockCount;
+    }
+
+    /**
+     * Gets the block size.
+     *
+     * @return the block size in bytes.
+     */
+    public int getBlockSize() {
+        return this.blockSize;
+    }
+
+    /**
+     * Gets the next block in chain, reading only the block header if the file is not cached and the block does not
+     * follow the last one read. Blocks in sequence are read in runs, like {@link #read(int)}.
+     *
+     * @param block
+     *            the block number, starting at one.
+     * @return the next block number or zero in the last block.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    public int getNextBlock(final int block) throws IOException {
+        if (this.cacheable || this.isInWindow(block) || (block == (this.lastBlock + 1))) {
+            final ByteBuffer data = this.read(block);
+            if (data.remaining() < 2) {
+                throw new IOException("Block " + block + " out of file bounds.");
+            }
+            return data.order(ByteOrder.LITTLE_ENDIAN).getShort(0) & 0xFFFF;
+        }
+
+        // The next block in sequence starts a run.
+        this.lastBlock = block;
+        this.runLength = 1;
+        if (this.header == null) {
+            this.header = ByteBuffer.allocate(BlockReader.BLOCK_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        this.header.clear();
+        if (this.readBlocks(this.header, block) < 2) {
+            throw new IOException("Block " + block + " out of file bounds.");
+        }
+        return this.header.getShort(0) & 0xFFFF;
+    }
+
+    /**
+     * Gets the max blocks read at once.
+     *
+     * @return the max blocks read at once.
+     */
+    public int getMaxRun() {
+        return this.maxRun;
+    }
+
+    /**
+     * Gets the amount of reads in file.
+     *
+     * @return the amount of reads in file.
+     */
+    public long getReads() {
+        return this.reads;
+    }
+
+    /**
+     * If the file blocks are kept in cache.
+     *
+     * @return true if the file blocks are kept in cache.
+     */
+    public boolean isCacheable() {
+        return this.cacheable;
+    }
+
+    /**
+     * Reads a block, fetching the next blocks too if the blocks are requested in sequence.
+     *
+     * @param block
+     *            the block number, starting at one.
+     * @return the block data. For not cached files, the buffer is reused in the next reads.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    public ByteBuffer read(final int block) throws IOException {
+        if (block == (this.lastBlock + 1)) {
+            this.runLength = Math.min(Math.max(this.runLength, 1) * 2, this.maxRun);
+        } else {
+            this.runLength = 1;
+        }
+        return this.read(block, this.runLength);
+    }
+
+    /**
+     * Reads a block, fetching the next blocks too if not already read.
+     *
+     * @param block
+     *            the block number, starting at one.
+     * @param run
+     *            amount of consecutive blocks, starting at this block, that will be requested.
+     * @return the block data. For not cached files, the buffer is reused in the next reads.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    public ByteBuffer read(final int block, final int run) throws IOException {
+        this.lastBlock = block;
+        this.blocksRequested++;
+        final int count = Math.max(1, Math.min(Math.min(run, this.maxRun), (this.blockCount - block) + 1));
+        if (this.cacheable) {
+            return ByteBuffer.wrap(this.readCached(block, count));
+        }
+
+        if (!this.isInWindow(block)) {
+            if ((this.window == null) || (this.window.capacity() < (count * this.blockSize))) {
+                // Grows with the run requested, never beyond the max run.
+                this.window = ByteBuffer.allocate(count * this.blockSize);
+            }
+            this.window.clear();
+            this.window.limit(count * this.blockSize);
+            final int read = this.readBlocks(this.window, block);
+            this.window.flip();
+            this.windowFirst = block;
+            this.windowCount = (Math.max(read, 0) + this.blockSize - 1) / this.blockSize;
+        }
+
+        final ByteBuffer data = this.window.duplicate();
+        final int offset = Math.min((block - this.windowFirst) * this.blockSize, data.limit());
+        data.position(offset);
+        data.limit(Math.min(offset + this.blockSize, data.limit()));
+        return data.slice();
+    }
+
+    /**
+     * Changes the metrics to add the reads to.
+     *
+     * @param metrics
+     *            the metrics to add the reads to.
+     */
+    public void setMetrics(final ParadoxMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * If the block is in the reused window.
+     *
+     * @param block
+     *            the block number.
+     * @return true if the block is in window.
+     */
+    private boolean isInWindow(final int block) {
+        return (this.windowCount > 0) && (block >= this.windowFirst) && (block < (this.windowFirst + this.windowCount));
+    }
+
+    /**
+     * Reads blocks from file.
+     *
+     * @param dst
+     *            the buffer to fill.
+     * @param block
+     *            the first block number.
+     * @return the bytes read.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    private int readBlocks(final ByteBuffer dst, final int block) throws IOException {
+        if (this.channel == null) {
+            this.channel = ChannelPool.getInstance().acquire(this.generation.getFile());
+        }
+        this.reads++;
+        final int read = this.channel.read(dst, this.headerSize + ((block - 1) * (long) this.blockSize));
+        if (read > 0) {
+            this.bytesRead += read;
+        }
+        return read;
+    }
+
+    /**
+     * Reads a block using the block cache.
+     *
+     * @param block
+     *            the block number.
+     * @param count
+     *            amount of blocks to read if not in cache.
+     * @return the block data.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    private byte[] readCached(final int block, final int count) throws IOException {
+        final byte[] cached = this.cache.get(this.generation, block);
+        if (cached != null) {
+            this.cacheHits++;
+            return cached;
+        }
+        this.cacheMisses++;
+
+        final byte[] run = new byte[count * this.blockSize];
+        final int read = this.readBlocks(ByteBuffer.wrap(run), block);
+        if (count == 1) {
+            if (read == this.blockSize) {
+                this.cache.put(this.generation, block, run);
+            }
+            return run;
+        }
+
+        for (int loop = 1; loop < count; loop++) {
+            if (((loop + 1) * this.blockSize) <= read) {
+                this.cache.put(this.generation, block + loop,
+                        Arrays.copyOfRange(run, loop * this.blockSize, (loop + 1) * this.blockSize));
+            }
+        }
+        final byte[] data = Arrays.copyOf(run, this.blockSize);
+        if (read >= this.blockSize) {
+            this.cache.put(this.generation, block, data);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * ChannelPool.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Driver wide pool of read only file channels.
+ * <p>
+ * Every file is opened once and shared by all readers. The readers must use only positional reads, so the channel
+ * position is never changed. Channels are reference counted and closed when they stay idle for too long.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.0
+ */
+public final class ChannelPool {
+
+    /**
+     * Default time, in milliseconds, that an unused channel stays open.
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT = 30_000L;
+
+    /**
+     * Default amount of unused channels kept open.
+     */
+    public static final int DEFAULT_MAX_IDLE = 64;
+
+    /**
+     * The driver pool instance.
+     */
+    private static final ChannelPool INSTANCE = new ChannelPool(ChannelPool.DEFAULT_IDLE_TIMEOUT,
+            ChannelPool.DEFAULT_MAX_IDLE);
+
+    /**
+     * Logger instance for this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ChannelPool.class.getName());
+
+    /**
+     * The opened channels by file.
+     */
+    private final Map<File, Entry> entries = new HashMap<>();
+
+    /**
+     * Time in milliseconds to keep an unused channel open.
+     */
+    private final long idleTimeout;
+
+    /**
+     * Last time the idle channels was checked.
+     */
+    private long lastEviction;
+
+    /**
+     * Max unused channels to keep open.
+     */
+    private final int maxIdle;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param idleTimeout
+     *            time in milliseconds to keep an unused channel open.
+     * @param maxIdle
+     *            max unused channels to keep open.
+     */
+    public ChannelPool(final long idleTimeout, final int maxIdle) {
+        this.idleTimeout = idleTimeout;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Gets the driver pool.
+     *
+     * @return the driver pool.
+     */
+    public static ChannelPool getInstance() {
+        return ChannelPool.INSTANCE;
+    }
+
+    /**
+     * Acquire a channel to the file. The channel must be closed after use.
+     *
+     * @param file
+     *            the file to read.
+     * @return the channel to the file.
+     * @throws IOException
+     *             if the file can't be opened.
+     */
+    public PooledChannel acquire(final File file) throws IOException {
+        final File key = file.getAbsoluteFile();
+        final long lastModified = key.lastModified();
+        synchronized (this) {
+            this.evictIdle(false);
+
+            Entry entry = this.entries.get(key);
+            if ((entry != null) && ((entry.lastModified != lastModified) || !entry.channel.isOpen())) {
+                // File replaced or channel closed by an interrupt, the current readers keep the old channel.
+                this.entries.remove(key);
+                entry.detached = true;
+                if (entry.references == 0) {
+                    entry.close();
+                }
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new Entry(key, FileChannel.open(key.toPath(), StandardOpenOption.READ), lastModified);
+                this.entries.put(key, entry);
+            }
+            entry.references++;
+            return new PooledChannel(this, entry);
+        }
+    }
+
+    /**
+     * Close all channels not in use.
+     */
+    public synchronized void closeIdle() {
+        this.evictIdle(true);
+    }
+
+    /**
+     * Close all channels not in use inside a directory.
+     *
+     * @param dir
+     *            the directory.
+     */
+    public synchronized void closeIdle(final File dir) {
+        final File parent = dir.getAbsoluteFile();
+        final Iterator<Entry> it = this.entries.values().iterator();
+        while (it.hasNext()) {
+            final Entry entry = it.next();
+            if ((entry.references == 0) && parent.equals(entry.file.getParentFile())) {
+                it.remove();
+                entry.close();
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of opened channels.
+     *
+     * @return the amount of opened channels.
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Release a channel reference.
+     *
+     * @param entry
+     *            the channel entry.
+     */
+    synchronized void release(final Entry entry) {
+        entry.references--;
+        if (entry.references == 0) {
+            if (entry.detached) {
+                entry.close();
+            } else {
+                entry.idleSince = System.currentTimeMillis();
+                this.evictIdle(false);
+            }
+        }
+    }
+
+    /**
+     * Close the channels idle for too long or over the max idle amount.
+     *
+     * @param all
+     *            close all unused channels.
+     */
+    private void evictIdle(final boolean all) {
+        final long now = System.currentTimeMillis();
+        if (!all && ((now - this.lastEviction) < (this.idleTimeout / 4))
+                && (this.entries.size() <= this.maxIdle)) {
+            return;
+        }
+        this.lastEviction = now;
+
+        int idle = 0;
+        final Iterator<Entry> it = this.entries.values().iterator();
+        while (it.hasNext()) {
+            final Entry entry = it.next();
+            if (entry.references == 0) {
+                if (all || ((now - entry.idleSince) >= this.idleTimeout) || (idle >= this.maxIdle)) {
+                    it.remove();
+                    entry.close();
+                } else {
+                    idle++;
+                }
+            }
+        }
+    }
+
+    /**
+     * A pooled channel.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4.0
+     */
+    static final class Entry {
+
+        /**
+         * The file channel.
+         */
+        final FileChannel channel;
+
+        /**
+         * If this channel is not in the pool anymore.
+         */
+        boolean detached;
+
+        /**
+         * The file.
+         */
+        final File file;
+
+        /**
+         * When this channel became unused.
+         */
+        long idleSince;
+
+        /**
+         * The file modification time when opened.
+         */
+        final long lastModified;
+
+        /**
+         * Amount of readers using this channel.
+         */
+        int references;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param file
+         *            the file.
+         * @param channel
+         *            the file channel.
+         * @param lastModified
+         *            the file modification time.
+         */
+        Entry(final File file, final FileChannel channel, final long lastModified) {
+            this.file = file;
+            this.channel = channel;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Close the channel.
+         */
+        void close() {
+            try {
+                this.channel.close();
+            } catch (final IOException e) {
+                ChannelPool.LOGGER.log(Level.FINER, e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * PooledChannel.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.io;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A reader reference to a shared file channel.
+ * <p>
+ * Only positional reads are allowed, so many threads can read the same file at the same time.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class PooledChannel implements Closeable {
+
+    /**
+     * If this reference is already released.
+     */
+    private boolean closed;
+
+    /**
+     * The shared channel.
+     */
+    private final ChannelPool.Entry entry;
+
+    /**
+     * The pool owning the channel.
+     */
+    private final ChannelPool pool;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param pool
+     *            the pool owning the channel.
+     * @param entry
+     *            the shared channel.
+     */
+    PooledChannel(final ChannelPool pool, final ChannelPool.Entry entry) {
+        this.pool = pool;
+        this.entry = entry;
+    }
+
+    /**
+     * Release this reference to the pool.
+     */
+    @Override
+    public void close() {
+        if (!this.closed) {
+            this.closed = true;
+            this.pool.release(this.entry);
+        }
+    }
+
+    /**
+     * Gets the file.
+     *
+     * @return the file.
+     */
+    public File getFile() {
+        return this.entry.file;
+    }
+
+    /**
+     * Reads from the file position until the buffer is full or the end of file is reached.
+     *
+     * @param dst
+     *            the buffer to fill.
+     * @param position
+     *            the file position to read of.
+     * @return the bytes read or -1 if the position is after the end of file.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    public int read(final ByteBuffer dst, final long position) throws IOException {
+        int total = 0;
+        while (dst.hasRemaining()) {
+            final int read = this.entry.channel.read(dst, position + total);
+            if (read < 0) {
+                if (total == 0) {
+                    return -1;
+                }
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    /**
+     * Gets the file size.
+     *
+     * @return the file size.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    public long size() throws IOException {
+        return this.entry.channel.size();
+    }
+}
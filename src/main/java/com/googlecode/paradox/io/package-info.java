@@ -0,0 +1,6 @@
+/**
+ * Shared file access used by the data loaders.
+ *
+ * @since 1.4.0
+ */
+package com.googlecode.paradox.io;
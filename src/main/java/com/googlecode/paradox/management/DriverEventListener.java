@@ -0,0 +1,88 @@
+/*
+ * DriverEventListener.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.management;
+
+/**
+ * Receives the driver events, like table scans, LOB reads and query phases.
+ * <p>
+ * Each begin method returns an event handle given back to the matching end method, allowing a listener to keep the
+ * event start, like the JDK Flight Recorder events. The end methods are also called when the operation fails. A
+ * listener is found using {@link java.util.ServiceLoader} and is called in the driver threads, so it must be thread
+ * safe and cheap.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ * @see DriverEvents
+ */
+public interface DriverEventListener {
+
+    /**
+     * Called before a LOB read.
+     *
+     * @param file
+     *            the LOB file name.
+     * @param offset
+     *            the raw LOB offset, with the block offset and the index.
+     * @return the event handle, may be null.
+     */
+    Object beginBlobRead(String file, long offset);
+
+    /**
+     * Called before a statement phase.
+     *
+     * @param phase
+     *            the statement phase.
+     * @param sql
+     *            the SQL text.
+     * @return the event handle, may be null.
+     */
+    Object beginPhase(QueryPhase phase, String sql);
+
+    /**
+     * Called before a table scan.
+     *
+     * @param table
+     *            the table name.
+     * @return the event handle, may be null.
+     */
+    Object beginScan(String table);
+
+    /**
+     * Called after a LOB read.
+     *
+     * @param event
+     *            the event handle.
+     * @param bytes
+     *            the bytes read.
+     * @param cached
+     *            if the value was found in cache.
+     */
+    void endBlobRead(Object event, int bytes, boolean cached);
+
+    /**
+     * Called after a statement phase.
+     *
+     * @param event
+     *            the event handle.
+     */
+    void endPhase(Object event);
+
+    /**
+     * Called after a table scan.
+     *
+     * @param event
+     *            the event handle.
+     * @param blocks
+     *            amount of blocks read.
+     * @param rows
+     *            amount of rows read.
+     */
+    void endScan(Object event, long blocks, long rows);
+}
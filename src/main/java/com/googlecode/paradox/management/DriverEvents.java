@@ -0,0 +1,172 @@
+/*
+ * DriverEvents.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.management;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Dispatch the driver events to the {@link DriverEventListener} found in class path or set by the application, if any.
+ * <p>
+ * Without a listener every call is a single null check, so the events are always sent.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class DriverEvents {
+
+    /**
+     * Logger instance for this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(DriverEvents.class.getName());
+
+    /**
+     * The event listener, or null.
+     */
+    private static volatile DriverEventListener listener = DriverEvents.loadListener();
+
+    /**
+     * Utility class.
+     */
+    private DriverEvents() {
+        // Utility class.
+    }
+
+    /**
+     * Signals a LOB read start.
+     *
+     * @param file
+     *            the LOB file name.
+     * @param offset
+     *            the raw LOB offset.
+     * @return the event handle or null if there is no listener.
+     */
+    public static Object beginBlobRead(final String file, final long offset) {
+        if (DriverEvents.listener == null) {
+            return null;
+        }
+        return DriverEvents.listener.beginBlobRead(file, offset);
+    }
+
+    /**
+     * Signals a statement phase start.
+     *
+     * @param phase
+     *            the statement phase.
+     * @param sql
+     *            the SQL text.
+     * @return the event handle or null if there is no listener.
+     */
+    public static Object beginPhase(final QueryPhase phase, final String sql) {
+        if (DriverEvents.listener == null) {
+            return null;
+        }
+        return DriverEvents.listener.beginPhase(phase, sql);
+    }
+
+    /**
+     * Signals a table scan start.
+     *
+     * @param table
+     *            the table name.
+     * @return the event handle or null if there is no listener.
+     */
+    public static Object beginScan(final String table) {
+        if (DriverEvents.listener == null) {
+            return null;
+        }
+        return DriverEvents.listener.beginScan(table);
+    }
+
+    /**
+     * Signals a LOB read end.
+     *
+     * @param event
+     *            the event handle.
+     * @param bytes
+     *            the bytes read.
+     * @param cached
+     *            if the value was found in cache.
+     */
+    public static void endBlobRead(final Object event, final int bytes, final boolean cached) {
+        if (DriverEvents.listener != null) {
+            DriverEvents.listener.endBlobRead(event, bytes, cached);
+        }
+    }
+
+    /**
+     * Signals a statement phase end.
+     *
+     * @param event
+     *            the event handle.
+     */
+    public static void endPhase(final Object event) {
+        if (DriverEvents.listener != null) {
+            DriverEvents.listener.endPhase(event);
+        }
+    }
+
+    /**
+     * Signals a table scan end.
+     *
+     * @param event
+     *            the event handle.
+     * @param blocks
+     *            amount of blocks read.
+     * @param rows
+     *            amount of rows read.
+     */
+    public static void endScan(final Object event, final long blocks, final long rows) {
+        if (DriverEvents.listener != null) {
+            DriverEvents.listener.endScan(event, blocks, rows);
+        }
+    }
+
+    /**
+     * Gets the event listener.
+     *
+     * @return the event listener or null if there is no listener.
+     */
+    public static DriverEventListener getListener() {
+        return DriverEvents.listener;
+    }
+
+    /**
+     * Changes the event listener.
+     *
+     * @param listener
+     *            the event listener or null to disable the events.
+     */
+    public static void setListener(final DriverEventListener listener) {
+        DriverEvents.listener = listener;
+    }
+
+    /**
+     * Loads the first event listener in class path.
+     *
+     * @return the event listener or null if not found.
+     */
+    private static DriverEventListener loadListener() {
+        try {
+            final Iterator<DriverEventListener> it = ServiceLoader.load(DriverEventListener.class,
+                    DriverEvents.class.getClassLoader()).iterator();
+            if (it.hasNext()) {
+                return it.next();
+            }
+        } catch (final ServiceConfigurationError | LinkageError e) {
+            // A listener for a newer Java version.
+            DriverEvents.LOGGER.log(Level.FINE, e.getMessage(), e);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * LatencyHistogram.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.management;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread safe latency histogram with power of two buckets.
+ * <p>
+ * The bucket <code>i</code> counts the durations below <code>2^i</code> microseconds, so the percentiles are upper
+ * bounds with at most twice the real value.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Amount of buckets, the last one counting all durations above 2^30 microseconds.
+     */
+    public static final int BUCKETS = 32;
+
+    /**
+     * The bucket counters.
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(LatencyHistogram.BUCKETS);
+
+    /**
+     * The longest duration in nanoseconds.
+     */
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * The sum of the durations in nanoseconds.
+     */
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    /**
+     * Gets the bucket of a duration.
+     *
+     * @param nanos
+     *            the duration in nanoseconds.
+     * @return the bucket index.
+     */
+    static int bucketOf(final long nanos) {
+        final long micros = nanos / 1000;
+        return Math.min(64 - Long.numberOfLeadingZeros(micros), LatencyHistogram.BUCKETS - 1);
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos
+     *            the duration in nanoseconds.
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(nanos, 0);
+        this.buckets.incrementAndGet(LatencyHistogram.bucketOf(value));
+        this.totalNanos.addAndGet(value);
+        long max = this.maxNanos.get();
+        while ((value > max) && !this.maxNanos.compareAndSet(max, value)) {
+            max = this.maxNanos.get();
+        }
+    }
+
+    /**
+     * Clears all durations.
+     */
+    public void reset() {
+        for (int loop = 0; loop < LatencyHistogram.BUCKETS; loop++) {
+            this.buckets.set(loop, 0);
+        }
+        this.totalNanos.set(0);
+        this.maxNanos.set(0);
+    }
+
+    /**
+     * Gets the current statistics.
+     *
+     * @return the current statistics.
+     */
+    public LatencyStats snapshot() {
+        final long[] counts = new long[LatencyHistogram.BUCKETS];
+        for (int loop = 0; loop < LatencyHistogram.BUCKETS; loop++) {
+            counts[loop] = this.buckets.get(loop);
+        }
+        return new LatencyStats(counts, this.totalNanos.get(), this.maxNanos.get());
+    }
+}
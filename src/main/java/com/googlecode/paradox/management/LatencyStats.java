@@ -0,0 +1,160 @@
+/*
+ * LatencyStats.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.management;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * A snapshot of a {@link LatencyHistogram}, exposed by JMX as composite data.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class LatencyStats {
+
+    /**
+     * The bucket counters.
+     */
+    private final long[] buckets;
+
+    /**
+     * Amount of durations.
+     */
+    private final long count;
+
+    /**
+     * The longest duration in nanoseconds.
+     */
+    private final long maxNanos;
+
+    /**
+     * The sum of the durations in nanoseconds.
+     */
+    private final long totalNanos;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param buckets
+     *            the bucket counters.
+     * @param totalNanos
+     *            the sum of the durations in nanoseconds.
+     * @param maxNanos
+     *            the longest duration in nanoseconds.
+     */
+    @ConstructorProperties({ "buckets", "totalNanos", "maxNanos" })
+    public LatencyStats(final long[] buckets, final long totalNanos, final long maxNanos) {
+        this.buckets = buckets.clone();
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        long sum = 0;
+        for (final long bucket : buckets) {
+            sum += bucket;
+        }
+        this.count = sum;
+    }
+
+    /**
+     * Gets the bucket counters. The bucket <code>i</code> counts the durations below <code>2^i</code> microseconds.
+     *
+     * @return the bucket counters.
+     */
+    public long[] getBuckets() {
+        return this.buckets.clone();
+    }
+
+    /**
+     * Gets the amount of durations.
+     *
+     * @return the amount of durations.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Gets the longest duration.
+     *
+     * @return the longest duration in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return this.maxNanos;
+    }
+
+    /**
+     * Gets the mean duration.
+     *
+     * @return the mean duration in microseconds.
+     */
+    public long getMeanMicros() {
+        if (this.count == 0) {
+            return 0;
+        }
+        return this.totalNanos / this.count / 1000;
+    }
+
+    /**
+     * Gets the median duration upper bound.
+     *
+     * @return the median duration upper bound in microseconds.
+     */
+    public long getP50Micros() {
+        return this.getPercentileMicros(0.5D);
+    }
+
+    /**
+     * Gets the 90th percentile duration upper bound.
+     *
+     * @return the 90th percentile duration upper bound in microseconds.
+     */
+    public long getP90Micros() {
+        return this.getPercentileMicros(0.9D);
+    }
+
+    /**
+     * Gets the 99th percentile duration upper bound.
+     *
+     * @return the 99th percentile duration upper bound in microseconds.
+     */
+    public long getP99Micros() {
+        return this.getPercentileMicros(0.99D);
+    }
+
+    /**
+     * Gets a percentile duration upper bound.
+     *
+     * @param percentile
+     *            the percentile, from zero to one.
+     * @return the percentile duration upper bound in microseconds, limited by the longest duration.
+     */
+    public long getPercentileMicros(final double percentile) {
+        if (this.count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile * this.count));
+        long seen = 0;
+        for (int loop = 0; loop < this.buckets.length; loop++) {
+            seen += this.buckets[loop];
+            if (seen >= rank) {
+                return Math.min(1L << loop, (this.maxNanos + 999) / 1000);
+            }
+        }
+        return (this.maxNanos + 999) / 1000;
+    }
+
+    /**
+     * Gets the sum of the durations.
+     *
+     * @return the sum of the durations in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return this.totalNanos;
+    }
+}
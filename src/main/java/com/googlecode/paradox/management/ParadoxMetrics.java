@@ -0,0 +1,458 @@
+/*
+ * ParadoxMetrics.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.management;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Query, I/O and cache metrics.
+ * <p>
+ * The driver has a single instance and every connection has its own, adding also to the driver metrics. The metrics
+ * are updated once by statement or by table read, never by row.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class ParadoxMetrics implements ParadoxMetricsMXBean {
+
+    /**
+     * The JMX domain of the driver MBeans.
+     */
+    public static final String DOMAIN = "com.googlecode.paradox";
+
+    /**
+     * The driver metrics.
+     */
+    private static final ParadoxMetrics DRIVER = new ParadoxMetrics(null);
+
+    /**
+     * Logger instance for this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ParadoxMetrics.class.getName());
+
+    /**
+     * BLOB and MEMO bytes read.
+     */
+    private final AtomicLong blobBytesRead = new AtomicLong();
+
+    /**
+     * BLOB and MEMO reads found in cache.
+     */
+    private final AtomicLong blobCacheHits = new AtomicLong();
+
+    /**
+     * Amount of BLOB and MEMO reads.
+     */
+    private final AtomicLong blobReads = new AtomicLong();
+
+    /**
+     * Block reads found in cache.
+     */
+    private final AtomicLong cacheHits = new AtomicLong();
+
+    /**
+     * Block reads of cacheable tables not found in cache.
+     */
+    private final AtomicLong cacheMisses = new AtomicLong();
+
+    /**
+     * The statement execution latency.
+     */
+    private final LatencyHistogram executeLatency = new LatencyHistogram();
+
+    /**
+     * The metrics to add to, if any.
+     */
+    private final ParadoxMetrics parent;
+
+    /**
+     * The SQL parsing latency.
+     */
+    private final LatencyHistogram parseLatency = new LatencyHistogram();
+
+    /**
+     * The statement planning latency.
+     */
+    private final LatencyHistogram planLatency = new LatencyHistogram();
+
+    /**
+     * Amount of queries executed.
+     */
+    private final AtomicLong queries = new AtomicLong();
+
+    /**
+     * Amount of rows decoded.
+     */
+    private final AtomicLong rowsDecoded = new AtomicLong();
+
+    /**
+     * Amount of rows returned.
+     */
+    private final AtomicLong rowsReturned = new AtomicLong();
+
+    /**
+     * Blocks and bytes read by table file.
+     */
+    private final ConcurrentMap<String, TableReads> tables = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param parent
+     *            the metrics to add to, or null.
+     */
+    public ParadoxMetrics(final ParadoxMetrics parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Gets the driver metrics.
+     *
+     * @return the driver metrics.
+     */
+    public static ParadoxMetrics getDriverMetrics() {
+        return ParadoxMetrics.DRIVER;
+    }
+
+    /**
+     * Register a MBean in the platform MBean server.
+     *
+     * @param mbean
+     *            the MBean to register.
+     * @param properties
+     *            the object name properties, like <code>type=Driver</code>.
+     * @return the registered name or null if the MBean could not be registered.
+     */
+    public static ObjectName register(final Object mbean, final String properties) {
+        try {
+            final ObjectName name = new ObjectName(ParadoxMetrics.DOMAIN + ":" + properties);
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) {
+                server.registerMBean(mbean, name);
+                return name;
+            }
+        } catch (final JMException | SecurityException e) {
+            ParadoxMetrics.LOGGER.log(Level.FINE, e.getMessage(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Removes a MBean from the platform MBean server.
+     *
+     * @param name
+     *            the registered name, may be null.
+     */
+    public static void unregister(final ObjectName name) {
+        if (name != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            } catch (final JMException | SecurityException e) {
+                ParadoxMetrics.LOGGER.log(Level.FINE, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Adds a BLOB or MEMO read.
+     *
+     * @param bytes
+     *            the bytes read.
+     * @param cached
+     *            if the value was found in cache.
+     */
+    public void addBlobRead(final long bytes, final boolean cached) {
+        this.blobReads.incrementAndGet();
+        this.blobBytesRead.addAndGet(bytes);
+        if (cached) {
+            this.blobCacheHits.incrementAndGet();
+        }
+        if (this.parent != null) {
+            this.parent.addBlobRead(bytes, cached);
+        }
+    }
+
+    /**
+     * Adds a SQL parsing.
+     *
+     * @param nanos
+     *            the parsing time in nanoseconds.
+     */
+    public void addParse(final long nanos) {
+        this.parseLatency.record(nanos);
+        if (this.parent != null) {
+            this.parent.addParse(nanos);
+        }
+    }
+
+    /**
+     * Adds an executed query.
+     *
+     * @param planNanos
+     *            the planning time in nanoseconds.
+     * @param executeNanos
+     *            the execution time in nanoseconds.
+     * @param rows
+     *            amount of rows returned.
+     */
+    public void addQuery(final long planNanos, final long executeNanos, final long rows) {
+        this.queries.incrementAndGet();
+        this.planLatency.record(planNanos);
+        this.executeLatency.record(executeNanos);
+        this.rowsReturned.addAndGet(rows);
+        if (this.parent != null) {
+            this.parent.addQuery(planNanos, executeNanos, rows);
+        }
+    }
+
+    /**
+     * Adds the reads in a table file.
+     *
+     * @param table
+     *            the table file name.
+     * @param blocks
+     *            amount of blocks read, from file or from cache.
+     * @param bytes
+     *            bytes read from file.
+     * @param hits
+     *            block reads found in cache.
+     * @param misses
+     *            block reads of a cacheable file not found in cache.
+     */
+    public void addReads(final String table, final long blocks, final long bytes, final long hits,
+            final long misses) {
+        TableReads reads = this.tables.get(table);
+        if (reads == null) {
+            final TableReads created = new TableReads();
+            reads = this.tables.putIfAbsent(table, created);
+            if (reads == null) {
+                reads = created;
+            }
+        }
+        reads.blocks.addAndGet(blocks);
+        reads.bytes.addAndGet(bytes);
+        this.cacheHits.addAndGet(hits);
+        this.cacheMisses.addAndGet(misses);
+        if (this.parent != null) {
+            this.parent.addReads(table, blocks, bytes, hits, misses);
+        }
+    }
+
+    /**
+     * Adds the rows decoded from a table file.
+     *
+     * @param rows
+     *            amount of rows decoded.
+     */
+    public void addRowsDecoded(final long rows) {
+        this.rowsDecoded.addAndGet(rows);
+        if (this.parent != null) {
+            this.parent.addRowsDecoded(rows);
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getBlobBytesRead() {
+        return this.blobBytesRead.get();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getBlobCacheHits() {
+        return this.blobCacheHits.get();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getBlobReads() {
+        return this.blobReads.get();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getBlockCacheHits() {
+        return this.cacheHits.get();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public double getBlockCacheHitRate() {
+        final long hits = this.cacheHits.get();
+        final long total = hits + this.cacheMisses.get();
+        if (total == 0) {
+            return 0D;
+        }
+        return (double) hits / total;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getBlockCacheMisses() {
+        return this.cacheMisses.get();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getBlocksRead() {
+        long sum = 0;
+        for (final TableReads reads : this.tables.values()) {
+            sum += reads.blocks.get();
+        }
+        return sum;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Map<String, Long> getBlocksReadByTable() {
+        final Map<String, Long> ret = new TreeMap<>();
+        for (final Map.Entry<String, TableReads> entry : this.tables.entrySet()) {
+            ret.put(entry.getKey(), entry.getValue().blocks.get());
+        }
+        return ret;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getBytesRead() {
+        long sum = 0;
+        for (final TableReads reads : this.tables.values()) {
+            sum += reads.bytes.get();
+        }
+        return sum;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Map<String, Long> getBytesReadByTable() {
+        final Map<String, Long> ret = new TreeMap<>();
+        for (final Map.Entry<String, TableReads> entry : this.tables.entrySet()) {
+            ret.put(entry.getKey(), entry.getValue().bytes.get());
+        }
+        return ret;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public LatencyStats getExecuteLatency() {
+        return this.executeLatency.snapshot();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public LatencyStats getParseLatency() {
+        return this.parseLatency.snapshot();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public LatencyStats getPlanLatency() {
+        return this.planLatency.snapshot();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getQueriesExecuted() {
+        return this.queries.get();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getRowsDecoded() {
+        return this.rowsDecoded.get();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long getRowsReturned() {
+        return this.rowsReturned.get();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() {
+        this.blobBytesRead.set(0);
+        this.blobCacheHits.set(0);
+        this.blobReads.set(0);
+        this.cacheHits.set(0);
+        this.cacheMisses.set(0);
+        this.queries.set(0);
+        this.rowsDecoded.set(0);
+        this.rowsReturned.set(0);
+        this.tables.clear();
+        this.parseLatency.reset();
+        this.planLatency.reset();
+        this.executeLatency.reset();
+    }
+
+    /**
+     * Blocks and bytes read of a table file.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4.0
+     */
+    private static final class TableReads {
+
+        /**
+         * Amount of blocks read.
+         */
+        private final AtomicLong blocks = new AtomicLong();
+
+        /**
+         * Bytes read.
+         */
+        private final AtomicLong bytes = new AtomicLong();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * ParadoxMetricsMXBean.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.management;
+
+import java.util.Map;
+
+/**
+ * Query, I/O and cache metrics of the driver or of a connection.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public interface ParadoxMetricsMXBean {
+
+    /**
+     * Gets the BLOB and MEMO bytes read.
+     *
+     * @return the BLOB and MEMO bytes read.
+     */
+    long getBlobBytesRead();
+
+    /**
+     * Gets the BLOB and MEMO reads found in the LOB block cache.
+     *
+     * @return the BLOB and MEMO reads found in cache.
+     */
+    long getBlobCacheHits();
+
+    /**
+     * Gets the amount of BLOB and MEMO reads.
+     *
+     * @return the amount of BLOB and MEMO reads.
+     */
+    long getBlobReads();
+
+    /**
+     * Gets the block reads found in the block cache.
+     *
+     * @return the block reads found in cache.
+     */
+    long getBlockCacheHits();
+
+    /**
+     * Gets the hit rate of the block cache.
+     *
+     * @return the hit rate, from zero to one.
+     */
+    double getBlockCacheHitRate();
+
+    /**
+     * Gets the block reads of cacheable tables not found in the block cache.
+     *
+     * @return the block reads not found in cache.
+     */
+    long getBlockCacheMisses();
+
+    /**
+     * Gets the amount of table blocks read, from file or from cache.
+     *
+     * @return the amount of table blocks read.
+     */
+    long getBlocksRead();
+
+    /**
+     * Gets the amount of table blocks read by table file.
+     *
+     * @return the amount of table blocks read by table file.
+     */
+    Map<String, Long> getBlocksReadByTable();
+
+    /**
+     * Gets the bytes read from the table files.
+     *
+     * @return the bytes read from the table files.
+     */
+    long getBytesRead();
+
+    /**
+     * Gets the bytes read by table file.
+     *
+     * @return the bytes read by table file.
+     */
+    Map<String, Long> getBytesReadByTable();
+
+    /**
+     * Gets the statement execution latency.
+     *
+     * @return the statement execution latency.
+     */
+    LatencyStats getExecuteLatency();
+
+    /**
+     * Gets the SQL parsing latency.
+     *
+     * @return the SQL parsing latency.
+     */
+    LatencyStats getParseLatency();
+
+    /**
+     * Gets the statement planning latency.
+     *
+     * @return the statement planning latency.
+     */
+    LatencyStats getPlanLatency();
+
+    /**
+     * Gets the amount of queries executed.
+     *
+     * @return the amount of queries executed.
+     */
+    long getQueriesExecuted();
+
+    /**
+     * Gets the amount of rows decoded from the table files.
+     *
+     * @return the amount of rows decoded.
+     */
+    long getRowsDecoded();
+
+    /**
+     * Gets the amount of rows returned by the queries.
+     *
+     * @return the amount of rows returned.
+     */
+    long getRowsReturned();
+
+    /**
+     * Clears all metrics.
+     */
+    void reset();
+}
@@ -0,0 +1,205 @@
+/*
+ * QueryStatistics.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.management;
+
+/**
+ * The execution statistics of a statement, taken when its execution ends.
+ * <p>
+ * The rows scanned are the rows decoded from the tables, before the conditions. The times are in nanoseconds and
+ * include all statements executed by the same call. The memory is the estimate limited by the connection max query
+ * memory.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4.0
+ * @see StatementStatistics
+ */
+public final class QueryStatistics {
+
+    /**
+     * Blocks read found in cache.
+     */
+    private final long blockCacheHits;
+
+    /**
+     * Blocks read not found in cache.
+     */
+    private final long blockCacheMisses;
+
+    /**
+     * Blocks read.
+     */
+    private final long blocksRead;
+
+    /**
+     * Bytes read from files.
+     */
+    private final long bytesRead;
+
+    /**
+     * Execution time in nanoseconds.
+     */
+    private final long executeNanos;
+
+    /**
+     * Memory in bytes held by the rows.
+     */
+    private final long memoryUsed;
+
+    /**
+     * Parse time in nanoseconds.
+     */
+    private final long parseNanos;
+
+    /**
+     * Planning time in nanoseconds.
+     */
+    private final long planNanos;
+
+    /**
+     * Rows returned.
+     */
+    private final long rowsReturned;
+
+    /**
+     * Rows decoded from tables.
+     */
+    private final long rowsScanned;
+
+    /**
+     * Takes the statistics of the metrics of a single execution.
+     *
+     * @param metrics
+     *            the metrics of a single execution.
+     * @param memoryUsed
+     *            the estimated memory in bytes held by the rows.
+     */
+    public QueryStatistics(final ParadoxMetrics metrics, final long memoryUsed) {
+        this.blockCacheHits = metrics.getBlockCacheHits();
+        this.blockCacheMisses = metrics.getBlockCacheMisses();
+        this.blocksRead = metrics.getBlocksRead();
+        this.bytesRead = metrics.getBytesRead();
+        this.executeNanos = metrics.getExecuteLatency().getTotalNanos();
+        this.memoryUsed = memoryUsed;
+        this.parseNanos = metrics.getParseLatency().getTotalNanos();
+        this.planNanos = metrics.getPlanLatency().getTotalNanos();
+        this.rowsReturned = metrics.getRowsReturned();
+        this.rowsScanned = metrics.getRowsDecoded();
+    }
+
+    /**
+     * Gets the blocks read found in cache.
+     *
+     * @return the blocks read found in cache.
+     */
+    public long getBlockCacheHits() {
+        return this.blockCacheHits;
+    }
+
+    /**
+     * Gets the blocks read not found in cache.
+     *
+     * @return the blocks read not found in cache.
+     */
+    public long getBlockCacheMisses() {
+        return this.blockCacheMisses;
+    }
+
+    /**
+     * Gets the blocks read.
+     *
+     * @return the blocks read.
+     */
+    public long getBlocksRead() {
+        return this.blocksRead;
+    }
+
+    /**
+     * Gets the bytes read from files.
+     *
+     * @return the bytes read from files.
+     */
+    public long getBytesRead() {
+        return this.bytesRead;
+    }
+
+    /**
+     * Gets the execution time.
+     *
+     * @return the execution time in nanoseconds.
+     */
+    public long getExecuteNanos() {
+        return this.executeNanos;
+    }
+
+    /**
+     * Gets the estimated memory held by the rows, accounted only with a memory limit.
+     *
+     * @return the estimated memory in bytes held by the rows or zero without memory limit.
+     */
+    public long getMemoryUsed() {
+        return this.memoryUsed;
+    }
+
+    /**
+     * Gets the parse time.
+     *
+     * @return the parse time in nanoseconds.
+     */
+    public long getParseNanos() {
+        return this.parseNanos;
+    }
+
+    /**
+     * Gets the planning time.
+     *
+     * @return the planning time in nanoseconds.
+     */
+    public long getPlanNanos() {
+        return this.planNanos;
+    }
+
+    /**
+     * Gets the rows returned.
+     *
+     * @return the rows returned.
+     */
+    public long getRowsReturned() {
+        return this.rowsReturned;
+    }
+
+    /**
+     * Gets the rows decoded from tables.
+     *
+     * @return the rows decoded from tables.
+     */
+    public long getRowsScanned() {
+        return this.rowsScanned;
+    }
+
+    /**
+     * Gets the total time.
+     *
+     * @return the parse, planning and execution time in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return this.parseNanos + this.planNanos + this.executeNanos;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        return "rowsScanned=" + this.rowsScanned + ", rowsReturned=" + this.rowsReturned + ", blocksRead="
+                + this.blocksRead + ", bytesRead=" + this.bytesRead + ", blockCacheHits=" + this.blockCacheHits
+                + ", blockCacheMisses=" + this.blockCacheMisses + ", memoryUsed=" + this.memoryUsed + ", parseNanos="
+                + this.parseNanos + ", planNanos=" + this.planNanos + ", executeNanos=" + this.executeNanos;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * StatementStatistics.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.management;
+
+/**
+ * A statement with execution statistics.
+ * <p>
+ * The driver statements can be unwrapped to this interface:
+ *
+ * <pre>
+ * QueryStatistics statistics = stmt.unwrap(StatementStatistics.class).getStatistics();
+ * </pre>
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public interface StatementStatistics {
+
+    /**
+     * Gets the statistics of the last execution.
+     *
+     * @return the statistics of the last execution or null if not executed.
+     */
+    QueryStatistics getStatistics();
+}
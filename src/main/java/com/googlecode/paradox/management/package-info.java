@@ -0,0 +1,6 @@
+/**
+ * JMX metrics of the driver and its connections.
+ *
+ * @since 1.4.0
+ */
+package com.googlecode.paradox.management;
@@ -8,6 +8,10 @@
  */
 package com.googlecode.paradox.metadata;
 
+import com.googlecode.paradox.io.ChannelPool;
+import com.googlecode.paradox.io.PooledChannel;
+import com.googlecode.paradox.management.DriverEvents;
+import com.googlecode.paradox.management.ParadoxMetrics;
 import com.googlecode.paradox.utils.AllBlockCache;
 import com.googlecode.paradox.utils.BlockOffset;
 import com.googlecode.paradox.utils.ClobBlock;
@@ -16,12 +20,9 @@ import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.Utils;
 import com.googlecode.paradox.utils.filefilters.TableFilter;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.channels.FileChannel;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -32,7 +33,7 @@ import java.util.List;
  *
  * @author Leonardo Alves da Costa
  * @author Andre Mikhaylov
- * @version 1.1
+ * @version 1.4
  * @since 1.2
  */
 public final class BlobTable extends ParadoxDataFile {
@@ -63,19 +64,19 @@ public final class BlobTable extends ParadoxDataFile {
     private final IBlockCache cache;
 
     /**
-     * Channel to read of.
+     * The LOB file.
      */
-    private FileChannel channel;
+    private File blobFile;
 
     /**
-     * This LOB {@link InputStream}.
+     * If this LOB is already parsed.
      */
-    private FileInputStream fs;
+    private boolean parsed;
 
     /**
-     * If this LOB is already parsed.
+     * Position of the next block to read in the LOB file.
      */
-    private boolean parsed;
+    private long position;
 
     /**
      * Creates a new instance.
@@ -91,17 +92,12 @@ public final class BlobTable extends ParadoxDataFile {
     }
 
     /**
-     * Close this LOB reference.
-     *
-     * @throws SQLException in case of I/O errors.
+     * Close this LOB reference, discarding all loaded blocks.
      */
-    public void close() throws SQLException {
-        try {
-            this.channel.close();
-            this.fs.close();
-        } catch (final IOException ex) {
-            throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
-        }
+    public synchronized void close() {
+        this.cache.close();
+        this.parsed = false;
+        this.position = 0;
     }
 
     /**
@@ -109,7 +105,7 @@ public final class BlobTable extends ParadoxDataFile {
      *
      * @return true if this block is already parsed.
      */
-    public boolean isParsed() {
+    public synchronized boolean isParsed() {
         return this.parsed;
     }
 
@@ -121,47 +117,33 @@ public final class BlobTable extends ParadoxDataFile {
      * @return the data values.
      * @throws SQLException in case of parse errors.
      */
-    public byte[] read(final long pOffset) throws SQLException {
-        if (!this.parsed) {
-            this.open();
-            this.parse();
-        }
-        return this.getData(BlockOffset.fromRawLong(pOffset));
-    }
-
-    /**
-     * Gets the data from LOB file.
-     *
-     * @param blockNum block reference.
-     * @param offset offset to read of.
-     * @return the data array.
-     * @throws SQLException in case of reading failures.
-     */
-    private byte[] getData(final BlockOffset offset) throws SQLException {
+    public synchronized byte[] read(final long pOffset) throws SQLException {
+        final Object event = DriverEvents.beginBlobRead(this.getName(), pOffset);
+        final BlockOffset offset = BlockOffset.fromRawLong(pOffset);
         ClobBlock block = this.cache.get(offset);
-        if (block != null) {
-            return block.getValue();
-        }
-
-        block = this.readBlock(offset);
-        if (block == null) {
-            throw new SQLException("Block " + offset + " not found. Invalid mb file", SQLStates.LOAD_DATA.getValue());
-        }
-        return block.getValue();
-    }
-
-    /**
-     * Open this LOB to reading.
-     *
-     * @throws SQLException in case of failures.
-     */
-    private void open() throws SQLException {
+        final boolean cached = block != null;
+        int bytes = 0;
         try {
-            final File blobFile = this.openBlob();
-            this.fs = new FileInputStream(blobFile);
-            this.channel = this.fs.getChannel();
-        } catch (final IOException ex) {
-            throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
+            if (!cached) {
+                try (PooledChannel channel = ChannelPool.getInstance().acquire(this.openBlob())) {
+                    if (!this.parsed) {
+                        this.parse(channel);
+                    }
+                    block = this.readBlock(channel, offset);
+                } catch (final IOException ex) {
+                    throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
+                }
+                if (block == null) {
+                    throw new SQLException("Block " + offset + " not found. Invalid mb file",
+                            SQLStates.LOAD_DATA.getValue());
+                }
+            }
+            final byte[] value = block.getValue();
+            bytes = value.length;
+            ParadoxMetrics.getDriverMetrics().addBlobRead(bytes, cached);
+            return value;
+        } finally {
+            DriverEvents.endBlobRead(event, bytes, cached);
         }
     }
 
@@ -172,6 +154,9 @@ public final class BlobTable extends ParadoxDataFile {
      * @throws SQLException in case of failures.
      */
     private File openBlob() throws SQLException {
+        if (this.blobFile != null) {
+            return this.blobFile;
+        }
         final String name = Utils.removeDb(this.getFile().getName());
         final File[] fileList = this.getFile().getParentFile().listFiles(new TableFilter(name, "mb"));
         if ((fileList == null) || (fileList.length == 0)) {
@@ -182,147 +167,117 @@ public final class BlobTable extends ParadoxDataFile {
             throw new SQLException(String.format("Many blob files for table '%s'", name),
                     SQLStates.LOAD_DATA.getValue());
         }
-        return fileList[0];
+        this.blobFile = fileList[0];
+        return this.blobFile;
     }
 
     /**
      * Parse this LOB file.
      *
-     * @throws SQLException in case of reading failures.
+     * @param channel the channel to read of.
+     * @throws IOException in case of reading failures.
+     * @throws SQLException in case of invalid format.
      */
-    private void parse() throws SQLException {
-        try {
-            // First block - always 4k bytes
-            this.channel.position(0);
-            final ByteBuffer buffer = ByteBuffer.allocate(1);
-            buffer.order(ByteOrder.LITTLE_ENDIAN);
-            buffer.clear();
-            this.channel.read(buffer);
-            buffer.flip();
-            final byte headerType = buffer.get();
-            if (headerType != 0) {
-                throw new SQLException("Invalid blob format for '" + this.getName() + "'",
-                        SQLStates.LOAD_DATA.getValue());
-            }
-            // No read header (while not necessary)
-            this.channel.position(BlobTable.HEADER_BLOCK_SIZE);
-            this.parsed = true;
-        } catch (final IOException ex) {
-            throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
+    private void parse(final PooledChannel channel) throws IOException, SQLException {
+        // First block - always 4k bytes
+        final ByteBuffer buffer = ByteBuffer.allocate(1);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(buffer, 0);
+        buffer.flip();
+        final byte headerType = buffer.get();
+        if (headerType != 0) {
+            throw new SQLException("Invalid blob format for '" + this.getName() + "'",
+                    SQLStates.LOAD_DATA.getValue());
         }
-    }
-
-    /**
-     * Parses free blocks.
-     *
-     * @param blocks the list of CLOB blocks.
-     * @param startBlockAddress the start block address.
-     * @param headerType the header type.
-     * @param blockSize the block size.
-     * @throws IOException in case of reading errors.
-     */
-    private void parseFreeBlock(final long startBlockAddress, final byte headerType,
-            final int blockSize) throws IOException {
-        this.channel.position(startBlockAddress + (blockSize * BlobTable.HEADER_BLOCK_SIZE));
+        // No read header (while not necessary)
+        this.position = BlobTable.HEADER_BLOCK_SIZE;
+        this.parsed = true;
     }
 
     /**
      * Parses a single block.
      *
-     * @param blocks the CLOB block list.
+     * @param channel the channel to read of.
      * @param startBlockAddress the start block address.
      * @param headerType the header type.
      * @param blockSize the block size.
+     * @return the CLOB block.
      * @throws IOException in case of reading errors.
      */
-    private ClobBlock parseSingleBlock(final long startBlockAddress, final byte headerType,
-            final int blockSize) throws IOException {
+    private ClobBlock parseSingleBlock(final PooledChannel channel, final long startBlockAddress,
+            final byte headerType, final int blockSize) throws IOException {
         final ByteBuffer blockHead = ByteBuffer.allocate(6);
         blockHead.order(ByteOrder.LITTLE_ENDIAN);
-        blockHead.clear();
-        this.channel.read(blockHead);
+        channel.read(blockHead, startBlockAddress + 3);
         blockHead.flip();
         final int blobLength = blockHead.getInt();
         // Modifier.
         blockHead.getShort();
 
-        final ByteBuffer blockData = ByteBuffer.allocate(blobLength);
-        blockData.order(ByteOrder.LITTLE_ENDIAN);
-        blockData.clear();
-        this.channel.read(blockData);
-        blockData.flip();
         final byte[] values = new byte[blobLength];
-        blockData.get(values);
-        this.channel.position(startBlockAddress + (blockSize * BlobTable.HEADER_BLOCK_SIZE));
+        channel.read(ByteBuffer.wrap(values), startBlockAddress + 9);
+        this.position = startBlockAddress + ((long) blockSize * BlobTable.HEADER_BLOCK_SIZE);
         return new ClobBlock(headerType, new BlockOffset(startBlockAddress, 0), values);
     }
 
     /**
      * Parses a sub block.
      *
-     * @param blocks the CLOB block list.
+     * @param channel the channel to read of.
      * @param startBlockAddress the start block address.
      * @param headerType the header type.
+     * @return the CLOB blocks.
      * @throws IOException in case of reading errors.
      */
-    private List<ClobBlock> parseSubBlock(final long startBlockAddress, final byte headerType)
-            throws IOException {
+    private List<ClobBlock> parseSubBlock(final PooledChannel channel, final long startBlockAddress,
+            final byte headerType) throws IOException {
         // There are nine more bytes in the header. I have no idea
         // what they contain.
-        this.channel.position(this.channel.position() + 9);
+        final ByteBuffer blockPointers = ByteBuffer.allocate(64 * 5);
+        blockPointers.order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(blockPointers, startBlockAddress + 12);
+        blockPointers.flip();
         // 0 - this is header block
         int n = 0;
-        List<ClobBlock> ret = new ArrayList<>();
+        final List<ClobBlock> ret = new ArrayList<>();
         while (n < 64) {
-            final ByteBuffer blockPointer = ByteBuffer.allocate(5);
-            blockPointer.order(ByteOrder.LITTLE_ENDIAN);
-            blockPointer.clear();
-            this.channel.read(blockPointer);
-            blockPointer.flip();
             // Data offset divided by 16.
-            final int offset = blockPointer.get() * 0x10;
+            final int offset = (blockPointers.get() & 0xFF) * 0x10;
             // Data length divided by 16 (rounded up).
-            int ln = blockPointer.get() * 0x10;
-            blockPointer.getShort();
+            int ln = (blockPointers.get() & 0xFF) * 0x10;
+            blockPointers.getShort();
             // This is reset to 1 by a table restructure.
             // Data length modulo 16.
-            final int mdl = blockPointer.get();
+            final int mdl = blockPointers.get() & 0xFF;
             // If offset is zero, then the blob was deleted and
             // the space has been reused for another blob.
             if (offset != 0) {
-                final long position = this.channel.position();
-                final long start = offset + startBlockAddress;
                 ln = (ln - 0x10) + mdl;
-                final ByteBuffer blockData = ByteBuffer.allocate(ln);
-                blockData.order(ByteOrder.LITTLE_ENDIAN);
-                blockData.clear();
-                this.channel.position(start);
-                this.channel.read(blockData);
-                blockData.flip();
                 final byte[] values = new byte[ln];
-                blockData.get(values);
+                channel.read(ByteBuffer.wrap(values), offset + startBlockAddress);
 
                 ret.add(new ClobBlock(headerType, new BlockOffset(startBlockAddress, n), values));
-                this.channel.position(position);
             }
             n++;
         }
-        this.channel.position(startBlockAddress + BlobTable.HEADER_BLOCK_SIZE);
+        this.position = startBlockAddress + BlobTable.HEADER_BLOCK_SIZE;
         return ret;
     }
 
     /**
      * Read a single block.
      *
-     * @param blockNum block reference to read.
+     * @param channel the channel to read of.
      * @param offset offset of the blob's data block in the MB file and an index
      * value.
      * @return the CLOB block.
+     * @throws IOException in case of reading errors.
      * @throws SQLException in case of parse errors.
      */
-    private ClobBlock readBlock(final BlockOffset offset) throws SQLException {
+    private ClobBlock readBlock(final PooledChannel channel, final BlockOffset offset)
+            throws IOException, SQLException {
         List<ClobBlock> nextBlocks;
-        while ((nextBlocks = this.readNextBlock()) != null) {
+        while ((nextBlocks = this.readNextBlock(channel)) != null) {
             this.cache.add(nextBlocks);
             final ClobBlock next = this.cache.get(offset);
             if (next != null) {
@@ -335,37 +290,33 @@ public final class BlobTable extends ParadoxDataFile {
     /**
      * Read the next block in the list.
      *
-     * @param blocks blocks reference.
-     * @return true if has no errors.
+     * @param channel the channel to read of.
+     * @return the blocks read or null at the end of file.
+     * @throws IOException in case of reading errors.
      * @throws SQLException in case of parse errors.
      */
-    private List<ClobBlock> readNextBlock() throws SQLException {
+    private List<ClobBlock> readNextBlock(final PooledChannel channel) throws IOException, SQLException {
         final List<ClobBlock> blocks = new ArrayList<>();
-        try {
-            if (this.channel.position() == this.channel.size()) {
-                return null;
-            }
-            final long startBlockAddress = this.channel.position();
-            final ByteBuffer header = ByteBuffer.allocate(3);
-            header.order(ByteOrder.LITTLE_ENDIAN);
-            header.clear();
-            this.channel.read(header);
-            header.flip();
-            final byte headerType = header.get();
-            final int blockSize = header.getShort();
+        if (this.position >= channel.size()) {
+            return null;
+        }
+        final long startBlockAddress = this.position;
+        final ByteBuffer header = ByteBuffer.allocate(3);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(header, startBlockAddress);
+        header.flip();
+        final byte headerType = header.get();
+        final int blockSize = header.getShort() & 0xFFFF;
 
-            if (headerType == BlobTable.SINGLE_BLOCK) {
-                blocks.add(this.parseSingleBlock(startBlockAddress, headerType, blockSize));
-            } else if (headerType == BlobTable.SUB_BLOCK) {
-                blocks.addAll(this.parseSubBlock(startBlockAddress, headerType));
-            } else if (headerType == BlobTable.FREE_BLOCK) {
-                this.parseFreeBlock(startBlockAddress, headerType, blockSize);
-            } else {
-                throw new SQLException("Unsupported CLOB block type: " + headerType,
-                        SQLStates.TYPE_NOT_FOUND.getValue());
-            }
-        } catch (final IOException ex) {
-            throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
+        if (headerType == BlobTable.SINGLE_BLOCK) {
+            blocks.add(this.parseSingleBlock(channel, startBlockAddress, headerType, blockSize));
+        } else if (headerType == BlobTable.SUB_BLOCK) {
+            blocks.addAll(this.parseSubBlock(channel, startBlockAddress, headerType));
+        } else if (headerType == BlobTable.FREE_BLOCK) {
+            this.position = startBlockAddress + ((long) blockSize * BlobTable.HEADER_BLOCK_SIZE);
+        } else {
+            throw new SQLException("Unsupported CLOB block type: " + headerType,
+                    SQLStates.TYPE_NOT_FOUND.getValue());
         }
         return blocks;
     }
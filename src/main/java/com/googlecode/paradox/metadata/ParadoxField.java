@@ -18,7 +18,7 @@ import java.util.Locale;
  * Stores a field from a table.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.0
  */
 public final class ParadoxField {
@@ -58,6 +58,21 @@ public final class ParadoxField {
      */
     private int physicsSize;
 
+    /**
+     * BCD size in file.
+     */
+    private static final int BCD_SIZE = 17;
+
+    /**
+     * BCD digits.
+     */
+    private static final int BCD_PRECISION = 32;
+
+    /**
+     * The field scale.
+     */
+    private int scale;
+
     /**
      * The field size.
      */
@@ -134,6 +149,10 @@ public final class ParadoxField {
         dto.setName(this.name.toUpperCase(Locale.US));
         dto.setType(this.getSqlType());
         dto.setTableName(this.tableName);
+        if (this.type == ParadoxFieldType.BCD.getType()) {
+            dto.setPrecision(this.size);
+            dto.setScale(this.scale);
+        }
         return dto;
     }
 
@@ -173,6 +192,15 @@ public final class ParadoxField {
         return this.orderNum;
     }
 
+    /**
+     * Gets the field scale.
+     *
+     * @return the amount of decimal digits of BCD fields, zero for the other fields.
+     */
+    public int getScale() {
+        return this.scale;
+    }
+
     /**
      * Gets the field size.
      *
@@ -288,7 +316,12 @@ public final class ParadoxField {
     public void setSize(final int size) throws SQLException {
         this.physicsSize = size;
         int sqlType = this.getSqlType();
-        if ((sqlType == Types.CLOB) || (sqlType == Types.BLOB)) {
+        if (this.type == ParadoxFieldType.BCD.getType()) {
+            // The BCD size is its decimal digits: the stored size is fixed.
+            this.physicsSize = ParadoxField.BCD_SIZE;
+            this.scale = size;
+            this.size = ParadoxField.BCD_PRECISION;
+        } else if ((sqlType == Types.CLOB) || (sqlType == Types.BLOB)) {
             this.size = size - 10;
         } else {
             this.size = size;
@@ -334,11 +367,11 @@ public final class ParadoxField {
     }
 
     /**
-     * Gets the file size in file.
+     * Gets the field size in file.
      *
-     * @return the file size in file.
+     * @return the field size in file.
      */
-    int getPhysicsSize() {
+    public int getPhysicsSize() {
         return this.physicsSize;
     }
 
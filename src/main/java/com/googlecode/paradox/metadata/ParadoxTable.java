@@ -8,7 +8,12 @@
  */
 package com.googlecode.paradox.metadata;
 
+import com.googlecode.paradox.data.RowVisitor;
+import com.googlecode.paradox.data.ScanContext;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.TableSplit;
 import java.io.File;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,7 +21,7 @@ import java.util.List;
  * Stores a table data file.
  *
  * @author Leonardo Alves da Costa
- * @version 1.2
+ * @version 1.4
  * @since 1.0
  */
 public final class ParadoxTable extends ParadoxDataFile {
@@ -43,7 +48,7 @@ public final class ParadoxTable extends ParadoxDataFile {
      *
      * @return the blob table.
      */
-    public BlobTable getBlobTable() {
+    public synchronized BlobTable getBlobTable() {
         if (this.blobFile == null) {
             this.blobFile = new BlobTable(this.getFile(), this.getName());
         }
@@ -60,6 +65,31 @@ public final class ParadoxTable extends ParadoxDataFile {
         return this.getBlockSize() * 1_024;
     }
 
+    /**
+     * Scans the table rows with a reused row view.
+     *
+     * @param visitor
+     *            the row visitor.
+     * @throws SQLException
+     *             in case of failures.
+     * @see TableData#scan(ParadoxTable, ScanContext, RowVisitor)
+     */
+    public void scan(final RowVisitor visitor) throws SQLException {
+        TableData.scan(this, new ScanContext(), visitor);
+    }
+
+    /**
+     * Creates a split over all table rows, for parallel processing.
+     *
+     * @return the split over all table rows.
+     * @throws SQLException
+     *             in case of failures.
+     * @see TableData#split(ParadoxTable)
+     */
+    public TableSplit split() throws SQLException {
+        return TableData.split(this);
+    }
+
     /**
      * Gets the table name.
      *
@@ -8,6 +8,7 @@
  */
 package com.googlecode.paradox.parser;
 
+import com.googlecode.paradox.parser.nodes.ExplainNode;
 import com.googlecode.paradox.parser.nodes.FieldNode;
 import com.googlecode.paradox.parser.nodes.JoinNode;
 import com.googlecode.paradox.parser.nodes.JoinType;
@@ -39,7 +40,7 @@ import java.util.List;
  * Parses a SQL statement.
  *
  * @author Leonardo Alves da Costa
- * @version 1.2
+ * @version 1.3
  * @since 1.0
  */
 public final class SQLParser {
@@ -90,6 +91,9 @@ public final class SQLParser {
             case SELECT:
                 statementList.add(this.parseSelect());
                 break;
+            case EXPLAIN:
+                statementList.add(this.parseExplain());
+                break;
             case SEMI:
                 if (!statementList.isEmpty()) {
                     break;
@@ -277,6 +281,26 @@ public final class SQLParser {
         return new ExistsNode(select);
     }
     
+    /**
+     * Parses an EXPLAIN statement.
+     *
+     * @return the EXPLAIN node.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    private ExplainNode parseExplain() throws SQLException {
+        this.expect(TokenType.EXPLAIN);
+        boolean analyze = false;
+        if ((this.token != null) && (this.token.getType() == TokenType.ANALYZE)) {
+            this.expect(TokenType.ANALYZE);
+            analyze = true;
+        }
+        if ((this.token == null) || (this.token.getType() != TokenType.SELECT)) {
+            throw new SQLException("SELECT expected.", SQLStates.INVALID_SQL.getValue());
+        }
+        return new ExplainNode(this.parseSelect(), analyze);
+    }
+    
     /**
      * Parses the table join fields.
      *
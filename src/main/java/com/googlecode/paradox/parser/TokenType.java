@@ -12,10 +12,15 @@ package com.googlecode.paradox.parser;
  * SQL Tokens
  *
  * @author Leonardo Alves da Costa
- * @version 1.2
+ * @version 1.3
  * @since 1.0
  */
 public enum TokenType {
+    /**
+     * Analyze token.
+     */
+    ANALYZE,
+    
     /**
      * And token.
      */
@@ -71,6 +76,11 @@ public enum TokenType {
      */
     EXISTS,
     
+    /**
+     * Explain token.
+     */
+    EXPLAIN,
+    
     /**
      * From token.
      */
@@ -0,0 +1,61 @@
+/*
+ * ExplainNode.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.parser.nodes;
+
+/**
+ * Stores an EXPLAIN node.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class ExplainNode extends StatementNode {
+    
+    /**
+     * If the statement is also executed.
+     */
+    private final boolean analyze;
+    
+    /**
+     * The statement to explain.
+     */
+    private final SelectNode select;
+    
+    /**
+     * Create a new instance.
+     *
+     * @param select
+     *            the statement to explain.
+     * @param analyze
+     *            if the statement is also executed.
+     */
+    public ExplainNode(final SelectNode select, final boolean analyze) {
+        super("EXPLAIN");
+        this.select = select;
+        this.analyze = analyze;
+    }
+    
+    /**
+     * Gets the statement to explain.
+     *
+     * @return the statement to explain.
+     */
+    public SelectNode getSelect() {
+        return this.select;
+    }
+    
+    /**
+     * If the statement is also executed.
+     *
+     * @return true if the statement is also executed.
+     */
+    public boolean isAnalyze() {
+        return this.analyze;
+    }
+}
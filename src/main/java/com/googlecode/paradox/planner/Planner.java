@@ -9,6 +9,7 @@
 package com.googlecode.paradox.planner;
 
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.ScanContext;
 import com.googlecode.paradox.data.TableData;
 import com.googlecode.paradox.metadata.ParadoxTable;
 import com.googlecode.paradox.parser.nodes.SQLNode;
@@ -28,7 +29,7 @@ import java.util.List;
  * Creates a SQL execution plan.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.1
  */
 public class Planner {
@@ -38,6 +39,11 @@ public class Planner {
      */
     private final ParadoxConnection conn;
     
+    /**
+     * The table scan settings of the plans.
+     */
+    private final ScanContext context;
+    
     /**
      * Create a new instance.
      *
@@ -45,7 +51,20 @@ public class Planner {
      *            the database connection.
      */
     public Planner(final ParadoxConnection conn) {
+        this(conn, new ScanContext(conn));
+    }
+    
+    /**
+     * Create a new instance with the table scan settings.
+     *
+     * @param conn
+     *            the database connection.
+     * @param context
+     *            the table scan settings of the plans.
+     */
+    public Planner(final ParadoxConnection conn, final ScanContext context) {
         this.conn = conn;
+        this.context = context;
     }
     
     /**
@@ -107,7 +126,7 @@ public class Planner {
      *             in case of syntax error.
      */
     private Plan createSelect(final SelectNode statement) throws SQLException {
-        final SelectPlan plan = new SelectPlan(this.conn,statement.getConditions());
+        final SelectPlan plan = new SelectPlan(this.context, statement.getConditions());
         final List<ParadoxTable> paradoxTables = TableData.listTables(this.conn);
         
         // Load the table metadata.
@@ -0,0 +1,335 @@
+/*
+ * PlanNode.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.data.table.value.BatchList;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.data.table.value.RowBatch;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.results.Column;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An operator of a query plan, as shown by EXPLAIN.
+ * <p>
+ * The actual values are only known after an EXPLAIN ANALYZE and include the child operators, so the time and blocks
+ * of a node are the totals of its subtree.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class PlanNode {
+
+    /**
+     * Value of the unknown amounts.
+     */
+    public static final long UNKNOWN = -1;
+
+    /**
+     * The EXPLAIN column names.
+     */
+    private static final String[] COLUMN_NAMES = { "ID", "PARENT", "OPERATOR", "DETAIL", "ESTIMATED_ROWS",
+        "ESTIMATED_BLOCKS", "ROWS", "BLOCKS", "TIME_MS", "MEMORY_KB" };
+
+    /**
+     * The EXPLAIN column types.
+     */
+    private static final int[] COLUMN_TYPES = { Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.VARCHAR,
+        Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.DOUBLE, Types.INTEGER };
+
+    /**
+     * Actual blocks read.
+     */
+    private long blocks = PlanNode.UNKNOWN;
+
+    /**
+     * The operator details.
+     */
+    private final String detail;
+
+    /**
+     * Estimated blocks read.
+     */
+    private long estimatedBlocks = PlanNode.UNKNOWN;
+
+    /**
+     * Estimated rows returned.
+     */
+    private long estimatedRows = PlanNode.UNKNOWN;
+
+    /**
+     * The operator ID, starting at one.
+     */
+    private final int id;
+
+    /**
+     * Estimated memory used in bytes.
+     */
+    private long memory = PlanNode.UNKNOWN;
+
+    /**
+     * Actual time in nanoseconds.
+     */
+    private long nanos = PlanNode.UNKNOWN;
+
+    /**
+     * The operator name.
+     */
+    private final String operator;
+
+    /**
+     * The parent operator ID or zero in the root.
+     */
+    private final int parent;
+
+    /**
+     * Actual rows returned.
+     */
+    private long rows = PlanNode.UNKNOWN;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param id
+     *            the operator ID, starting at one.
+     * @param parent
+     *            the parent operator ID or zero in the root.
+     * @param operator
+     *            the operator name.
+     * @param detail
+     *            the operator details.
+     */
+    PlanNode(final int id, final int parent, final String operator, final String detail) {
+        this.id = id;
+        this.parent = parent;
+        this.operator = operator;
+        this.detail = detail;
+    }
+
+    /**
+     * Gets the EXPLAIN result columns.
+     *
+     * @return the EXPLAIN result columns.
+     */
+    public static List<Column> getColumns() {
+        final List<Column> columns = new ArrayList<>(PlanNode.COLUMN_NAMES.length);
+        for (int loop = 0; loop < PlanNode.COLUMN_NAMES.length; loop++) {
+            columns.add(new Column(PlanNode.COLUMN_NAMES[loop], PlanNode.COLUMN_TYPES[loop]));
+        }
+        return columns;
+    }
+
+    /**
+     * Converts the operators in EXPLAIN result rows.
+     *
+     * @param nodes
+     *            the operators.
+     * @return the EXPLAIN result rows.
+     */
+    public static BatchList toRows(final List<PlanNode> nodes) {
+        final BatchList ret = new BatchList(new ParadoxField[PlanNode.COLUMN_NAMES.length]);
+        for (final PlanNode node : nodes) {
+            final RowBatch row = ret.appendRow();
+            row.setLong(0, node.id, Types.INTEGER);
+            PlanNode.setAmount(row, 1, (node.parent == 0) ? PlanNode.UNKNOWN : node.parent);
+            row.setValue(2, new FieldValue(node.operator, Types.VARCHAR));
+            row.setValue(3, new FieldValue(node.detail, Types.VARCHAR));
+            PlanNode.setAmount(row, 4, node.estimatedRows);
+            PlanNode.setAmount(row, 5, node.estimatedBlocks);
+            PlanNode.setAmount(row, 6, node.rows);
+            PlanNode.setAmount(row, 7, node.blocks);
+            if (node.nanos == PlanNode.UNKNOWN) {
+                row.setNull(8, Types.DOUBLE);
+            } else {
+                row.setDouble(8, node.nanos / 1_000_000D);
+            }
+            if (node.memory == PlanNode.UNKNOWN) {
+                row.setNull(9, Types.INTEGER);
+            } else {
+                row.setLong(9, (node.memory + 1023) / 1024, Types.INTEGER);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Describes the operators as text, one operator by line, indented by its depth.
+     *
+     * @param nodes
+     *            the operators, parents first.
+     * @return the operators as text.
+     */
+    public static String toText(final List<PlanNode> nodes) {
+        final StringBuilder builder = new StringBuilder();
+        final int[] depths = new int[nodes.size() + 1];
+        for (final PlanNode node : nodes) {
+            if ((node.parent > 0) && (node.parent < depths.length) && (node.id < depths.length)) {
+                depths[node.id] = depths[node.parent] + 1;
+            }
+            if (builder.length() > 0) {
+                builder.append('\n');
+            }
+            for (int loop = 0; (node.id < depths.length) && (loop < depths[node.id]); loop++) {
+                builder.append("  ");
+            }
+            builder.append(node.operator);
+            if ((node.detail != null) && !node.detail.isEmpty()) {
+                builder.append(' ').append(node.detail);
+            }
+            if (node.estimatedRows != PlanNode.UNKNOWN) {
+                builder.append(" (rows=").append(node.estimatedRows).append(", blocks=").append(
+                        node.estimatedBlocks).append(')');
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Stores an amount or NULL if unknown.
+     *
+     * @param row
+     *            the row to store in.
+     * @param column
+     *            the column index.
+     * @param value
+     *            the amount.
+     */
+    private static void setAmount(final RowBatch row, final int column, final long value) {
+        if (value == PlanNode.UNKNOWN) {
+            row.setNull(column, Types.INTEGER);
+        } else {
+            row.setLong(column, value, Types.INTEGER);
+        }
+    }
+
+    /**
+     * Gets the actual blocks read.
+     *
+     * @return the actual blocks read or {@link #UNKNOWN}.
+     */
+    public long getBlocks() {
+        return this.blocks;
+    }
+
+    /**
+     * Gets the operator details.
+     *
+     * @return the operator details.
+     */
+    public String getDetail() {
+        return this.detail;
+    }
+
+    /**
+     * Gets the estimated blocks read.
+     *
+     * @return the estimated blocks read or {@link #UNKNOWN}.
+     */
+    public long getEstimatedBlocks() {
+        return this.estimatedBlocks;
+    }
+
+    /**
+     * Gets the estimated rows returned.
+     *
+     * @return the estimated rows returned or {@link #UNKNOWN}.
+     */
+    public long getEstimatedRows() {
+        return this.estimatedRows;
+    }
+
+    /**
+     * Gets the operator ID.
+     *
+     * @return the operator ID, starting at one.
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    /**
+     * Gets the estimated memory used.
+     *
+     * @return the estimated memory used in bytes or {@link #UNKNOWN}.
+     */
+    public long getMemory() {
+        return this.memory;
+    }
+
+    /**
+     * Gets the actual time.
+     *
+     * @return the actual time in nanoseconds or {@link #UNKNOWN}.
+     */
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    /**
+     * Gets the operator name.
+     *
+     * @return the operator name.
+     */
+    public String getOperator() {
+        return this.operator;
+    }
+
+    /**
+     * Gets the parent operator ID.
+     *
+     * @return the parent operator ID or zero in the root.
+     */
+    public int getParent() {
+        return this.parent;
+    }
+
+    /**
+     * Gets the actual rows returned.
+     *
+     * @return the actual rows returned or {@link #UNKNOWN}.
+     */
+    public long getRows() {
+        return this.rows;
+    }
+
+    /**
+     * Sets the actual values.
+     *
+     * @param rows
+     *            the rows returned.
+     * @param blocks
+     *            the blocks read.
+     * @param nanos
+     *            the time in nanoseconds.
+     * @param memory
+     *            the estimated memory used in bytes.
+     */
+    void setActual(final long rows, final long blocks, final long nanos, final long memory) {
+        this.rows = rows;
+        this.blocks = blocks;
+        this.nanos = nanos;
+        this.memory = memory;
+    }
+
+    /**
+     * Sets the estimated values.
+     *
+     * @param rows
+     *            the estimated rows returned.
+     * @param blocks
+     *            the estimated blocks read.
+     */
+    void setEstimates(final long rows, final long blocks) {
+        this.estimatedRows = rows;
+        this.estimatedBlocks = blocks;
+    }
+}
@@ -9,10 +9,15 @@
 package com.googlecode.paradox.planner.plan;
 
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.ScanContext;
 import com.googlecode.paradox.data.TableData;
 import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.data.table.value.BatchList;
+import com.googlecode.paradox.data.table.value.ColumnVector;
+import com.googlecode.paradox.data.table.value.RowBatch;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.parser.nodes.FieldNode;
 import com.googlecode.paradox.parser.nodes.SQLNode;
 import com.googlecode.paradox.parser.nodes.comparisons.EqualsNode;
 import com.googlecode.paradox.parser.nodes.comparisons.GreaterThanNode;
@@ -21,27 +26,43 @@ import com.googlecode.paradox.parser.nodes.comparisons.NotEqualsNode;
 import com.googlecode.paradox.parser.nodes.conditional.ANDNode;
 import com.googlecode.paradox.parser.nodes.conditional.ORNode;
 import com.googlecode.paradox.planner.nodes.PlanTableNode;
+import com.googlecode.paradox.planner.vector.Comparison;
+import com.googlecode.paradox.planner.vector.FilterKernels;
 import com.googlecode.paradox.results.Column;
 import com.googlecode.paradox.utils.SQLStates;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Creates a SELECT plan for execution.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.9
  * @since 1.1
  */
 public final class SelectPlan implements Plan {
     
+    /**
+     * The EXPLAIN ANALYZE operators by table, null if not analyzing.
+     */
+    private Map<ParadoxTable, PlanNode[]> analysis;
+    
     /**
      * The columns in this plan.
      */
     private final List<Column> columns = new ArrayList<>();
     
+    /**
+     * The table scan settings.
+     */
+    private final ScanContext context;
+    
     /**
      * The tables in this plan.
      */
@@ -50,7 +71,7 @@ public final class SelectPlan implements Plan {
     /**
      * The data values.
      */
-    private final List<List<FieldValue>> values = new ArrayList<>();
+    private BatchList values = new BatchList(new ParadoxField[0]);
     
 	/**
 	 * The conditions to filter values
@@ -64,6 +85,7 @@ public final class SelectPlan implements Plan {
      *            the Paradox connection.
      */
     public SelectPlan(final ParadoxConnection conn) {
+        this.context = new ScanContext(conn);
     }
     
     /**
@@ -75,9 +97,22 @@ public final class SelectPlan implements Plan {
      * 				the conditions to filter results
      */
 	public SelectPlan(final ParadoxConnection conn, List<SQLNode> conditions) {
-		this.conditions = conditions;
+		this(new ScanContext(conn), conditions);
 	}
     
+    /**
+     * Creates a SELECT plan with the table scan settings and conditions.
+     *
+     * @param context
+     *            the table scan settings.
+     * @param conditions
+     *            the conditions to filter results.
+     */
+    public SelectPlan(final ScanContext context, final List<SQLNode> conditions) {
+        this.context = context;
+        this.conditions = conditions;
+    }
+    
     /**
      * Add column from select list.
      *
@@ -128,16 +163,101 @@ public final class SelectPlan implements Plan {
             return;
         }
         
-        for (final Column column : this.columns) {
+        final ParadoxField[] fields = new ParadoxField[this.columns.size()];
+        for (int index = 0; index < fields.length; index++) {
+            final Column column = this.columns.get(index);
+            for (final PlanTableNode table : this.tables) {
+                final ParadoxTable pTable = table.getTable();
+                if (column.getTableName().equalsIgnoreCase(pTable.getName())) {
+                    fields[index] = SelectPlan.getField(column, pTable);
+                }
+            }
+        }
+        
+        this.values = new BatchList(fields);
+        
+        // Each table is read and filtered only once.
+        final Map<ParadoxTable, ScannedTable> tableData = new IdentityHashMap<>();
+        for (int index = 0; index < fields.length; index++) {
+            final Column column = this.columns.get(index);
             for (final PlanTableNode table : this.tables) {
                 final ParadoxTable pTable = table.getTable();
                 if (column.getTableName().equalsIgnoreCase(pTable.getName())) {
-                    this.loadTableData(column, pTable);
+                    ScannedTable scanned = tableData.get(pTable);
+                    if (scanned == null) {
+                        scanned = this.loadTableData(pTable);
+                        tableData.put(pTable, scanned);
+                    }
+                    this.fillResultValues(scanned, index, SelectPlan.getField(column, pTable).getOrderNum() - 1);
                 }
             }
         }
     }
     
+    /**
+     * Describes this plan operators, from the result to the table scans.
+     * <p>
+     * The tables are always fully scanned. If analyzing, the plan is executed and the actual values of each operator
+     * are stored, including the values of the child operators.
+     *
+     * @param analyze
+     *            if the plan should be executed to get the actual values.
+     * @return the plan operators.
+     * @throws SQLException
+     *             in case of execution errors.
+     */
+    public List<PlanNode> explain(final boolean analyze) throws SQLException {
+        final List<PlanNode> nodes = new ArrayList<>();
+        final StringBuilder names = new StringBuilder();
+        for (final Column column : this.columns) {
+            if (names.length() > 0) {
+                names.append(", ");
+            }
+            names.append(column.getName());
+        }
+        final PlanNode project = new PlanNode(1, 0, "PROJECT", names.toString());
+        nodes.add(project);
+        
+        final Map<ParadoxTable, PlanNode[]> tableNodes = new IdentityHashMap<>();
+        long estimatedRows = 0;
+        long estimatedBlocks = 0;
+        for (final PlanTableNode table : this.tables) {
+            final ParadoxTable pTable = table.getTable();
+            if (tableNodes.containsKey(pTable)) {
+                continue;
+            }
+            final PlanNode[] tableNode = new PlanNode[2];
+            int parent = project.getId();
+            if (!this.conditions.isEmpty()) {
+                tableNode[1] = new PlanNode(nodes.size() + 1, parent, "FILTER", this.describeConditions());
+                nodes.add(tableNode[1]);
+                parent = tableNode[1].getId();
+            }
+            tableNode[0] = new PlanNode(nodes.size() + 1, parent, "TABLE SCAN", pTable.getName()
+                    + " (full scan, no index)");
+            tableNode[0].setEstimates(pTable.getRowCount(), pTable.getUsedBlocks());
+            nodes.add(tableNode[0]);
+            tableNodes.put(pTable, tableNode);
+            estimatedRows = Math.max(estimatedRows, pTable.getRowCount());
+            estimatedBlocks += pTable.getUsedBlocks();
+        }
+        project.setEstimates(estimatedRows, estimatedBlocks);
+        
+        if (analyze) {
+            final long start = System.nanoTime();
+            final long blocks = this.context.getBlocksScanned();
+            this.analysis = tableNodes;
+            try {
+                this.execute();
+            } finally {
+                this.analysis = null;
+            }
+            project.setActual(this.values.size(), this.context.getBlocksScanned() - blocks, System.nanoTime() - start,
+                    this.values.estimateSize());
+        }
+        return nodes;
+    }
+    
     /**
      * Gets the columns in SELECT statement.
      *
@@ -162,50 +282,57 @@ public final class SelectPlan implements Plan {
      * @return array of array of values/ Can be null (empty result set);
      */
     public List<List<FieldValue>> getValues() {
-        return Collections.unmodifiableList(this.values);
+        return Collections.<List<FieldValue>> unmodifiableList(this.values);
     }
     
     /**
-	 * Fill the result row with a field order and filters the result row by the
-	 * conditions.
-	 *
-	 * @param tableData
-	 *            the table data load from.
-	 * @param fieldOrder
-	 *            the field order.
-	 * @throws SQLException 
-	 */
-	private void fillResultValues(final List<List<FieldValue>> tableData, final int fieldOrder) throws SQLException {
-		int placeholder = 0;
-		boolean addingAtt = false;
-		if(this.values.size() != 0) addingAtt = true; 
-		
-		for (int j = 0; j < tableData.size(); j++) {
-			List<FieldValue> resultRow;
-			if (conditions.size() == 0) {	//no conditions to verify
-				if (j == this.values.size()) {
-					resultRow = new ArrayList<>();
-					this.values.add(resultRow);
-				} else {
-					resultRow = this.values.get(j);
-				}
-
-				resultRow.add(tableData.get(j).get(fieldOrder));
-			} else {						//verify conditions
-				if (checkConditions(0, tableData.get(j))) {
-						resultRow = new ArrayList<>();
-						if(addingAtt)
-							resultRow = this.values.get(placeholder++);
-						else
-							this.values.add(resultRow);
-						resultRow.add(tableData.get(j).get(fieldOrder));											
-					}
-				
-				
-			} // end else conditions
-
-		}//end for tableData
-	}
+     * Fill a result column, copying the column vectors without boxing.
+     *
+     * @param tableData
+     *            the table rows and the rows selected by the conditions.
+     * @param column
+     *            the result column.
+     * @param fieldOrder
+     *            the field order in table rows.
+     * @throws SQLException
+     *             if the execution is cancelled or exceeds its memory limit.
+     */
+    private void fillResultValues(final ScannedTable tableData, final int column, final int fieldOrder)
+            throws SQLException {
+        final List<RowBatch> batches = tableData.rows.getBatches();
+        final List<RowBatch> results = this.values.getBatches();
+        int target = 0;
+        // Cursor in the result batches, avoiding a row lookup per value.
+        int targetBatch = 0;
+        int targetRow = 0;
+        for (int loop = 0; loop < batches.size(); loop++) {
+            this.context.checkCancelled();
+            final ColumnVector source = batches.get(loop).getVector(fieldOrder);
+            final int[] selection = tableData.selections[loop];
+            final int count = (selection == null) ? batches.get(loop).size() : selection.length;
+            for (int i = 0; i < count; i++) {
+                if (target == this.values.size()) {
+                    this.values.appendRow();
+                }
+                if (targetRow == results.get(targetBatch).size()) {
+                    targetBatch++;
+                    targetRow = 0;
+                }
+                results.get(targetBatch).getVector(column).copy(targetRow, source,
+                        (selection == null) ? i : selection[i]);
+                targetRow++;
+                target++;
+            }
+        }
+        
+        if (this.context.isMemoryLimited()) {
+            long size = 0;
+            for (final RowBatch batch : this.values.getBatches()) {
+                size += batch.getVector(column).estimateSize();
+            }
+            this.context.reserveMemory(size);
+        }
+    }
 	
     /**
      * Check the conditions by concatenating and evaluating the comparison nodes.
@@ -339,29 +466,324 @@ public final class SelectPlan implements Plan {
     }
     
     /**
-     * Load the table data form a table.
+     * Gets the table field of a column.
      *
      * @param column
-     *            the column to load.
+     *            the column.
      * @param table
-     *            the table to load.
+     *            the column table.
+     * @return the table field.
      * @throws SQLException
-     *             in case of execution errors.
+     *             if the field is not found.
      */
-    private void loadTableData(final Column column, final ParadoxTable table) throws SQLException {
+    private static ParadoxField getField(final Column column, final ParadoxTable table) throws SQLException {
         final ParadoxField field = table.findField(column.getName());
         if (field == null) {
             throw new SQLException("Column '" + column.getName() + "' not found in table '" + table.getName(),
                     SQLStates.INVALID_FIELD_VALUE.getValue());
         }
-        // load table data
-        final List<List<FieldValue>> tableData = TableData.loadData(table, table.getFields());
         // search column index
         if ((field.getOrderNum() > table.getFields().size()) || (field.getOrderNum() < 1)) {
             throw new SQLException("Invalid column position", SQLStates.INVALID_FIELD_VALUE.getValue());
         }
+        return field;
+    }
+    
+    /**
+     * Load the table data form a table, selecting the rows by the conditions.
+     *
+     * @param table
+     *            the table to load.
+     * @return the table rows.
+     * @throws SQLException
+     *             in case of execution errors.
+     */
+    private ScannedTable loadTableData(final ParadoxTable table) throws SQLException {
+        final long start = System.nanoTime();
+        final long blocks = this.context.getBlocksScanned();
+        final BatchList rows = TableData.loadBatches(table, table.getFields(), this.context);
+        final List<RowBatch> batches = rows.getBatches();
+        final long scanned = System.nanoTime();
+        final int[][] selections = new int[batches.size()][];
+        if (!this.conditions.isEmpty()) {
+            for (int loop = 0; loop < selections.length; loop++) {
+                this.context.checkCancelled();
+                selections[loop] = this.selectRows(batches.get(loop));
+                if (this.context.isMemoryLimited()) {
+                    this.context.reserveMemory(ColumnVector.HEADER_SIZE + (selections[loop].length * 4L));
+                }
+            }
+        }
+        
+        final PlanNode[] nodes = (this.analysis == null) ? null : this.analysis.get(table);
+        if (nodes != null) {
+            final long readBlocks = this.context.getBlocksScanned() - blocks;
+            final long rowsSize = rows.estimateSize();
+            nodes[0].setActual(rows.size(), readBlocks, scanned - start, rowsSize);
+            if (nodes[1] != null) {
+                long selected = 0;
+                long selectionsSize = ColumnVector.HEADER_SIZE;
+                for (final int[] selection : selections) {
+                    selected += selection.length;
+                    selectionsSize += ColumnVector.HEADER_SIZE + (selection.length * 4L);
+                }
+                nodes[1].setActual(selected, readBlocks, System.nanoTime() - start, rowsSize + selectionsSize);
+            }
+        }
+        return new ScannedTable(rows, selections);
+    }
+    
+    /**
+     * Describes the conditions as written in WHERE clause.
+     *
+     * @return the conditions description.
+     */
+    private String describeConditions() {
+        final StringBuilder builder = new StringBuilder();
+        for (final SQLNode condition : this.conditions) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            if ((condition instanceof ANDNode) || (condition instanceof ORNode)) {
+                builder.append(condition.getName());
+            } else {
+                builder.append(condition);
+            }
+        }
+        return builder.toString();
+    }
+    
+    /**
+     * Selects the rows of a batch by the conditions.
+     * <p>
+     * Each condition is evaluated for the whole batch into a match mask, and the masks are combined from the last
+     * condition to the first, as {@link #checkConditions(int, List)} does for one row.
+     *
+     * @param batch
+     *            the batch to filter.
+     * @return the selected rows.
+     * @throws SQLException
+     *             in case of execution errors.
+     */
+    private int[] selectRows(final RowBatch batch) throws SQLException {
+        final int size = batch.size();
+        final int[] selection = new int[size];
+        final int last = this.conditions.size() - 1;
+        if ((last % 2) != 0) {
+            // Not a condition list: keeps the row by row errors.
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                if (this.checkConditions(0, batch.getRow(row))) {
+                    selection[count++] = row;
+                }
+            }
+            return Arrays.copyOf(selection, count);
+        }
+        
+        final boolean[] result = new boolean[size];
+        this.evaluateCondition(this.conditions.get(last), batch, result);
+        final boolean[] mask = new boolean[size];
+        for (int loop = last - 2; loop >= 0; loop -= 2) {
+            final SQLNode operator = this.conditions.get(loop + 1);
+            this.evaluateCondition(this.conditions.get(loop), batch, mask);
+            if (operator instanceof ANDNode) {
+                FilterKernels.and(result, mask, size);
+            } else if (operator instanceof ORNode) {
+                FilterKernels.or(result, mask, size);
+            } else {
+                Arrays.fill(result, false);
+            }
+        }
+        return Arrays.copyOf(selection, FilterKernels.select(result, size, selection));
+    }
+    
+    /**
+     * Evaluate a condition for all rows of a batch.
+     * <p>
+     * Comparisons over integer and floating point columns run in the {@link FilterKernels} loops. The other conditions
+     * are evaluated row by row.
+     *
+     * @param condition
+     *            the condition to be evaluated.
+     * @param batch
+     *            the batch rows.
+     * @param mask
+     *            the match mask of each row.
+     * @throws SQLException
+     *             in case of execution errors.
+     */
+    private void evaluateCondition(final SQLNode condition, final RowBatch batch, final boolean[] mask)
+            throws SQLException {
+        final int size = batch.size();
+        if (!this.evaluateKernel(condition, batch, mask)) {
+            for (int row = 0; row < size; row++) {
+                mask[row] = this.evaluateCondition(condition, batch.getRow(row));
+            }
+        }
+    }
+    
+    /**
+     * Evaluate a numeric comparison with the {@link FilterKernels}.
+     * <p>
+     * The results are the same of {@link #evaluateCondition(SQLNode, List)}: equality compares the value text, so only
+     * a literal written as the value text can match, and the order comparisons are made in floating point. NULL
+     * values never match.
+     *
+     * @param condition
+     *            the condition to be evaluated.
+     * @param batch
+     *            the batch rows.
+     * @param mask
+     *            the match mask of each row.
+     * @return false if the condition can not be evaluated by the kernels.
+     * @throws SQLException
+     *             in case of execution errors.
+     */
+    private boolean evaluateKernel(final SQLNode condition, final RowBatch batch, final boolean[] mask)
+            throws SQLException {
+        final FieldNode first;
+        final String literal;
+        final Comparison comparison;
+        if (condition instanceof EqualsNode) {
+            first = ((EqualsNode) condition).getFirst();
+            literal = ((EqualsNode) condition).getLast().toString();
+            comparison = Comparison.EQUALS;
+        } else if (condition instanceof NotEqualsNode) {
+            first = ((NotEqualsNode) condition).getFirst();
+            literal = ((NotEqualsNode) condition).getLast().toString();
+            comparison = Comparison.NOT_EQUALS;
+        } else if (condition instanceof GreaterThanNode) {
+            first = ((GreaterThanNode) condition).getFirst();
+            literal = ((GreaterThanNode) condition).getLast().toString();
+            comparison = Comparison.GREATER_THAN;
+        } else if (condition instanceof LessThanNode) {
+            first = ((LessThanNode) condition).getFirst();
+            literal = ((LessThanNode) condition).getLast().toString();
+            comparison = Comparison.LESS_THAN;
+        } else {
+            return false;
+        }
+        
+        final ParadoxField field = this.findField(first.toString());
+        if (field == null) {
+            return false;
+        }
+        final int column = field.getOrderNum() - 1;
+        final ColumnVector vector = batch.getVector(column);
+        final long[] values = vector.getLongs();
+        final int type = vector.getType();
+        if ((values == null) || ((type != Types.INTEGER) && (type != Types.BIGINT) && (type != Types.DOUBLE))) {
+            return false;
+        }
+        
+        final int size = batch.size();
+        if (!first.toString().toUpperCase().equals(batch.getField(column).toString().toUpperCase())) {
+            Arrays.fill(mask, 0, size, false);
+            return true;
+        }
+        
+        final boolean order = (comparison == Comparison.GREATER_THAN) || (comparison == Comparison.LESS_THAN);
+        final double operand;
+        try {
+            operand = Double.parseDouble(literal);
+        } catch (final NumberFormatException e) {
+            if (order) {
+                // Same error of row by row evaluation.
+                return false;
+            }
+            // Not a number: never equals to a numeric value.
+            SelectPlan.evaluateMismatch(comparison, vector, size, mask);
+            return true;
+        }
+        
+        if (order && Double.isNaN(operand)) {
+            Arrays.fill(mask, 0, size, false);
+        } else if (type == Types.DOUBLE) {
+            if (order) {
+                FilterKernels.compare(comparison, values, size, operand, mask);
+            } else if (Double.toString(operand).equalsIgnoreCase(literal)) {
+                FilterKernels.compare(comparison, values, size, Double.doubleToRawLongBits(operand), mask);
+            } else {
+                SelectPlan.evaluateMismatch(comparison, vector, size, mask);
+                return true;
+            }
+        } else if (comparison == Comparison.GREATER_THAN) {
+            FilterKernels.compare(comparison, values, size, (long) Math.floor(operand), mask);
+        } else if (comparison == Comparison.LESS_THAN) {
+            FilterKernels.compare(comparison, values, size, (long) Math.ceil(operand), mask);
+        } else if (SelectPlan.isLong(literal)) {
+            FilterKernels.compare(comparison, values, size, Long.parseLong(literal), mask);
+        } else {
+            SelectPlan.evaluateMismatch(comparison, vector, size, mask);
+            return true;
+        }
+        FilterKernels.clearNulls(mask, vector.getValidity(), size);
+        return true;
+    }
+    
+    /**
+     * Evaluate an equality comparison with a literal that is never the text of a column value.
+     *
+     * @param comparison
+     *            the comparison.
+     * @param vector
+     *            the column values.
+     * @param size
+     *            amount of rows.
+     * @param mask
+     *            the match mask of each row.
+     */
+    private static void evaluateMismatch(final Comparison comparison, final ColumnVector vector, final int size,
+            final boolean[] mask) {
+        Arrays.fill(mask, 0, size, comparison == Comparison.NOT_EQUALS);
+        FilterKernels.clearNulls(mask, vector.getValidity(), size);
+    }
+    
+    /**
+     * If the literal is written as the text of a long value.
+     *
+     * @param literal
+     *            the literal.
+     * @return true if the literal is written as the text of a long value.
+     */
+    private static boolean isLong(final String literal) {
+        try {
+            return Long.toString(Long.parseLong(literal)).equals(literal);
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * A table read by the plan.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4.0
+     */
+    private static final class ScannedTable {
+        
+        /**
+         * The table rows.
+         */
+        private final BatchList rows;
         
-        final int p = field.getOrderNum() - 1;
-        this.fillResultValues(tableData, p);
+        /**
+         * The rows selected by batch. Null if all rows of the batch are selected.
+         */
+        private final int[][] selections;
+        
+        /**
+         * Creates a new instance.
+         *
+         * @param rows
+         *            the table rows.
+         * @param selections
+         *            the rows selected by batch.
+         */
+        ScannedTable(final BatchList rows, final int[][] selections) {
+            this.rows = rows;
+            this.selections = selections;
+        }
     }
-}
\ No newline at end of file
+}
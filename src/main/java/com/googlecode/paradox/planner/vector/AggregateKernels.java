@@ -0,0 +1,372 @@
+/*
+ * AggregateKernels.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.vector;
+
+import com.googlecode.paradox.data.table.value.ColumnVector;
+import com.googlecode.paradox.utils.DecimalUtils;
+import com.googlecode.paradox.utils.SQLStates;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLDataException;
+import java.sql.Types;
+
+/**
+ * Aggregate kernels over column vectors.
+ * <p>
+ * The values are the long arrays of {@link com.googlecode.paradox.data.table.value.ColumnVector}, where NULL rows
+ * have zero, so the sums need no validity check. Floating point values are stored as raw bits. The integer sums wrap
+ * on overflow, like the Java arithmetic; the exact sums carry the overflow to a {@link BigInteger} and are used for
+ * money values, with {@link #sumDecimal(ColumnVector, int)} as entry point.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class AggregateKernels {
+
+    /**
+     * Amount of bits in a validity word.
+     */
+    private static final int WORD_BITS = 64;
+
+    /**
+     * Decimal digits of Paradox money values.
+     */
+    private static final int MONEY_SCALE = 2;
+
+    /**
+     * Utility class.
+     */
+    private AggregateKernels() {
+        // Utility class.
+    }
+
+    /**
+     * Count the not NULL rows.
+     *
+     * @param validity
+     *            the validity mask.
+     * @param size
+     *            amount of rows.
+     * @return the amount of not NULL rows.
+     */
+    public static long count(final long[] validity, final int size) {
+        final int words = size / AggregateKernels.WORD_BITS;
+        long count = 0;
+        for (int i = 0; i < words; i++) {
+            count += Long.bitCount(validity[i]);
+        }
+        final int tail = size % AggregateKernels.WORD_BITS;
+        if (tail > 0) {
+            count += Long.bitCount(validity[words] & ((1L << tail) - 1));
+        }
+        return count;
+    }
+
+    /**
+     * Count the not NULL rows of a selection.
+     *
+     * @param validity
+     *            the validity mask.
+     * @param selection
+     *            the selected rows.
+     * @param count
+     *            amount of rows selected.
+     * @return the amount of not NULL rows.
+     */
+    public static long count(final long[] validity, final int[] selection, final int count) {
+        long ret = 0;
+        for (int i = 0; i < count; i++) {
+            final int row = selection[i];
+            ret += (validity[row >>> 6] >>> row) & 1L;
+        }
+        return ret;
+    }
+
+    /**
+     * Gets the max integer value.
+     *
+     * @param values
+     *            the values.
+     * @param validity
+     *            the validity mask.
+     * @param size
+     *            amount of rows.
+     * @return the max value or {@link Long#MIN_VALUE} if all rows are NULL.
+     */
+    public static long max(final long[] values, final long[] validity, final int size) {
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            final long value = (((validity[i >>> 6] >>> i) & 1L) != 0) ? values[i] : Long.MIN_VALUE;
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    /**
+     * Gets the max floating point value.
+     *
+     * @param bits
+     *            the values raw bits.
+     * @param validity
+     *            the validity mask.
+     * @param size
+     *            amount of rows.
+     * @return the max value or {@link Double#NEGATIVE_INFINITY} if all rows are NULL.
+     */
+    public static double maxDouble(final long[] bits, final long[] validity, final int size) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            if (((validity[i >>> 6] >>> i) & 1L) != 0) {
+                max = Math.max(max, Double.longBitsToDouble(bits[i]));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Gets the min integer value.
+     *
+     * @param values
+     *            the values.
+     * @param validity
+     *            the validity mask.
+     * @param size
+     *            amount of rows.
+     * @return the min value or {@link Long#MAX_VALUE} if all rows are NULL.
+     */
+    public static long min(final long[] values, final long[] validity, final int size) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            final long value = (((validity[i >>> 6] >>> i) & 1L) != 0) ? values[i] : Long.MAX_VALUE;
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    /**
+     * Gets the min floating point value.
+     *
+     * @param bits
+     *            the values raw bits.
+     * @param validity
+     *            the validity mask.
+     * @param size
+     *            amount of rows.
+     * @return the min value or {@link Double#POSITIVE_INFINITY} if all rows are NULL.
+     */
+    public static double minDouble(final long[] bits, final long[] validity, final int size) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            if (((validity[i >>> 6] >>> i) & 1L) != 0) {
+                min = Math.min(min, Double.longBitsToDouble(bits[i]));
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Sum integer values.
+     *
+     * @param values
+     *            the values.
+     * @param size
+     *            amount of rows.
+     * @return the sum.
+     */
+    public static long sum(final long[] values, final int size) {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Sum the integer values of a selection.
+     *
+     * @param values
+     *            the values.
+     * @param selection
+     *            the selected rows.
+     * @param count
+     *            amount of rows selected.
+     * @return the sum.
+     */
+    public static long sum(final long[] values, final int[] selection, final int count) {
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += values[selection[i]];
+        }
+        return sum;
+    }
+
+    /**
+     * Sum floating point values.
+     *
+     * @param bits
+     *            the values raw bits.
+     * @param size
+     *            amount of rows.
+     * @return the sum.
+     */
+    public static double sumDouble(final long[] bits, final int size) {
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += Double.longBitsToDouble(bits[i]);
+        }
+        return sum;
+    }
+
+    /**
+     * Sum the floating point values of a selection.
+     *
+     * @param bits
+     *            the values raw bits.
+     * @param selection
+     *            the selected rows.
+     * @param count
+     *            amount of rows selected.
+     * @return the sum.
+     */
+    public static double sumDouble(final long[] bits, final int[] selection, final int count) {
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += Double.longBitsToDouble(bits[selection[i]]);
+        }
+        return sum;
+    }
+
+    /**
+     * Sum floating point values with compensated (Neumaier) summation, so the rounding error does not grow with the
+     * amount of rows.
+     *
+     * @param bits
+     *            the values raw bits.
+     * @param size
+     *            amount of rows.
+     * @return the sum.
+     */
+    public static double sumCompensated(final long[] bits, final int size) {
+        double sum = 0;
+        double compensation = 0;
+        for (int i = 0; i < size; i++) {
+            final double value = Double.longBitsToDouble(bits[i]);
+            final double total = sum + value;
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - total) + value;
+            } else {
+                compensation += (value - total) + sum;
+            }
+            sum = total;
+        }
+        return sum + compensation;
+    }
+
+    /**
+     * Sum integer values without overflow.
+     *
+     * @param values
+     *            the values.
+     * @param size
+     *            amount of rows.
+     * @return the exact sum.
+     */
+    public static BigInteger sumExact(final long[] values, final int size) {
+        BigInteger carry = BigInteger.ZERO;
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            final long value = values[i];
+            final long total = sum + value;
+            if (((sum ^ total) & (value ^ total)) < 0) {
+                // Overflow: move the partial sum out of the long.
+                carry = carry.add(BigInteger.valueOf(sum));
+                sum = value;
+            } else {
+                sum = total;
+            }
+        }
+        return carry.add(BigInteger.valueOf(sum));
+    }
+
+    /**
+     * Sum floating point values as scaled longs, exact for values with up to scale decimal digits, like money.
+     *
+     * @param bits
+     *            the values raw bits.
+     * @param size
+     *            amount of rows.
+     * @param scale
+     *            the amount of decimal digits.
+     * @return the exact sum or null if some value has more decimal digits.
+     */
+    public static BigDecimal sumScaled(final long[] bits, final int size, final int scale) {
+        BigInteger carry = BigInteger.ZERO;
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            final long value = DecimalUtils.toScaled(Double.longBitsToDouble(bits[i]), scale);
+            if (value == Long.MIN_VALUE) {
+                return null;
+            }
+            final long total = sum + value;
+            if (((sum ^ total) & (value ^ total)) < 0) {
+                carry = carry.add(BigInteger.valueOf(sum));
+                sum = value;
+            } else {
+                sum = total;
+            }
+        }
+        return new BigDecimal(carry.add(BigInteger.valueOf(sum)), scale);
+    }
+
+    /**
+     * Sum a numeric column without floating point error accumulation.
+     * <p>
+     * Integer and BCD values are summed as exact longs. Floating point values, like the money fields, are summed as
+     * scaled longs when all values have up to two decimal digits, and with compensated summation otherwise.
+     *
+     * @param vector
+     *            the column values.
+     * @param size
+     *            amount of rows.
+     * @return the sum or null if all values are NULL.
+     * @throws SQLDataException
+     *             if this is not a numeric column.
+     */
+    public static BigDecimal sumDecimal(final ColumnVector vector, final int size) throws SQLDataException {
+        if (AggregateKernels.count(vector.getValidity(), size) == 0) {
+            return null;
+        }
+        final long[] values = vector.getLongs();
+        switch (vector.getType()) {
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return new BigDecimal(AggregateKernels.sumExact(values, size));
+            case Types.NUMERIC:
+                BigDecimal sum = BigDecimal.ZERO;
+                if (values != null) {
+                    sum = new BigDecimal(AggregateKernels.sumExact(values, size), vector.getScale());
+                }
+                for (int i = 0; i < size; i++) {
+                    if (vector.hasObject(i)) {
+                        sum = sum.add((BigDecimal) vector.get(i, null).getValue());
+                    }
+                }
+                return sum;
+            case Types.DOUBLE:
+                final BigDecimal money = AggregateKernels.sumScaled(values, size, AggregateKernels.MONEY_SCALE);
+                if (money != null) {
+                    return money;
+                }
+                return DecimalUtils.toBigDecimal(AggregateKernels.sumCompensated(values, size));
+            default:
+                throw new SQLDataException("Invalid field type.", SQLStates.INVALID_FIELD_VALUE.getValue());
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * FilterKernels.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.vector;
+
+/**
+ * Filter kernels over column vectors.
+ * <p>
+ * Each kernel is a single counted loop without calls or branches in the body, so the JIT can unroll and vectorize it.
+ * The comparisons write a match mask; masks are combined with {@link #and(boolean[], boolean[], int)} and
+ * {@link #or(boolean[], boolean[], int)} and converted to a selection vector at the end.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class FilterKernels {
+
+    /**
+     * Utility class.
+     */
+    private FilterKernels() {
+        // Utility class.
+    }
+
+    /**
+     * Combine two masks with AND.
+     *
+     * @param target
+     *            the first mask, where the result is stored.
+     * @param mask
+     *            the second mask.
+     * @param size
+     *            amount of rows.
+     */
+    public static void and(final boolean[] target, final boolean[] mask, final int size) {
+        for (int i = 0; i < size; i++) {
+            target[i] &= mask[i];
+        }
+    }
+
+    /**
+     * Compare integer values.
+     *
+     * @param comparison
+     *            the comparison.
+     * @param values
+     *            the values.
+     * @param size
+     *            amount of rows.
+     * @param operand
+     *            the value to compare with.
+     * @param target
+     *            the match mask.
+     */
+    public static void compare(final Comparison comparison, final long[] values, final int size, final long operand,
+            final boolean[] target) {
+        switch (comparison) {
+            case EQUALS:
+                for (int i = 0; i < size; i++) {
+                    target[i] = values[i] == operand;
+                }
+                break;
+            case NOT_EQUALS:
+                for (int i = 0; i < size; i++) {
+                    target[i] = values[i] != operand;
+                }
+                break;
+            case GREATER_THAN:
+                for (int i = 0; i < size; i++) {
+                    target[i] = values[i] > operand;
+                }
+                break;
+            default:
+                for (int i = 0; i < size; i++) {
+                    target[i] = values[i] < operand;
+                }
+                break;
+        }
+    }
+
+    /**
+     * Compare floating point values stored as raw bits.
+     *
+     * @param comparison
+     *            the comparison.
+     * @param bits
+     *            the values raw bits.
+     * @param size
+     *            amount of rows.
+     * @param operand
+     *            the value to compare with.
+     * @param target
+     *            the match mask.
+     */
+    public static void compare(final Comparison comparison, final long[] bits, final int size, final double operand,
+            final boolean[] target) {
+        switch (comparison) {
+            case EQUALS:
+                for (int i = 0; i < size; i++) {
+                    target[i] = Double.longBitsToDouble(bits[i]) == operand;
+                }
+                break;
+            case NOT_EQUALS:
+                for (int i = 0; i < size; i++) {
+                    target[i] = Double.longBitsToDouble(bits[i]) != operand;
+                }
+                break;
+            case GREATER_THAN:
+                for (int i = 0; i < size; i++) {
+                    target[i] = Double.longBitsToDouble(bits[i]) > operand;
+                }
+                break;
+            default:
+                for (int i = 0; i < size; i++) {
+                    target[i] = Double.longBitsToDouble(bits[i]) < operand;
+                }
+                break;
+        }
+    }
+
+    /**
+     * Clear the mask of the NULL rows.
+     *
+     * @param target
+     *            the match mask.
+     * @param validity
+     *            the validity mask, with a bit set for each not NULL row.
+     * @param size
+     *            amount of rows.
+     */
+    public static void clearNulls(final boolean[] target, final long[] validity, final int size) {
+        for (int i = 0; i < size; i++) {
+            target[i] &= ((validity[i >>> 6] >>> i) & 1L) != 0;
+        }
+    }
+
+    /**
+     * Combine two masks with OR.
+     *
+     * @param target
+     *            the first mask, where the result is stored.
+     * @param mask
+     *            the second mask.
+     * @param size
+     *            amount of rows.
+     */
+    public static void or(final boolean[] target, final boolean[] mask, final int size) {
+        for (int i = 0; i < size; i++) {
+            target[i] |= mask[i];
+        }
+    }
+
+    /**
+     * Converts a match mask to a selection vector.
+     *
+     * @param mask
+     *            the match mask.
+     * @param size
+     *            amount of rows.
+     * @param selection
+     *            the selected rows, at least with size positions.
+     * @return amount of rows selected.
+     */
+    public static int select(final boolean[] mask, final int size, final int[] selection) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            // Always written, only advanced on match: no branch.
+            selection[count] = i;
+            count += mask[i] ? 1 : 0;
+        }
+        return count;
+    }
+}
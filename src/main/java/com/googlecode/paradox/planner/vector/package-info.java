@@ -0,0 +1,6 @@
+/**
+ * Vector kernels over column batches.
+ *
+ * @since 1.4.0
+ */
+package com.googlecode.paradox.planner.vector;
@@ -16,7 +16,7 @@ import java.sql.Types;
  * Stores the Paradox field types and SQL Types.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public enum ParadoxFieldType {
@@ -26,9 +26,9 @@ public enum ParadoxFieldType {
     AUTO_INCREMENT(0x16, Types.INTEGER),
     
     /**
-     * The binary type.
+     * The BCD type: fixed point, with 32 digits.
      */
-    BINARY(0x17, Types.BINARY),
+    BCD(0x17, Types.NUMERIC),
     
     /**
      * the BLOB type.
@@ -41,14 +41,14 @@ public enum ParadoxFieldType {
     BLOB2(0xF, Types.BLOB),
     
     /**
-     * the BLOB type. Variant 3.
+     * The boolean type.
      */
-    BLOB3(0x18, Types.BLOB),
+    BOOLEAN(9, Types.BOOLEAN),
     
     /**
-     * The boolean type.
+     * The bytes type: a fixed size binary value stored in the row.
      */
-    BOOLEAN(9, Types.BOOLEAN),
+    BYTES(0x18, Types.BINARY),
     
     /**
      * The CLOB type.
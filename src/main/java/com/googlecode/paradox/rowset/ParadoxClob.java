@@ -27,7 +27,7 @@ import java.sql.SQLException;
  *
  * @author Leonardo Alves da Costa
  * @author Andre Mikhaylov
- * @version 1.2
+ * @version 1.3
  * @since 1.2
  */
 public final class ParadoxClob implements Clob {
@@ -87,10 +87,12 @@ public final class ParadoxClob implements Clob {
      * {@inheritDoc}.
      */
     @Override
-    public void free() throws SQLException {
-        if (this.blob != null) {
-            this.blob.close();
-        }
+    public void free() {
+        // The blob table is shared by all CLOBs in the table, so release only this value.
+        this.blob = null;
+        this.value = null;
+        this.length = 0;
+        this.parsed = false;
     }
     
     /**
@@ -98,8 +100,8 @@ public final class ParadoxClob implements Clob {
      */
     @Override
     public InputStream getAsciiStream() throws SQLException {
-        this.parse();
         this.isValid();
+        this.parse();
         return new ByteArrayInputStream(this.value);
     }
     
@@ -108,8 +110,8 @@ public final class ParadoxClob implements Clob {
      */
     @Override
     public Reader getCharacterStream() throws SQLException {
-        this.parse();
         this.isValid();
+        this.parse();
         return new InputStreamReader(new ByteArrayInputStream(this.value), ParadoxClob.DEFAULT_CHARSET);
     }
     
@@ -118,8 +120,8 @@ public final class ParadoxClob implements Clob {
      */
     @Override
     public Reader getCharacterStream(final long pos, final long length) throws SQLException {
-        this.parse();
         this.isValid();
+        this.parse();
         if ((pos < 1) || (pos > this.length)) {
             throw new SQLException("Invalid position in Clob object set");
         } else if (((pos - 1) + length) > this.length) {
@@ -136,8 +138,8 @@ public final class ParadoxClob implements Clob {
      */
     @Override
     public String getSubString(final long pos, final int length) throws SQLException {
-        this.parse();
         this.isValid();
+        this.parse();
         if ((pos < 1) || (pos > this.length)) {
             throw new SQLException("Invalid position '" + pos + "' in Clob object set");
         } else if (((pos - 1) + length) > this.length) {
@@ -153,8 +155,8 @@ public final class ParadoxClob implements Clob {
      */
     @Override
     public long length() throws SQLException {
-        this.parse();
         this.isValid();
+        this.parse();
         return this.length;
     }
     
@@ -211,8 +213,8 @@ public final class ParadoxClob implements Clob {
      */
     @Override
     public void truncate(final long length) throws SQLException {
-        this.parse();
         this.isValid();
+        this.parse();
         if (length > this.length) {
             throw new SQLException("Length more than what can be truncated");
         }
@@ -12,11 +12,15 @@ package com.googlecode.paradox.utils;
  * Stores the driver constants.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.3
  * @since 1.0
  */
 public final class Constants {
     
+    /**
+     * Default amount of blocks read ahead in table scans.
+     */
+    public static final int DEFAULT_PREFETCH_DEPTH = 4;
     /**
      * Driver Name.
      */
@@ -45,6 +49,23 @@ public final class Constants {
      * Minor version of the Driver.
      */
     public static final int MINOR_VERSION = 3;
+    /**
+     * Connection property with the max memory in kilobytes held by the rows of a statement execution.
+     */
+    public static final String PROPERTY_MAX_QUERY_MEMORY = "maxQueryMemory";
+    /**
+     * Connection property with the amount of blocks read ahead in table scans. Tables not in block cache are read
+     * ahead instead of decoded in parallel, and zero disables the read ahead.
+     */
+    public static final String PROPERTY_PREFETCH = "prefetch";
+    /**
+     * Connection property with the time in milliseconds from which a statement is logged as slow.
+     */
+    public static final String PROPERTY_SLOW_QUERY = "slowQueryMillis";
+    /**
+     * The logger of the slow statements.
+     */
+    public static final String SLOW_QUERY_LOGGER = "com.googlecode.paradox.SlowQuery";
     /**
      * Driver prefix.
      */
@@ -15,6 +15,7 @@ package com.googlecode.paradox.utils;
 import java.sql.Date;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import java.util.TimeZone;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -22,11 +23,27 @@ import java.util.logging.Logger;
  * Utility class for date formats.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.2
  * @since 1.0
  */
 public final class DateUtils {
     
+    /**
+     * Milliseconds in a day.
+     */
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    
+    /**
+     * January 2, 1900 in days since 1970. Before this the Java calendar uses the Julian calendar (up to 1582) and time
+     * zone offsets not in the transitions of {@link TimeZone#getOffset(long)}.
+     */
+    private static final long FIRST_OFFSET_DAY = -25_566L;
+    
+    /**
+     * Julian day number of January 1, 1970.
+     */
+    private static final long EPOCH_SDN = 2_440_588L;
+    
     /**
      * Amount of days in four years.
      */
@@ -52,6 +69,11 @@ public final class DateUtils {
      */
     private static final int SDN_OFFSET = 32_045;
     
+    /**
+     * The last Paradox time origin computed, by time zone.
+     */
+    private static volatile TimeOrigin origin;
+    
     /**
      * Utility class.
      */
@@ -103,11 +125,61 @@ public final class DateUtils {
      * @return the Java {@link Date}.
      */
     public static Date sdnToGregorian(final long sdn) {
-        
         if (sdn <= 0) {
             return null;
         }
+        return new Date(DateUtils.sdnToMillis(sdn));
+    }
+    
+    /**
+     * Convert the Paradox date to milliseconds since 1970 at local midnight.
+     *
+     * @param sdn
+     *            the Paradox date to convert.
+     * @return the milliseconds since 1970.
+     */
+    public static long sdnToMillis(final long sdn) {
+        final long epochDay = sdn - DateUtils.EPOCH_SDN;
+        if (epochDay < DateUtils.FIRST_OFFSET_DAY) {
+            // Old dates, uncommon enough to use the Java calendar.
+            return DateUtils.sdnToCalendar(sdn).getTimeInMillis();
+        }
         
+        final TimeZone zone = TimeZone.getDefault();
+        final long utc = epochDay * DateUtils.MILLIS_PER_DAY;
+        final long millis = utc - zone.getOffset(utc - zone.getRawOffset());
+        if ((millis + zone.getOffset(millis)) != utc) {
+            // Midnight in a daylight saving gap, the calendar moves it forward.
+            return DateUtils.sdnToCalendar(sdn).getTimeInMillis();
+        }
+        return millis;
+    }
+    
+    /**
+     * Convert the Paradox time to milliseconds.
+     *
+     * @param millisOfDay
+     *            the Paradox time in milliseconds since midnight.
+     * @return the milliseconds since 1970.
+     */
+    public static long timeToMillis(final long millisOfDay) {
+        final TimeZone zone = TimeZone.getDefault();
+        TimeOrigin current = DateUtils.origin;
+        if ((current == null) || !current.zone.equals(zone.getID())) {
+            current = new TimeOrigin(zone.getID(), DateUtils.timeOrigin(zone));
+            DateUtils.origin = current;
+        }
+        return current.millis + millisOfDay;
+    }
+    
+    /**
+     * Convert the Paradox date to a Java calendar.
+     *
+     * @param sdn
+     *            the Paradox date to convert.
+     * @return the Java calendar.
+     */
+    private static Calendar sdnToCalendar(final long sdn) {
         long temp = ((sdn + DateUtils.SDN_OFFSET) * 4) - 1;
         
         /* Calculate the century (year/100). */
@@ -136,8 +208,24 @@ public final class DateUtils {
         if (year <= 0) {
             year--;
         }
-        final Calendar calendar = new GregorianCalendar((int) year, (int) month - 1, (int) day);
-        return new Date(calendar.getTime().getTime());
+        final Calendar calendar = new GregorianCalendar();
+        calendar.clear();
+        calendar.set((int) year, (int) month - 1, (int) day);
+        return calendar;
+    }
+    
+    /**
+     * Gets the Paradox time origin, the midnight before January 1 of year 1.
+     *
+     * @param zone
+     *            the time zone.
+     * @return the time origin in milliseconds since 1970.
+     */
+    private static long timeOrigin(final TimeZone zone) {
+        final Calendar calendar = new GregorianCalendar(zone);
+        calendar.clear();
+        calendar.set(1, 0, 0);
+        return calendar.getTimeInMillis();
     }
     
     /**
@@ -204,4 +292,37 @@ public final class DateUtils {
         }
         return year;
     }
+    
+    /**
+     * The Paradox time origin in a time zone.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4.0
+     */
+    private static final class TimeOrigin {
+        
+        /**
+         * The origin in milliseconds since 1970.
+         */
+        private final long millis;
+        
+        /**
+         * The time zone ID.
+         */
+        private final String zone;
+        
+        /**
+         * Creates a new instance.
+         *
+         * @param zone
+         *            the time zone ID.
+         * @param millis
+         *            the origin in milliseconds since 1970.
+         */
+        TimeOrigin(final String zone, final long millis) {
+            this.zone = zone;
+            this.millis = millis;
+        }
+    }
 }
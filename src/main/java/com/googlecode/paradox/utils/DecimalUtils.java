@@ -0,0 +1,108 @@
+/*
+ * DecimalUtils.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.math.BigDecimal;
+
+/**
+ * Utility class for fixed point conversions without text formatting.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class DecimalUtils {
+
+    /**
+     * Max scale tried to find the decimal value of a double.
+     */
+    private static final int MAX_SCALE = 17;
+
+    /**
+     * Max integer exactly represented as double.
+     */
+    private static final long MAX_EXACT = 1L << 53;
+
+    /**
+     * Powers of ten exactly represented as double.
+     */
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    static {
+        DecimalUtils.POWERS_OF_TEN[0] = 1D;
+        for (int loop = 1; loop < DecimalUtils.POWERS_OF_TEN.length; loop++) {
+            DecimalUtils.POWERS_OF_TEN[loop] = DecimalUtils.POWERS_OF_TEN[loop - 1] * 10D;
+        }
+    }
+
+    /**
+     * Utility class.
+     */
+    private DecimalUtils() {
+        // Utility class.
+    }
+
+    /**
+     * Converts a double to the decimal value with less digits that is read back as the same double.
+     * <p>
+     * Money values like <code>0.1</code> are returned as <code>0.1</code>, not as the binary expansion of the double.
+     * Values without such decimal up to 17 digits are returned exactly.
+     *
+     * @param value
+     *            the value.
+     * @return the decimal value.
+     * @throws NumberFormatException
+     *             if the value is infinite or NaN.
+     */
+    public static BigDecimal toBigDecimal(final double value) {
+        for (int scale = 0; scale <= DecimalUtils.MAX_SCALE; scale++) {
+            final long unscaled = DecimalUtils.toScaled(value, scale);
+            if (unscaled != Long.MIN_VALUE) {
+                return BigDecimal.valueOf(unscaled, scale);
+            }
+        }
+        return new BigDecimal(value);
+    }
+
+    /**
+     * Converts a fixed point value to double with a single rounding.
+     *
+     * @param unscaled
+     *            the unscaled value.
+     * @param scale
+     *            the amount of decimal digits.
+     * @return the value as double.
+     */
+    public static double toDouble(final long unscaled, final int scale) {
+        if ((scale >= 0) && (scale < DecimalUtils.POWERS_OF_TEN.length) && (unscaled < DecimalUtils.MAX_EXACT)
+                && (unscaled > -DecimalUtils.MAX_EXACT)) {
+            // Both exact, so the division is correctly rounded.
+            return unscaled / DecimalUtils.POWERS_OF_TEN[scale];
+        }
+        return BigDecimal.valueOf(unscaled, scale).doubleValue();
+    }
+
+    /**
+     * Converts a double to an unscaled long if a decimal with this scale is read back as the same double.
+     *
+     * @param value
+     *            the value.
+     * @param scale
+     *            the amount of decimal digits, up to 22.
+     * @return the unscaled value or {@link Long#MIN_VALUE} if the value has no such decimal.
+     */
+    public static long toScaled(final double value, final int scale) {
+        final double power = DecimalUtils.POWERS_OF_TEN[scale];
+        final double scaled = Math.rint(value * power);
+        if ((Math.abs(scaled) < DecimalUtils.MAX_EXACT) && ((scaled / power) == value)) {
+            return (long) scaled;
+        }
+        return Long.MIN_VALUE;
+    }
+}
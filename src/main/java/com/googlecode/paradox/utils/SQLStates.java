@@ -14,7 +14,7 @@ import java.sql.ResultSet;
  * Store the SQL States.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.3
  * @since 1.0
  */
 public enum SQLStates {
@@ -84,11 +84,26 @@ public enum SQLStates {
      */
     LOAD_DATA("1100"),
     
+    /**
+     * The statement memory limit was exceeded.
+     */
+    MEMORY_LIMIT("1019"),
+    
+    /**
+     * The statement timeout expired.
+     */
+    QUERY_TIMEOUT("1018"),
+    
     /**
      * {@link ResultSet} not open for use.
      */
     RESULTSET_CLOSED("1009"),
     
+    /**
+     * The statement was cancelled.
+     */
+    STATEMENT_CANCELLED("1017"),
+    
     /**
      * Type not valid or unsupported.
      */
@@ -0,0 +1,131 @@
+/*
+ * StringDecoder.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Decodes Paradox strings.
+ * <p>
+ * Single byte code pages are decoded with a lookup table built once by charset. ASCII bytes are copied directly when
+ * the code page keeps the ASCII characters.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class StringDecoder {
+
+    /**
+     * Charsets not decoded by table.
+     */
+    private static final char[] MULTI_BYTE = new char[0];
+
+    /**
+     * The lookup tables by charset.
+     */
+    private static final ConcurrentMap<Charset, char[]> TABLES = new ConcurrentHashMap<>();
+
+    /**
+     * Amount of single byte values.
+     */
+    private static final int TABLE_SIZE = 256;
+
+    /**
+     * Utility class.
+     */
+    private StringDecoder() {
+        // Utility class.
+    }
+
+    /**
+     * Decodes a string.
+     *
+     * @param data
+     *            the string bytes.
+     * @param offset
+     *            the first byte.
+     * @param length
+     *            the amount of bytes.
+     * @param charset
+     *            the string charset.
+     * @return the decoded string.
+     */
+    public static String decode(final byte[] data, final int offset, final int length, final Charset charset) {
+        final char[] table = StringDecoder.getTable(charset);
+        if (table == StringDecoder.MULTI_BYTE) {
+            return charset.decode(ByteBuffer.wrap(data, offset, length)).toString();
+        }
+
+        final char[] chars = new char[length];
+        // The last table position marks the ASCII compatible code pages.
+        final boolean ascii = table[StringDecoder.TABLE_SIZE] != 0;
+        for (int loop = 0; loop < length; loop++) {
+            final byte b = data[offset + loop];
+            if (ascii && (b >= 0)) {
+                chars[loop] = (char) b;
+            } else {
+                chars[loop] = table[b & 0xFF];
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Gets the charset lookup table.
+     *
+     * @param charset
+     *            the charset.
+     * @return the lookup table or {@link #MULTI_BYTE} if the charset is not single byte.
+     */
+    private static char[] getTable(final Charset charset) {
+        char[] table = StringDecoder.TABLES.get(charset);
+        if (table == null) {
+            table = StringDecoder.createTable(charset);
+            StringDecoder.TABLES.putIfAbsent(charset, table);
+        }
+        return table;
+    }
+
+    /**
+     * Creates the charset lookup table.
+     *
+     * @param charset
+     *            the charset.
+     * @return the lookup table or {@link #MULTI_BYTE} if the charset is not single byte.
+     */
+    private static char[] createTable(final Charset charset) {
+        if (!charset.canEncode() || (charset.newEncoder().maxBytesPerChar() != 1.0F)) {
+            return StringDecoder.MULTI_BYTE;
+        }
+
+        final byte[] bytes = new byte[StringDecoder.TABLE_SIZE];
+        for (int loop = 0; loop < bytes.length; loop++) {
+            bytes[loop] = (byte) loop;
+        }
+        final String chars = charset.decode(ByteBuffer.wrap(bytes)).toString();
+        if (chars.length() != StringDecoder.TABLE_SIZE) {
+            return StringDecoder.MULTI_BYTE;
+        }
+
+        final char[] table = new char[StringDecoder.TABLE_SIZE + 1];
+        boolean ascii = true;
+        for (int loop = 0; loop < StringDecoder.TABLE_SIZE; loop++) {
+            table[loop] = chars.charAt(loop);
+            if ((loop < 0x80) && (table[loop] != loop)) {
+                ascii = false;
+            }
+        }
+        table[StringDecoder.TABLE_SIZE] = ascii ? (char) 1 : (char) 0;
+        return table;
+    }
+}
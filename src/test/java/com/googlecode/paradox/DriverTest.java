@@ -129,9 +129,12 @@ public final class DriverTest {
     public void testPropertyInfo() throws SQLException {
         final Driver driver = new Driver();
         final DriverPropertyInfo[] info = driver.getPropertyInfo("jdbc:paradox:target/test-classes/", new Properties());
-        Assert.assertEquals(2, info.length);
+        Assert.assertEquals(5, info.length);
         Assert.assertEquals("DBNAME", info[0].name);
         Assert.assertEquals("password", info[1].name);
+        Assert.assertEquals(Constants.PROPERTY_PREFETCH, info[2].name);
+        Assert.assertEquals(Constants.PROPERTY_SLOW_QUERY, info[3].name);
+        Assert.assertEquals(Constants.PROPERTY_MAX_QUERY_MEMORY, info[4].name);
     }
     
     /**
@@ -161,6 +164,36 @@ public final class DriverTest {
         }
     }
     
+    /**
+     * Test for the prefetch property.
+     *
+     * @throws SQLException
+     *             in case of errors.
+     */
+    @Test
+    public void testPrefetchProperty() throws SQLException {
+        final Driver driver = new Driver();
+        final Properties info = new Properties();
+        info.setProperty(Constants.PROPERTY_PREFETCH, "2");
+        try (ParadoxConnection c = (ParadoxConnection) driver.connect("jdbc:paradox:target/test-classes/", info)) {
+            Assert.assertEquals("Invalid prefetch depth.", 2, c.getPrefetchDepth());
+        }
+    }
+    
+    /**
+     * Test for invalid prefetch property.
+     *
+     * @throws SQLException
+     *             if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidPrefetchProperty() throws SQLException {
+        final Driver driver = new Driver();
+        final Properties info = new Properties();
+        info.setProperty(Constants.PROPERTY_PREFETCH, "-1");
+        driver.connect("jdbc:paradox:target/test-classes/", info);
+    }
+    
     /**
      * Test a valid URL.
      *
@@ -11,6 +11,7 @@ package com.googlecode.paradox;
 
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.results.Column;
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
@@ -79,6 +80,26 @@ public class ParadoxResultSetTest {
         this.conn = DriverManager.getConnection(ParadoxResultSetTest.CONNECTION_STRING + "db");
     }
 
+    /**
+     * Test for exact {@link BigDecimal} values.
+     *
+     * @throws SQLException
+     *             in case of errors.
+     */
+    @Test
+    public void testBigDecimal() throws SQLException {
+        try (Statement stmt = this.conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT * FROM \"DECIMAL\"")) {
+            final List<BigDecimal> values = new ArrayList<>();
+            while (rs.next()) {
+                values.add(rs.getBigDecimal(1));
+            }
+            Assert.assertEquals("Invalid value.", new BigDecimal("200.36"), values.get(6));
+            Assert.assertEquals("Invalid value.", new BigDecimal("-1.387"), values.get(8));
+            Assert.assertEquals("Invalid value.", BigDecimal.valueOf(-200), values.get(0));
+        }
+    }
+
     /**
      * Test for {@link ParadoxResultSet#absolute(int)} method with empty values.
      *
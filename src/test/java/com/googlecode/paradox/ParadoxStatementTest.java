@@ -0,0 +1,277 @@
+/*
+ * ParadoxStatementTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox;
+
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.management.DriverEventListener;
+import com.googlecode.paradox.management.DriverEvents;
+import com.googlecode.paradox.management.QueryPhase;
+import com.googlecode.paradox.utils.SQLStates;
+import com.googlecode.paradox.utils.Constants;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ParadoxStatement} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public class ParadoxStatementTest {
+
+    /**
+     * The slow statements logger.
+     */
+    private final Logger logger = Logger.getLogger(Constants.SLOW_QUERY_LOGGER);
+
+    /**
+     * The logged records.
+     */
+    private final List<LogRecord> records = new ArrayList<>();
+
+    /**
+     * The handler storing the logged records.
+     */
+    private final Handler handler = new Handler() {
+
+        @Override
+        public void close() {
+            // Nothing to release.
+        }
+
+        @Override
+        public void flush() {
+            // Not buffered.
+        }
+
+        @Override
+        public void publish(final LogRecord record) {
+            ParadoxStatementTest.this.records.add(record);
+        }
+    };
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void setUp() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Adds the log handler.
+     */
+    @Before
+    public void addHandler() {
+        this.logger.addHandler(this.handler);
+    }
+
+    /**
+     * Removes the log handler.
+     */
+    @After
+    public void removeHandler() {
+        this.logger.removeHandler(this.handler);
+    }
+
+    /**
+     * Test for a slow statement log.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testSlowQuery() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Constants.PROPERTY_SLOW_QUERY, "1");
+        try (Connection conn = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+                Statement stmt = conn.createStatement()) {
+            stmt.executeQuery("SELECT AC FROM areacodes WHERE State = 'NY'").close();
+        }
+        Assert.assertEquals("Statement not logged.", 1, this.records.size());
+        final Object[] parameters = this.records.get(0).getParameters();
+        Assert.assertEquals("Invalid SQL.", "SELECT AC FROM areacodes WHERE State = 'NY'", parameters[1]);
+        Assert.assertTrue("Invalid plan.", parameters[2].toString().contains("TABLE SCAN areacodes"));
+        Assert.assertTrue("Invalid statistics.", parameters[3].toString().contains("blocksRead="));
+    }
+
+    /**
+     * Test for the slow statement log disabled.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testSlowQueryDisabled() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+                Statement stmt = conn.createStatement()) {
+            stmt.executeQuery("SELECT AC FROM areacodes").close();
+        }
+        Assert.assertTrue("Statement logged.", this.records.isEmpty());
+    }
+
+    /**
+     * Test for an invalid slow statement time.
+     *
+     * @throws SQLException
+     *             expected.
+     */
+    @Test(expected = SQLException.class)
+    public void testSlowQueryInvalid() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Constants.PROPERTY_SLOW_QUERY, "-1");
+        DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info).close();
+    }
+
+    /**
+     * Test for the query timeout.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testQueryTimeout() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+                Statement stmt = conn.createStatement()) {
+            Assert.assertEquals("Invalid default timeout.", 0, stmt.getQueryTimeout());
+            stmt.setQueryTimeout(30);
+            Assert.assertEquals("Invalid timeout.", 30, stmt.getQueryTimeout());
+            stmt.executeQuery("SELECT AC FROM areacodes").close();
+        }
+    }
+
+    /**
+     * Test for an invalid query timeout.
+     *
+     * @throws SQLException
+     *             expected.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidQueryTimeout() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+                Statement stmt = conn.createStatement()) {
+            stmt.setQueryTimeout(-1);
+        }
+    }
+
+    /**
+     * Test for a cancel without execution.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testCancel() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+                Statement stmt = conn.createStatement()) {
+            stmt.cancel();
+            stmt.executeQuery("SELECT AC FROM areacodes").close();
+            // Only the running execution is cancelled.
+            stmt.cancel();
+            stmt.executeQuery("SELECT AC FROM areacodes").close();
+        }
+    }
+
+    /**
+     * Test for a cancel while scanning a table.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testCancelRunning() throws SQLException {
+        final DriverEventListener previous = DriverEvents.getListener();
+        try (Connection conn = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+                final Statement stmt = conn.createStatement()) {
+            DriverEvents.setListener(new DriverEventListener() {
+
+                @Override
+                public Object beginBlobRead(final String file, final long offset) {
+                    return null;
+                }
+
+                @Override
+                public Object beginPhase(final QueryPhase phase, final String sql) {
+                    return null;
+                }
+
+                @Override
+                public Object beginScan(final String table) {
+                    try {
+                        stmt.cancel();
+                    } catch (final SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return null;
+                }
+
+                @Override
+                public void endBlobRead(final Object event, final int bytes, final boolean cached) {
+                    // Not used.
+                }
+
+                @Override
+                public void endPhase(final Object event) {
+                    // Not used.
+                }
+
+                @Override
+                public void endScan(final Object event, final long blocks, final long rows) {
+                    // Not used.
+                }
+            });
+            try {
+                stmt.executeQuery("SELECT AC FROM areacodes");
+                Assert.fail("Statement not cancelled.");
+            } catch (final SQLException e) {
+                Assert.assertEquals("Invalid state.", SQLStates.STATEMENT_CANCELLED.getValue(), e.getSQLState());
+            }
+        } finally {
+            DriverEvents.setListener(previous);
+        }
+    }
+
+    /**
+     * Test for the statement memory limit.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testMaxQueryMemory() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Constants.PROPERTY_MAX_QUERY_MEMORY, "1");
+        try (Connection conn = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+                Statement stmt = conn.createStatement()) {
+            try {
+                stmt.executeQuery("SELECT * FROM areacodes");
+                Assert.fail("Memory limit not checked.");
+            } catch (final SQLException e) {
+                Assert.assertEquals("Invalid state.", SQLStates.MEMORY_LIMIT.getValue(), e.getSQLState());
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * BlockDecoderTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.BatchList;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.io.BlockCache;
+import com.googlecode.paradox.io.BlockReader;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.io.File;
+import java.io.IOException;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BlockDecoder}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.0
+ */
+public class BlockDecoderTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "geog");
+    }
+
+    /**
+     * Test for parallel decoding in chain order.
+     *
+     * @throws IOException
+     *             in case of I/O failures.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testChainOrder() throws IOException, SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "County.db").get(0);
+
+        final List<Integer> blocks = new ArrayList<>();
+        try (BlockReader reader = new BlockReader(table.getFile(), table.getHeaderSize(),
+                table.getBlockSizeBytes())) {
+            int nextBlock = table.getFirstBlock();
+            do {
+                blocks.add(nextBlock);
+                nextBlock = reader.getNextBlock(nextBlock);
+            } while (nextBlock != 0);
+        }
+        final int[] chain = new int[blocks.size()];
+        for (int loop = 0; loop < chain.length; loop++) {
+            chain[loop] = blocks.get(loop);
+        }
+
+        final List<List<FieldValue>> expected = TableData.loadData(table, table.getFields());
+        final ParadoxField[] columns = table.getFields().toArray(new ParadoxField[0]);
+        final List<List<FieldValue>> parallel = BlockDecoder.decode(table, columns, chain, new ScanContext());
+
+        Assert.assertEquals("Invalid row count.", expected.size(), parallel.size());
+        for (int row = 0; row < expected.size(); row++) {
+            for (int column = 0; column < expected.get(row).size(); column++) {
+                Assert.assertEquals("Invalid value.", expected.get(row).get(column).getValue(),
+                        parallel.get(row).get(column).getValue());
+            }
+        }
+    }
+
+    /**
+     * Test for the file reads of the parallel decoding in tables not cached: the chain and the blocks must be read in
+     * runs, like in the serial decoding.
+     *
+     * @throws IOException
+     *             in case of I/O failures.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testParallelReads() throws IOException, SQLException {
+        final File io = new File("/proc/self/io");
+        Assume.assumeTrue(io.canRead());
+        final File directory = Files.createTempDirectory("reads").toFile();
+        final BlockCache cache = BlockCache.getInstance();
+        final long maxBytes = cache.getMaxBytes();
+        try {
+            final TableGenerator generator = new TableGenerator(directory, "reads");
+            generator.addField("ID", 0x16, 4);
+            generator.addField("NAME", 1, 20);
+            generator.addField("AMOUNT", 4, 4);
+            generator.setRows(6_000);
+            generator.setBlockSize(1);
+            generator.generate();
+            cache.setMaxBytes(0);
+
+            try (ParadoxConnection reads = (ParadoxConnection) DriverManager.getConnection("jdbc:paradox:"
+                    + directory.getPath())) {
+                final ParadoxTable table = TableData.listTables(reads, "reads.db").get(0);
+                final ParadoxField[] columns = table.getFields().toArray(new ParadoxField[0]);
+                long serial = Long.MAX_VALUE;
+                long parallel = Long.MAX_VALUE;
+                for (int loop = 0; loop < 3; loop++) {
+                    long start = BlockDecoderTest.getReadCalls(io);
+                    final BatchList rows = new BatchList(columns);
+                    try (BlockReader reader = new BlockReader(table.getFile(), table.getHeaderSize(),
+                            table.getBlockSizeBytes())) {
+                        int nextBlock = table.getFirstBlock();
+                        do {
+                            nextBlock = BlockDecoder.decodeBlock(table, columns, reader.read(nextBlock), rows);
+                        } while (nextBlock != 0);
+                    }
+                    serial = Math.min(serial, BlockDecoderTest.getReadCalls(io) - start);
+
+                    start = BlockDecoderTest.getReadCalls(io);
+                    final int[] chain;
+                    try (BlockReader reader = new BlockReader(table.getFile(), table.getHeaderSize(),
+                            table.getBlockSizeBytes())) {
+                        chain = TableData.loadChain(table, reader, new ScanContext());
+                    }
+                    Assert.assertEquals("Invalid row count.", rows.size(),
+                            BlockDecoder.decode(table, columns, chain, new ScanContext(0)).size());
+                    parallel = Math.min(parallel, BlockDecoderTest.getReadCalls(io) - start);
+                }
+                Assert.assertTrue("Parallel decoding not read in runs: " + parallel + " reads, serial decoding "
+                        + serial + " reads, " + table.getUsedBlocks() + " blocks.", parallel <= ((serial * 2) + 16));
+            }
+        } finally {
+            cache.setMaxBytes(maxBytes);
+            for (final File file : directory.listFiles()) {
+                Assert.assertTrue("File not deleted.", file.delete());
+            }
+            Assert.assertTrue("Directory not deleted.", directory.delete());
+        }
+    }
+
+    /**
+     * Gets the amount of read calls of this process.
+     *
+     * @param io
+     *            the process I/O statistics file.
+     * @return the amount of read calls.
+     * @throws IOException
+     *             in case of I/O failures.
+     */
+    private static long getReadCalls(final File io) throws IOException {
+        for (final String line : Files.readAllLines(io.toPath(), StandardCharsets.US_ASCII)) {
+            if (line.startsWith("syscr:")) {
+                return Long.parseLong(line.substring(6).trim());
+            }
+        }
+        throw new IOException("Read calls not found.");
+    }
+}
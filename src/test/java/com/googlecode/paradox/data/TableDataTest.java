@@ -13,11 +13,17 @@ import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.integration.MainTest;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.TestUtil;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.After;
@@ -30,7 +36,7 @@ import org.junit.Test;
  * Unit test for {@link TableData}.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.5
  * @since 1.0
  */
 public class TableDataTest {
@@ -103,6 +109,26 @@ public class TableDataTest {
         Assert.assertEquals("Error in load table.", table.getRowCount(), data.size());
     }
     
+    /**
+     * Test for loading only some fields.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testLoadProjection() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "areacodes.db").get(0);
+        final ArrayList<ParadoxField> fields = new ArrayList<>();
+        fields.add(table.getFields().get(1));
+        final List<List<FieldValue>> all = TableData.loadData(table, table.getFields());
+        final List<List<FieldValue>> data = TableData.loadData(table, fields);
+        Assert.assertEquals("Invalid row count.", all.size(), data.size());
+        for (int loop = 0; loop < data.size(); loop++) {
+            Assert.assertEquals("Invalid field count.", 1, data.get(loop).size());
+            Assert.assertEquals("Invalid value.", all.get(loop).get(1).getValue(), data.get(loop).get(0).getValue());
+        }
+    }
+    
     /**
      * Test for contact table.
      *
@@ -188,4 +214,151 @@ public class TableDataTest {
             throws NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
         Assert.assertTrue("Utility class in wrong format.", TestUtil.assertUtilityClassWellDefined(TableData.class));
     }
+    
+    /**
+     * Test for a cancelled table load, with and without read ahead.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testCancelledLoad() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "areacodes.db").get(0);
+        for (final int prefetch : new int[] { 0, 4 }) {
+            final ScanContext context = new ScanContext(prefetch);
+            context.cancel();
+            try {
+                TableData.loadData(table, table.getFields(), context);
+                Assert.fail("Load not cancelled.");
+            } catch (final SQLException e) {
+                Assert.assertEquals("Invalid state.", SQLStates.STATEMENT_CANCELLED.getValue(), e.getSQLState());
+            }
+            Assert.assertEquals("Blocks read after cancel.", 0, context.getBlocksScanned());
+        }
+    }
+    
+    /**
+     * Test for a corrupted cyclic block chain.
+     *
+     * @throws IOException
+     *             in case of I/O failures.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testCyclicChain() throws IOException, SQLException {
+        final File directory = Files.createTempDirectory("cyclic").toFile();
+        try {
+            final TableGenerator generator = new TableGenerator(directory, "cyclic");
+            generator.addField("ID", 0x16, 4);
+            generator.addField("NAME", 1, 20);
+            generator.setRows(300);
+            generator.setBlockSize(1);
+            generator.generate();
+            
+            try (ParadoxConnection cyclic = (ParadoxConnection) DriverManager.getConnection("jdbc:paradox:"
+                    + directory.getPath())) {
+                final ParadoxTable table = TableData.listTables(cyclic, "cyclic.db").get(0);
+                Assert.assertTrue("Single block table.", table.getUsedBlocks() > 1);
+                
+                // The last block points back to the first one.
+                try (RandomAccessFile file = new RandomAccessFile(table.getFile(), "rw")) {
+                    file.seek(table.getHeaderSize() + ((table.getUsedBlocks() - 1L) * table.getBlockSizeBytes()));
+                    file.write(1);
+                    file.write(0);
+                }
+                try {
+                    TableData.split(table);
+                    Assert.fail("Cyclic chain not detected.");
+                } catch (final SQLException e) {
+                    Assert.assertEquals("Invalid state.", SQLStates.INVALID_IO.getValue(), e.getSQLState());
+                }
+            }
+        } finally {
+            for (final File file : directory.listFiles()) {
+                Assert.assertTrue("File not deleted.", file.delete());
+            }
+            Assert.assertTrue("Directory not deleted.", directory.delete());
+        }
+    }
+    
+    /**
+     * Test for a table load after the timeout.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test(expected = SQLTimeoutException.class)
+    public void testTimeout() throws Exception {
+        final ParadoxTable table = TableData.listTables(this.conn, "areacodes.db").get(0);
+        final ScanContext context = new ScanContext();
+        context.setTimeout(1);
+        Thread.sleep(1_100L);
+        TableData.loadData(table, table.getFields(), context);
+    }
+    
+    /**
+     * Test for a table load without timeout.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testNoTimeout() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "areacodes.db").get(0);
+        final ScanContext context = new ScanContext();
+        context.setTimeout(0);
+        Assert.assertFalse("No rows.", TableData.loadData(table, table.getFields(), context).isEmpty());
+    }
+    
+    /**
+     * Test for the choice between the parallel decoding and the read ahead.
+     */
+    @Test
+    public void testParallelPath() {
+        final ParadoxTable table = new ParadoxTable(new File("parallel.db"), "parallel");
+        table.setUsedBlocks(BlockDecoder.PARALLEL_THRESHOLD);
+        final ScanContext prefetch = new ScanContext(4);
+        final ScanContext serial = new ScanContext(0);
+        final boolean processors = Runtime.getRuntime().availableProcessors() > 1;
+        
+        Assert.assertFalse("Table not in cache not read ahead.", TableData.isParallel(table, false, prefetch));
+        Assert.assertEquals("Table in cache not decoded in parallel.", processors,
+                TableData.isParallel(table, true, prefetch));
+        Assert.assertEquals("Table without read ahead not decoded in parallel.", processors,
+                TableData.isParallel(table, false, serial));
+        
+        table.setUsedBlocks(BlockDecoder.PARALLEL_THRESHOLD - 1);
+        Assert.assertFalse("Small table decoded in parallel.", TableData.isParallel(table, true, serial));
+    }
+    
+    /**
+     * Test for the memory reserved by a table load, with and without read ahead.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testMemory() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "areacodes.db").get(0);
+        for (final int prefetch : new int[] { 0, 4 }) {
+            final ScanContext unlimited = new ScanContext(prefetch);
+            TableData.loadData(table, table.getFields(), unlimited);
+            Assert.assertEquals("Memory accounted without limit.", 0, unlimited.getMemoryUsed());
+            
+            final ScanContext context = new ScanContext(prefetch);
+            context.setMemoryLimit(Long.MAX_VALUE);
+            TableData.loadData(table, table.getFields(), context);
+            Assert.assertTrue("No memory reserved.", context.getMemoryUsed() > 0);
+            
+            final ScanContext limited = new ScanContext(prefetch);
+            limited.setMemoryLimit(1024);
+            try {
+                TableData.loadData(table, table.getFields(), limited);
+                Assert.fail("Memory limit not checked.");
+            } catch (final SQLException e) {
+                Assert.assertEquals("Invalid state.", SQLStates.MEMORY_LIMIT.getValue(), e.getSQLState());
+            }
+        }
+    }
 }
@@ -0,0 +1,1113 @@
+/*
+ * TableGenerator.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.utils.DateUtils;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes synthetic Paradox tables (<code>.DB</code>, <code>.PX</code> and <code>.MB</code> files) for scale tests and
+ * benchmarks.
+ * <p>
+ * The values are derived from the seed, the row and the column, so {@link #getValue(int, int)} gives the expected
+ * value of any cell without keeping the table in memory. The rows are written block by block, allowing tables up to
+ * the 65535 blocks limit of the format. Memos up to {@link #SUB_BLOCK_LIMIT} bytes are packed in sub blocks, the
+ * larger ones are written in single blocks.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public final class TableGenerator {
+
+    /**
+     * Largest memo stored in a sub block.
+     */
+    public static final int SUB_BLOCK_LIMIT = 1024;
+
+    /**
+     * The Paradox 7 version ID.
+     */
+    public static final int VERSION_7 = 0xC;
+
+    /**
+     * The data block header size.
+     */
+    private static final int BLOCK_HEADER_SIZE = 6;
+
+    /**
+     * Days between the Paradox date origin and the first SDN.
+     */
+    private static final long DATE_ORIGIN = 1_721_425L;
+
+    /**
+     * The header size unit.
+     */
+    private static final int HEADER_UNIT = 0x800;
+
+    /**
+     * Largest memo file offset stored in a table.
+     */
+    private static final long MAX_MEMO_OFFSET = 0xFFFF_F000L;
+
+    /**
+     * The memo file block size.
+     */
+    private static final int MB_BLOCK_SIZE = 4096;
+
+    /**
+     * Milliseconds between the Paradox timestamp origin and 1970.
+     */
+    private static final long MILLIS_UNTIL_1970 = 62_135_683_200_000L;
+
+    /**
+     * Memo single block header size.
+     */
+    private static final int SINGLE_BLOCK_HEADER = 9;
+
+    /**
+     * Memo sub block entries.
+     */
+    private static final int SUB_BLOCK_ENTRIES = 64;
+
+    /**
+     * First data position in a memo sub block, after the entries.
+     */
+    private static final int SUB_BLOCK_HEADER = 0x150;
+
+    /**
+     * The table charset, code page 1252.
+     */
+    private static final Charset CHARSET = Charset.forName("cp1252");
+
+    /**
+     * The block size in KiB.
+     */
+    private int blockSize = 4;
+
+    /**
+     * The table columns.
+     */
+    private final List<Column> columns = new ArrayList<>();
+
+    /**
+     * The directory to write the files.
+     */
+    private final File directory;
+
+    /**
+     * Largest memo length.
+     */
+    private int memoSize = 2 * TableGenerator.MB_BLOCK_SIZE;
+
+    /**
+     * The table name, without extension.
+     */
+    private final String name;
+
+    /**
+     * One in this amount of values is NULL, zero for no NULL values.
+     */
+    private int nullFrequency;
+
+    /**
+     * Amount of key fields, the first fields of the table.
+     */
+    private int primaryKeyFields;
+
+    /**
+     * Amount of rows.
+     */
+    private int rows;
+
+    /**
+     * The values seed.
+     */
+    private long seed = 1;
+
+    /**
+     * The file version ID.
+     */
+    private int version = TableGenerator.VERSION_7;
+
+    /**
+     * Creates a new generator.
+     *
+     * @param directory
+     *            the directory to write the files.
+     * @param name
+     *            the table name, without extension.
+     */
+    public TableGenerator(final File directory, final String name) {
+        this.directory = directory;
+        this.name = name;
+    }
+
+    /**
+     * Writes a table with all field types. Usage: <code>directory name rows [block size in KiB] [version ID]</code>.
+     *
+     * @param args
+     *            the command line arguments.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: TableGenerator directory name rows [block size in KiB] [version ID]");
+            return;
+        }
+        final TableGenerator generator = new TableGenerator(new File(args[0]), args[1]);
+        generator.setRows(Integer.parseInt(args[2]));
+        if (args.length > 3) {
+            generator.setBlockSize(Integer.parseInt(args[3]));
+        }
+        if (args.length > 4) {
+            generator.setVersion(Integer.decode(args[4]));
+        }
+        generator.addAllTypes();
+        generator.setPrimaryKeyFields(1);
+        generator.generate();
+    }
+
+    /**
+     * Adds a field.
+     *
+     * @param fieldName
+     *            the field name.
+     * @param type
+     *            the Paradox field type.
+     * @param size
+     *            the field size: the length for alpha and bytes fields, the scale for BCD fields, the leader length
+     *            for memo and binary fields. Ignored for other types.
+     */
+    public void addField(final String fieldName, final int type, final int size) {
+        this.columns.add(new Column(fieldName, type, size));
+    }
+
+    /**
+     * Adds a field of each type supported by the driver, starting with an autoincrement key.
+     */
+    public void addAllTypes() {
+        this.addField("ID", 0x16, 0);
+        this.addField("NAME", 1, 20);
+        this.addField("BIRTH", 2, 0);
+        this.addField("SMALL", 3, 0);
+        this.addField("AMOUNT", 4, 0);
+        this.addField("PRICE", 5, 0);
+        this.addField("RATE", 6, 0);
+        this.addField("ACTIVE", 9, 0);
+        this.addField("NOTES", 0xC, 10);
+        this.addField("IMAGE", 0xD, 10);
+        this.addField("START", 0x14, 0);
+        this.addField("UPDATED", 0x15, 0);
+        this.addField("TOTAL", 0x17, 2);
+        this.addField("CODE", 0x18, 8);
+    }
+
+    /**
+     * Writes the table files.
+     *
+     * @return the table file.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    public File generate() throws IOException {
+        final int recordSize = this.getRecordSize();
+        final int blockBytes = this.blockSize * 1024;
+        final int rowsByBlock = (blockBytes - TableGenerator.BLOCK_HEADER_SIZE) / recordSize;
+        if (rowsByBlock < 1) {
+            throw new IllegalArgumentException("Record size larger than the block size.");
+        }
+        final int blocks = (this.rows + rowsByBlock - 1) / rowsByBlock;
+        if (blocks > 0xFFFF) {
+            throw new IllegalArgumentException("Table with more than 65535 blocks.");
+        }
+
+        final File file = new File(this.directory, this.name + ".DB");
+        final ByteBuffer header = this.createHeader(recordSize, blocks);
+        final List<KeyEntry> keys = new ArrayList<>();
+        try (FileChannel channel = new RandomAccessFile(file, "rw").getChannel();
+                MemoWriter memos = this.createMemoWriter()) {
+            channel.truncate(0);
+            channel.write(header, 0);
+            final ByteBuffer block = ByteBuffer.allocate(blockBytes);
+            for (int number = 1; number <= blocks; number++) {
+                final int first = (number - 1) * rowsByBlock;
+                final int count = Math.min(rowsByBlock, this.rows - first);
+                Arrays.fill(block.array(), (byte) 0);
+                block.clear();
+                block.order(ByteOrder.LITTLE_ENDIAN);
+                block.putShort((short) ((number < blocks) ? (number + 1) : 0));
+                block.putShort((short) (number - 1));
+                block.putShort((short) ((count - 1) * recordSize));
+                block.order(ByteOrder.BIG_ENDIAN);
+                for (int row = first; row < (first + count); row++) {
+                    for (int column = 0; column < this.columns.size(); column++) {
+                        this.writeValue(block, row, column, memos);
+                    }
+                }
+                block.clear();
+                channel.write(block, header.capacity() + ((number - 1L) * blockBytes));
+                if (this.primaryKeyFields > 0) {
+                    keys.add(new KeyEntry(first, number, count));
+                }
+            }
+        }
+        if (this.primaryKeyFields > 0) {
+            this.writeIndex(keys);
+        }
+        return file;
+    }
+
+    /**
+     * Gets the expected value of a cell.
+     *
+     * @param row
+     *            the row index, starting at zero.
+     * @param column
+     *            the column index, starting at zero.
+     * @return the expected value: {@link String} for alpha and memo fields, {@link Date}, {@link Integer} for
+     *         short and autoincrement fields, {@link Long}, {@link Double}, {@link Boolean}, the milliseconds of day
+     *         as {@link Integer} for time fields, {@link Timestamp}, {@link BigDecimal} and byte arrays for binary
+     *         and bytes fields. NULL values are null.
+     */
+    public Object getValue(final int row, final int column) {
+        final Column field = this.columns.get(column);
+        final long hash = this.hash(row, column);
+        if (column < this.primaryKeyFields) {
+            return this.getKey(field, row);
+        } else if ((this.nullFrequency > 0) && (Math.abs(hash % this.nullFrequency) == 0)
+                && (field.type != 0x16)) {
+            return null;
+        }
+        switch (field.type) {
+            case 1:
+                return TableGenerator.text(hash, 1 + (int) Math.abs((hash >>> 8) % field.size));
+            case 2:
+                return Date.valueOf(String.format("%04d-%02d-%02d", 1900 + Math.abs(hash % 200),
+                        1 + Math.abs((hash >>> 8) % 12), 1 + Math.abs((hash >>> 16) % 28)));
+            case 3:
+                return Integer.valueOf((short) hash);
+            case 4:
+                return Long.valueOf((int) hash);
+            case 5:
+                return Double.valueOf((hash % 10_000_000L) / 100D);
+            case 6:
+                return Double.valueOf((hash % 2_000_000L) / 1_000D);
+            case 9:
+                return Boolean.valueOf((hash & 1) == 1);
+            case 0xC:
+                return TableGenerator.text(hash, this.getMemoLength(hash));
+            case 0xD:
+            case 0x18:
+                final int length = (field.type == 0x18) ? field.size : this.getMemoLength(hash);
+                final byte[] data = new byte[length];
+                long bits = hash;
+                for (int loop = 0; loop < length; loop++) {
+                    bits = TableGenerator.mix(bits);
+                    data[loop] = (byte) bits;
+                }
+                return data;
+            case 0x14:
+                return Integer.valueOf((int) Math.abs(hash % 86_400L) * 1_000);
+            case 0x15:
+                // From 1990 to 2030, in seconds.
+                return new Timestamp((631_152_000L + Math.abs(hash % 1_262_304_000L)) * 1_000L);
+            case 0x16:
+                return Integer.valueOf(row + 1);
+            case 0x17:
+                return BigDecimal.valueOf(hash % 1_000_000_000_000L, field.size);
+            default:
+                throw new IllegalArgumentException("Field type unsupported: " + field.type);
+        }
+    }
+
+    /**
+     * Sets the block size.
+     *
+     * @param blockSize
+     *            the block size in KiB: 1, 2, 3, 4, 8, 16 or 32.
+     */
+    public void setBlockSize(final int blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Sets the largest memo length.
+     *
+     * @param memoSize
+     *            the largest memo length.
+     */
+    public void setMemoSize(final int memoSize) {
+        this.memoSize = memoSize;
+    }
+
+    /**
+     * Sets the NULL values frequency. Key and autoincrement fields are never NULL.
+     *
+     * @param nullFrequency
+     *            one in this amount of values is NULL, zero for no NULL values.
+     */
+    public void setNullFrequency(final int nullFrequency) {
+        this.nullFrequency = nullFrequency;
+    }
+
+    /**
+     * Sets the amount of key fields. The key fields are the first fields and must be alpha, integer or
+     * autoincrement fields.
+     *
+     * @param primaryKeyFields
+     *            the amount of key fields.
+     */
+    public void setPrimaryKeyFields(final int primaryKeyFields) {
+        this.primaryKeyFields = primaryKeyFields;
+    }
+
+    /**
+     * Sets the amount of rows.
+     *
+     * @param rows
+     *            the amount of rows.
+     */
+    public void setRows(final int rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * Sets the values seed.
+     *
+     * @param seed
+     *            the values seed.
+     */
+    public void setSeed(final long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the file version ID.
+     *
+     * @param version
+     *            the version ID: 3 and 4 for Paradox 3, 5 to 9 for Paradox 4, 0xA and 0xB for Paradox 5 and 0xC for
+     *            Paradox 7.
+     */
+    public void setVersion(final int version) {
+        this.version = version;
+    }
+
+    /**
+     * Creates the table header.
+     *
+     * @param recordSize
+     *            the record size.
+     * @param blocks
+     *            amount of data blocks.
+     * @return the table header, ready to write.
+     */
+    private ByteBuffer createHeader(final int recordSize, final int blocks) {
+        final List<byte[]> names = new ArrayList<>();
+        int namesLength = 0;
+        for (final Column column : this.columns) {
+            final byte[] data = column.name.getBytes(TableGenerator.CHARSET);
+            names.add(data);
+            namesLength += data.length + 1;
+        }
+        final int fields = this.columns.size();
+        final int fieldsStart = this.getFieldsStart();
+        final int tableNameLength = (this.version == TableGenerator.VERSION_7) ? 261 : 79;
+        final int length = fieldsStart + (6 * fields) + 4 + tableNameLength + namesLength + (2 * fields);
+        final int headerSize = ((length + TableGenerator.HEADER_UNIT) - 1) & -TableGenerator.HEADER_UNIT;
+
+        final ByteBuffer header = ByteBuffer.allocate(headerSize).order(ByteOrder.LITTLE_ENDIAN);
+        header.putShort(0, (short) recordSize);
+        header.putShort(2, (short) headerSize);
+        // Keyed or not keyed table.
+        header.put(4, (byte) ((this.primaryKeyFields > 0) ? 0 : 2));
+        header.put(5, (byte) this.blockSize);
+        header.putInt(6, this.rows);
+        header.putShort(0xA, (short) blocks);
+        header.putShort(0xC, (short) blocks);
+        header.putShort(0xE, (short) ((blocks > 0) ? 1 : 0));
+        header.putShort(0x10, (short) blocks);
+        header.putShort(0x21, (short) fields);
+        header.putShort(0x23, (short) this.primaryKeyFields);
+        header.put(0x39, (byte) this.version);
+        header.putInt(0x49, this.rows);
+        if (this.version > 4) {
+            header.putShort(0x6A, (short) 1252);
+        }
+
+        header.position(fieldsStart);
+        for (final Column column : this.columns) {
+            header.put((byte) column.type);
+            header.put((byte) column.getHeaderSize());
+        }
+        // Table name and field name pointers, not used by readers.
+        header.position(header.position() + 4 + (4 * fields));
+        final byte[] tableName = this.name.getBytes(TableGenerator.CHARSET);
+        header.put(tableName, 0, Math.min(tableName.length, tableNameLength - 1));
+        header.position(fieldsStart + (6 * fields) + 4 + tableNameLength);
+        for (final byte[] data : names) {
+            header.put(data);
+            header.put((byte) 0);
+        }
+        for (int loop = 1; loop <= fields; loop++) {
+            header.putShort((short) loop);
+        }
+        header.clear();
+        return header;
+    }
+
+    /**
+     * Creates the memo file writer, if the table has memo fields.
+     *
+     * @return the memo file writer.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    private MemoWriter createMemoWriter() throws IOException {
+        for (final Column column : this.columns) {
+            if (column.isMemo()) {
+                return new MemoWriter(new File(this.directory, this.name + ".MB"));
+            }
+        }
+        return new MemoWriter(null);
+    }
+
+    /**
+     * Gets the field information start in header.
+     *
+     * @return the field information start.
+     */
+    private int getFieldsStart() {
+        if (this.version > 4) {
+            return 0x78;
+        }
+        return 0x58;
+    }
+
+    /**
+     * Gets the value of a key field.
+     *
+     * @param field
+     *            the key field.
+     * @param row
+     *            the row index.
+     * @return the key value.
+     */
+    private Object getKey(final Column field, final int row) {
+        switch (field.type) {
+            case 1:
+                final String key = String.format("%010d", Integer.valueOf(row));
+                return key.substring(Math.max(0, key.length() - field.size));
+            case 3:
+                return Integer.valueOf(row - Short.MAX_VALUE);
+            case 4:
+                return Long.valueOf(row);
+            case 0x16:
+                return Integer.valueOf(row + 1);
+            default:
+                throw new IllegalArgumentException("Key field type unsupported: " + field.type);
+        }
+    }
+
+    /**
+     * Gets a memo length.
+     *
+     * @param hash
+     *            the value hash.
+     * @return the memo length, at least one: blank memos are NULL values.
+     */
+    private int getMemoLength(final long hash) {
+        // Most memos are small, as in real tables.
+        final int max = (Math.abs(hash % 4) == 0) ? this.memoSize : Math.min(this.memoSize, 200);
+        return 1 + (int) Math.abs((hash >>> 8) % max);
+    }
+
+    /**
+     * Gets the record size.
+     *
+     * @return the record size.
+     */
+    private int getRecordSize() {
+        int size = 0;
+        for (final Column column : this.columns) {
+            size += column.getPhysicsSize();
+        }
+        return size;
+    }
+
+    /**
+     * Gets the hash of a cell.
+     *
+     * @param row
+     *            the row index.
+     * @param column
+     *            the column index.
+     * @return the cell hash.
+     */
+    private long hash(final int row, final int column) {
+        return TableGenerator.mix(this.seed + (row * 0x9E37_79B9_7F4A_7C15L) + (column * 0xBF58_476D_1CE4_E5B9L));
+    }
+
+    /**
+     * Mixes the bits of a value (SplitMix64 finalizer).
+     *
+     * @param value
+     *            the value.
+     * @return the mixed value.
+     */
+    private static long mix(final long value) {
+        long bits = value + 0x9E37_79B9_7F4A_7C15L;
+        bits = (bits ^ (bits >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        bits = (bits ^ (bits >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return bits ^ (bits >>> 31);
+    }
+
+    /**
+     * Creates a text with letters and spaces.
+     *
+     * @param hash
+     *            the value hash.
+     * @param length
+     *            the text length.
+     * @return the text.
+     */
+    private static String text(final long hash, final int length) {
+        final char[] chars = new char[length];
+        long bits = hash;
+        for (int loop = 0; loop < length; loop++) {
+            bits = TableGenerator.mix(bits);
+            final int letter = (int) Math.abs(bits % 27);
+            chars[loop] = (letter == 26) ? ' ' : (char) ('a' + letter);
+        }
+        // Trailing spaces are kept, but the first character is always a letter.
+        if (length > 0) {
+            chars[0] = Character.toUpperCase((char) ('a' + Math.abs(hash % 26)));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Writes a value.
+     *
+     * @param block
+     *            the block buffer, in the value position.
+     * @param row
+     *            the row index.
+     * @param column
+     *            the column index.
+     * @param memos
+     *            the memo file writer.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    private void writeValue(final ByteBuffer block, final int row, final int column, final MemoWriter memos)
+            throws IOException {
+        final Column field = this.columns.get(column);
+        final Object value = this.getValue(row, column);
+        final int start = block.position();
+        if (value != null) {
+            TableGenerator.encode(block, field, value, memos);
+        }
+        block.position(start + field.getPhysicsSize());
+    }
+
+    /**
+     * Encodes a not NULL value.
+     *
+     * @param block
+     *            the block buffer, in the value position.
+     * @param field
+     *            the field.
+     * @param value
+     *            the value.
+     * @param memos
+     *            the memo file writer.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    private static void encode(final ByteBuffer block, final Column field, final Object value,
+            final MemoWriter memos) throws IOException {
+        switch (field.type) {
+            case 1:
+                block.put(((String) value).getBytes(TableGenerator.CHARSET));
+                break;
+            case 2:
+                final Date date = (Date) value;
+                final String[] parts = date.toString().split("-");
+                final long sdn = DateUtils.gregorianToSdn(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                        Long.parseLong(parts[2]));
+                block.putInt((int) ((sdn - TableGenerator.DATE_ORIGIN) | 0x8000_0000L));
+                break;
+            case 3:
+                block.putShort((short) (((Integer) value).intValue() ^ 0x8000));
+                break;
+            case 4:
+                block.putInt((int) (((Long) value).longValue() ^ 0x8000_0000L));
+                break;
+            case 5:
+            case 6:
+                block.putLong(TableGenerator.encodeDouble(((Double) value).doubleValue()));
+                break;
+            case 9:
+                block.put((byte) (((Boolean) value).booleanValue() ? 0x81 : 0x80));
+                break;
+            case 0xC:
+                TableGenerator.encodeMemo(block, field, ((String) value).getBytes(TableGenerator.CHARSET), memos);
+                break;
+            case 0xD:
+                TableGenerator.encodeMemo(block, field, (byte[]) value, memos);
+                break;
+            case 0x14:
+                block.putInt(((Integer) value).intValue() | 0x8000_0000);
+                break;
+            case 0x15:
+                block.putLong(TableGenerator.encodeDouble(((Timestamp) value).getTime()
+                        + TableGenerator.MILLIS_UNTIL_1970));
+                break;
+            case 0x16:
+                block.putInt(((Integer) value).intValue() | 0x8000_0000);
+                break;
+            case 0x17:
+                TableGenerator.encodeBCD(block, (BigDecimal) value);
+                break;
+            case 0x18:
+                block.put((byte[]) value);
+                break;
+            default:
+                throw new IllegalArgumentException("Field type unsupported: " + field.type);
+        }
+    }
+
+    /**
+     * Encodes a BCD value, with the digits complemented for negative values.
+     *
+     * @param block
+     *            the block buffer, in the value position.
+     * @param value
+     *            the value.
+     */
+    private static void encodeBCD(final ByteBuffer block, final BigDecimal value) {
+        final boolean positive = value.signum() >= 0;
+        final String digits = value.unscaledValue().abs().toString();
+        final byte[] data = new byte[17];
+        data[0] = (byte) ((positive ? 0x80 : 0) | value.scale());
+        final int complement = positive ? 0 : 0xF;
+        for (int nibble = 2; nibble < 34; nibble++) {
+            final int index = (nibble - 34) + digits.length();
+            int digit = 0;
+            if (index >= 0) {
+                digit = digits.charAt(index) - '0';
+            }
+            digit ^= complement;
+            data[nibble / 2] |= (byte) (((nibble % 2) == 0) ? (digit << 4) : digit);
+        }
+        block.put(data);
+    }
+
+    /**
+     * Encodes a double, with the sign bit set for positive values and all bits complemented for negative values.
+     *
+     * @param value
+     *            the value.
+     * @return the encoded value.
+     */
+    private static long encodeDouble(final double value) {
+        final long bits = Double.doubleToLongBits(value);
+        if (bits < 0) {
+            return ~bits;
+        }
+        return bits | Long.MIN_VALUE;
+    }
+
+    /**
+     * Encodes a memo: the leader in the table and the full value in the memo file.
+     *
+     * @param block
+     *            the block buffer, in the value position.
+     * @param field
+     *            the field.
+     * @param data
+     *            the memo data.
+     * @param memos
+     *            the memo file writer.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    private static void encodeMemo(final ByteBuffer block, final Column field, final byte[] data,
+            final MemoWriter memos) throws IOException {
+        block.put(data, 0, Math.min(data.length, field.size));
+        block.position(block.position() + (field.size - Math.min(data.length, field.size)));
+        block.order(ByteOrder.LITTLE_ENDIAN);
+        block.putInt((int) memos.write(data));
+        block.putInt(data.length);
+        block.putShort((short) 1);
+        block.order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Writes the primary key index, one level with the first key of each data block.
+     *
+     * @param keys
+     *            the first key of each data block.
+     * @throws IOException
+     *             in case of I/O errors.
+     */
+    private void writeIndex(final List<KeyEntry> keys) throws IOException {
+        int keySize = 0;
+        for (int loop = 0; loop < this.primaryKeyFields; loop++) {
+            keySize += this.columns.get(loop).getPhysicsSize();
+        }
+        // Key values, block number, rows in block and a reserved value.
+        final int recordSize = keySize + 6;
+        final int blockBytes = this.blockSize * 1024;
+        final int recordsByBlock = (blockBytes - TableGenerator.BLOCK_HEADER_SIZE) / recordSize;
+        final int blocks = Math.max(1, (keys.size() + recordsByBlock - 1) / recordsByBlock);
+
+        final ByteBuffer header = ByteBuffer.allocate(TableGenerator.HEADER_UNIT).order(ByteOrder.LITTLE_ENDIAN);
+        header.putShort(0, (short) recordSize);
+        header.putShort(2, (short) TableGenerator.HEADER_UNIT);
+        // Primary index.
+        header.put(4, (byte) 1);
+        header.put(5, (byte) this.blockSize);
+        header.putInt(6, keys.size());
+        header.putShort(0xA, (short) blocks);
+        header.putShort(0xC, (short) blocks);
+        header.putShort(0xE, (short) 1);
+        header.putShort(0x10, (short) blocks);
+        header.put(0x15, (byte) this.primaryKeyFields);
+        // Root block and levels.
+        header.putShort(0x1E, (short) 1);
+        header.put(0x20, (byte) 1);
+        header.put(0x39, (byte) this.version);
+
+        try (FileChannel channel = new RandomAccessFile(new File(this.directory, this.name + ".PX"), "rw")
+                .getChannel()) {
+            channel.truncate(0);
+            channel.write(header, 0);
+            final ByteBuffer block = ByteBuffer.allocate(blockBytes);
+            for (int number = 1; number <= blocks; number++) {
+                final int first = (number - 1) * recordsByBlock;
+                final int count = Math.min(recordsByBlock, keys.size() - first);
+                Arrays.fill(block.array(), (byte) 0);
+                block.clear();
+                block.order(ByteOrder.LITTLE_ENDIAN);
+                block.putShort((short) ((number < blocks) ? (number + 1) : 0));
+                block.putShort((short) (number - 1));
+                block.putShort((short) ((Math.max(count, 1) - 1) * recordSize));
+                for (int loop = first; loop < (first + count); loop++) {
+                    final KeyEntry entry = keys.get(loop);
+                    block.order(ByteOrder.BIG_ENDIAN);
+                    for (int column = 0; column < this.primaryKeyFields; column++) {
+                        final int start = block.position();
+                        TableGenerator.encode(block, this.columns.get(column), this.getValue(entry.firstRow, column),
+                                null);
+                        block.position(start + this.columns.get(column).getPhysicsSize());
+                    }
+                    block.order(ByteOrder.LITTLE_ENDIAN);
+                    block.putShort((short) entry.block);
+                    block.putShort((short) entry.rows);
+                    block.putShort((short) 0);
+                }
+                block.clear();
+                channel.write(block, TableGenerator.HEADER_UNIT + ((number - 1L) * blockBytes));
+            }
+        }
+    }
+
+    /**
+     * A table column.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4.0
+     */
+    private static final class Column {
+
+        /**
+         * The field name.
+         */
+        private final String name;
+
+        /**
+         * The declared size.
+         */
+        private final int size;
+
+        /**
+         * The Paradox field type.
+         */
+        private final int type;
+
+        /**
+         * Creates a new column.
+         *
+         * @param name
+         *            the field name.
+         * @param type
+         *            the Paradox field type.
+         * @param size
+         *            the declared size.
+         */
+        Column(final String name, final int type, final int size) {
+            this.name = name;
+            this.type = type;
+            this.size = size;
+        }
+
+        /**
+         * Gets the size stored in the table header.
+         *
+         * @return the size stored in the table header.
+         */
+        int getHeaderSize() {
+            switch (this.type) {
+                case 1:
+                case 0x17:
+                case 0x18:
+                    return this.size;
+                default:
+                    return this.getPhysicsSize();
+            }
+        }
+
+        /**
+         * Gets the field size in rows.
+         *
+         * @return the field size in rows.
+         */
+        int getPhysicsSize() {
+            switch (this.type) {
+                case 1:
+                case 0x18:
+                    return this.size;
+                case 3:
+                    return 2;
+                case 5:
+                case 6:
+                case 0x15:
+                    return 8;
+                case 9:
+                    return 1;
+                case 0xC:
+                case 0xD:
+                    return this.size + 10;
+                case 0x17:
+                    return 17;
+                default:
+                    return 4;
+            }
+        }
+
+        /**
+         * If the values are stored in the memo file.
+         *
+         * @return true if the values are stored in the memo file.
+         */
+        boolean isMemo() {
+            return (this.type == 0xC) || (this.type == 0xD);
+        }
+    }
+
+    /**
+     * The first key of a data block.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4.0
+     */
+    private static final class KeyEntry {
+
+        /**
+         * The data block number.
+         */
+        private final int block;
+
+        /**
+         * The first row in block.
+         */
+        private final int firstRow;
+
+        /**
+         * Amount of rows in block.
+         */
+        private final int rows;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param firstRow
+         *            the first row in block.
+         * @param block
+         *            the data block number.
+         * @param rows
+         *            amount of rows in block.
+         */
+        KeyEntry(final int firstRow, final int block, final int rows) {
+            this.firstRow = firstRow;
+            this.block = block;
+            this.rows = rows;
+        }
+    }
+
+    /**
+     * Writes the memo file: single blocks for large values and sub blocks with up to 64 small values.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4.0
+     */
+    private static final class MemoWriter implements AutoCloseable {
+
+        /**
+         * The memo file, null if the table has no memo fields.
+         */
+        private final FileChannel channel;
+
+        /**
+         * Position of the next free block.
+         */
+        private long end = TableGenerator.MB_BLOCK_SIZE;
+
+        /**
+         * The current sub block, null if none.
+         */
+        private ByteBuffer subBlock;
+
+        /**
+         * Position of the current sub block.
+         */
+        private long subBlockAddress;
+
+        /**
+         * Amount of entries in the current sub block.
+         */
+        private int subBlockEntries;
+
+        /**
+         * Next data position in the current sub block.
+         */
+        private int subBlockPosition;
+
+        /**
+         * Creates a new writer.
+         *
+         * @param file
+         *            the memo file, null if the table has no memo fields.
+         * @throws IOException
+         *             in case of I/O errors.
+         */
+        MemoWriter(final File file) throws IOException {
+            if (file == null) {
+                this.channel = null;
+            } else {
+                this.channel = new RandomAccessFile(file, "rw").getChannel();
+                this.channel.truncate(0);
+                // Header block, with the header type zero.
+                this.channel.write(ByteBuffer.allocate(TableGenerator.MB_BLOCK_SIZE), 0);
+            }
+        }
+
+        /**
+         * Writes the pending sub block and closes the file.
+         *
+         * @throws IOException
+         *             in case of I/O errors.
+         */
+        @Override
+        public void close() throws IOException {
+            if (this.channel != null) {
+                this.flush();
+                this.channel.close();
+            }
+        }
+
+        /**
+         * Writes a memo value.
+         *
+         * @param data
+         *            the memo data, not empty.
+         * @return the memo offset stored in table.
+         * @throws IOException
+         *             in case of I/O errors.
+         * @throws IllegalStateException
+         *             if the memo file is too large.
+         */
+        long write(final byte[] data) throws IOException {
+            if (this.end > TableGenerator.MAX_MEMO_OFFSET) {
+                throw new IllegalStateException("Memo file larger than the 4 GiB offset limit.");
+            }
+            if (data.length > TableGenerator.SUB_BLOCK_LIMIT) {
+                final int size = TableGenerator.SINGLE_BLOCK_HEADER + data.length;
+                final int blocks = (size + TableGenerator.MB_BLOCK_SIZE - 1) / TableGenerator.MB_BLOCK_SIZE;
+                final ByteBuffer buffer = ByteBuffer.allocate(blocks * TableGenerator.MB_BLOCK_SIZE);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                buffer.put((byte) 2);
+                buffer.putShort((short) blocks);
+                buffer.putInt(data.length);
+                buffer.putShort((short) 1);
+                buffer.put(data);
+                buffer.clear();
+                final long address = this.end;
+                this.end += buffer.capacity();
+                this.channel.write(buffer, address);
+                // Single blocks have no entry index.
+                return address | 0xFF;
+            }
+
+            final int units = (data.length + 15) / 16;
+            if ((this.subBlock == null) || (this.subBlockEntries == TableGenerator.SUB_BLOCK_ENTRIES)
+                    || ((this.subBlockPosition + (units * 16)) > TableGenerator.MB_BLOCK_SIZE)) {
+                this.flush();
+                this.subBlock = ByteBuffer.allocate(TableGenerator.MB_BLOCK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                this.subBlock.put(0, (byte) 3);
+                this.subBlock.putShort(1, (short) 1);
+                this.subBlockAddress = this.end;
+                this.end += TableGenerator.MB_BLOCK_SIZE;
+                this.subBlockEntries = 0;
+                this.subBlockPosition = TableGenerator.SUB_BLOCK_HEADER;
+            }
+            final int entry = 12 + (this.subBlockEntries * 5);
+            this.subBlock.put(entry, (byte) (this.subBlockPosition / 16));
+            this.subBlock.put(entry + 1, (byte) units);
+            this.subBlock.putShort(entry + 2, (short) 1);
+            this.subBlock.put(entry + 4, (byte) (((data.length - 1) % 16) + 1));
+            this.subBlock.position(this.subBlockPosition);
+            this.subBlock.put(data);
+            this.subBlockPosition += units * 16;
+            return this.subBlockAddress | this.subBlockEntries++;
+        }
+
+        /**
+         * Writes the current sub block.
+         *
+         * @throws IOException
+         *             in case of I/O errors.
+         */
+        private void flush() throws IOException {
+            if (this.subBlock != null) {
+                this.subBlock.clear();
+                this.channel.write(this.subBlock, this.subBlockAddress);
+                this.subBlock = null;
+            }
+        }
+    }
+}
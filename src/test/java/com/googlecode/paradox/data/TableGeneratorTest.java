@@ -0,0 +1,327 @@
+/*
+ * TableGeneratorTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.BlobDescriptor;
+import com.googlecode.paradox.data.table.value.ClobDescriptor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxPK;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TableGenerator}, reading the generated tables with the driver.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public class TableGeneratorTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * The directory of the generated tables.
+     */
+    private File directory;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Removes the generated tables.
+     *
+     * @throws Exception
+     *             in case of errors.
+     */
+    @After
+    public void cleanUp() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+        for (final File file : this.directory.listFiles()) {
+            Assert.assertTrue("File not deleted.", file.delete());
+        }
+        Assert.assertTrue("Directory not deleted.", this.directory.delete());
+    }
+
+    /**
+     * Creates the directory of the generated tables.
+     *
+     * @throws Exception
+     *             in case of errors.
+     */
+    @Before
+    public void createDirectory() throws Exception {
+        this.directory = Files.createTempDirectory("generated").toFile();
+    }
+
+    /**
+     * Test for all field types.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testAllTypes() throws Exception {
+        final TableGenerator generator = this.createAllTypes("types", 500);
+        generator.setBlockSize(1);
+        generator.generate();
+        this.assertTable(generator, "types", 500);
+    }
+
+    /**
+     * Test for the file versions and block sizes.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testVersions() throws Exception {
+        final int[] versions = { 3, 4, 9, 0xB, TableGenerator.VERSION_7 };
+        final int[] blockSizes = { 1, 2, 4, 16, 32 };
+        for (int loop = 0; loop < versions.length; loop++) {
+            final String name = "version" + loop;
+            final TableGenerator generator = this.createAllTypes(name, 300);
+            generator.setVersion(versions[loop]);
+            generator.setBlockSize(blockSizes[loop]);
+            generator.setSeed(loop);
+            generator.generate();
+        }
+        this.connect();
+        for (int loop = 0; loop < versions.length; loop++) {
+            final ParadoxTable table = TableData.listTables(this.conn, "version" + loop + ".db").get(0);
+            Assert.assertEquals("Invalid version.", versions[loop], table.getVersionId());
+            Assert.assertEquals("Invalid block size.", blockSizes[loop], table.getBlockSize());
+            Assert.assertEquals("Invalid field name.", "UPDATED", table.getFields().get(11).getName());
+        }
+        for (int loop = 0; loop < versions.length; loop++) {
+            final TableGenerator generator = this.createAllTypes("version" + loop, 300);
+            generator.setSeed(loop);
+            this.assertTable(generator, "version" + loop, 300);
+        }
+    }
+
+    /**
+     * Test for memos in single blocks and sub blocks.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testMemos() throws Exception {
+        final TableGenerator generator = new TableGenerator(this.directory, "memos");
+        generator.addField("ID", 0x16, 0);
+        generator.addField("NOTES", 0xC, 20);
+        generator.addField("IMAGE", 0xD, 10);
+        generator.setMemoSize(3 * TableGenerator.SUB_BLOCK_LIMIT);
+        generator.setRows(400);
+        generator.generate();
+        Assert.assertTrue("Memo file not written.", new File(this.directory, "memos.MB").length() > 4096);
+
+        int single = 0;
+        for (int row = 0; row < 400; row++) {
+            if (((String) generator.getValue(row, 1)).length() > TableGenerator.SUB_BLOCK_LIMIT) {
+                single++;
+            }
+        }
+        Assert.assertTrue("No memos in single blocks.", single > 0);
+        this.assertTable(generator, "memos", 400);
+    }
+
+    /**
+     * Test for NULL values.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testNulls() throws Exception {
+        final TableGenerator generator = new TableGenerator(this.directory, "nulls");
+        generator.addField("BIRTH", 2, 0);
+        generator.addField("ACTIVE", 9, 0);
+        generator.addField("TOTAL", 0x17, 3);
+        generator.addField("NOTES", 0xC, 10);
+        generator.setNullFrequency(3);
+        generator.setRows(200);
+        generator.generate();
+
+        int nulls = 0;
+        for (int row = 0; row < 200; row++) {
+            if (generator.getValue(row, 0) == null) {
+                nulls++;
+            }
+        }
+        Assert.assertTrue("No NULL values.", nulls > 0);
+        this.assertTable(generator, "nulls", 200);
+    }
+
+    /**
+     * Test for the primary key index.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testPrimaryKey() throws Exception {
+        final TableGenerator generator = new TableGenerator(this.directory, "keyed");
+        generator.addField("CODE", 1, 8);
+        generator.addField("AMOUNT", 4, 0);
+        generator.setPrimaryKeyFields(1);
+        generator.setRows(1000);
+        generator.generate();
+        this.assertTable(generator, "keyed", 1000);
+
+        final ParadoxTable table = TableData.listTables(this.conn, "keyed.db").get(0);
+        final ParadoxPK key = PrimaryKeyData.getPrimaryKey(this.conn, table);
+        Assert.assertNotNull("Primary key not found.", key);
+        Assert.assertEquals("Invalid key fields.", 1, key.getIndexFieldNumber());
+        Assert.assertEquals("Invalid first key.", "00000000", generator.getValue(0, 0));
+    }
+
+    /**
+     * Reads a generated table and checks all values.
+     *
+     * @param generator
+     *            the table generator.
+     * @param name
+     *            the table name.
+     * @param rows
+     *            amount of rows.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    private void assertTable(final TableGenerator generator, final String name, final int rows)
+            throws SQLException {
+        this.connect();
+        final ParadoxTable table = TableData.listTables(this.conn, name + ".db").get(0);
+        Assert.assertEquals("Invalid row count.", rows, table.getRowCount());
+        final List<List<FieldValue>> values = TableData.loadData(table, table.getFields());
+        Assert.assertEquals("Invalid row count.", rows, values.size());
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < table.getFields().size(); column++) {
+                final ParadoxField field = table.getFields().get(column);
+                final Object expected = generator.getValue(row, column);
+                final Object actual = TableGeneratorTest.getValue(values.get(row).get(column));
+                final String message = "Invalid value in " + field.getName() + " at row " + row + ".";
+                if (expected instanceof byte[]) {
+                    Assert.assertArrayEquals(message, (byte[]) expected, (byte[]) actual);
+                } else if (expected instanceof Date) {
+                    Assert.assertEquals(message, expected.toString(), actual.toString());
+                } else if (expected instanceof BigDecimal) {
+                    Assert.assertEquals(message, 0, ((BigDecimal) expected).compareTo((BigDecimal) actual));
+                } else if (expected instanceof Timestamp) {
+                    Assert.assertEquals(message, ((Timestamp) expected).getTime(), ((java.util.Date) actual).getTime());
+                } else if (field.getType() == 0x14) {
+                    Assert.assertEquals(message, expected, Integer.valueOf(TableGeneratorTest.millisOfDay(actual)));
+                } else {
+                    Assert.assertEquals(message, expected, actual);
+                }
+            }
+        }
+    }
+
+    /**
+     * Connects to the generated tables.
+     *
+     * @throws SQLException
+     *             in case of connection errors.
+     */
+    private void connect() throws SQLException {
+        if (this.conn == null) {
+            this.conn = (ParadoxConnection) DriverManager.getConnection("jdbc:paradox:" + this.directory.getPath());
+        }
+    }
+
+    /**
+     * Creates a generator with all field types.
+     *
+     * @param name
+     *            the table name.
+     * @param rows
+     *            amount of rows.
+     * @return the generator.
+     */
+    private TableGenerator createAllTypes(final String name, final int rows) {
+        final TableGenerator generator = new TableGenerator(this.directory, name);
+        generator.addAllTypes();
+        generator.setRows(rows);
+        return generator;
+    }
+
+    /**
+     * Gets the milliseconds of day of a time.
+     *
+     * @param time
+     *            the time.
+     * @return the milliseconds of day.
+     */
+    private static int millisOfDay(final Object time) {
+        final String[] parts = time.toString().split(":");
+        return ((Integer.parseInt(parts[0]) * 3_600) + (Integer.parseInt(parts[1]) * 60)
+                + Integer.parseInt(parts[2])) * 1_000;
+    }
+
+    /**
+     * Gets a value as the generator expected values.
+     *
+     * @param value
+     *            the value read.
+     * @return the value.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    private static Object getValue(final FieldValue value) throws SQLException {
+        if (value.isNull()) {
+            return null;
+        }
+        final Object data = value.getValue();
+        if (data instanceof ClobDescriptor) {
+            final ClobDescriptor descriptor = (ClobDescriptor) data;
+            if (descriptor.getOffset() == 0) {
+                // Blank memos are NULL values.
+                return null;
+            }
+            return descriptor.getClobString();
+        } else if (data instanceof BlobDescriptor) {
+            final BlobDescriptor descriptor = (BlobDescriptor) data;
+            if (descriptor.getOffset() == 0) {
+                return null;
+            }
+            return descriptor.getFile().read(descriptor.getOffset());
+        }
+        return data;
+    }
+}
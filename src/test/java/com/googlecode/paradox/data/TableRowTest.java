@@ -0,0 +1,144 @@
+/*
+ * TableRowTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TableRow}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public class TableRowTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "geog");
+    }
+
+    /**
+     * Test for the scan values.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testScan() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "County.db").get(0);
+        final List<List<FieldValue>> expected = TableData.loadData(table, table.getFields());
+
+        final int[] count = new int[1];
+        table.scan(new RowVisitor() {
+            @Override
+            public boolean visit(final TableRow row) throws SQLException {
+                final List<FieldValue> values = expected.get(count[0]);
+                Assert.assertEquals("Invalid row number.", count[0] + 1L, row.getRowNumber());
+                Assert.assertEquals("Invalid column count.", values.size(), row.getColumnCount());
+                for (int column = 0; column < values.size(); column++) {
+                    Assert.assertEquals("Invalid value.", values.get(column).getValue(), row.getObject(column));
+                    Assert.assertEquals("Invalid null.", values.get(column).isNull(), row.isNull(column));
+                }
+                count[0]++;
+                return true;
+            }
+        });
+        Assert.assertEquals("Invalid row count.", expected.size(), count[0]);
+    }
+
+    /**
+     * Test for the row view reuse.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testReuse() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "County.db").get(0);
+        final List<TableRow> rows = new ArrayList<>();
+        table.scan(new RowVisitor() {
+            @Override
+            public boolean visit(final TableRow row) {
+                rows.add(row);
+                return rows.size() < 3;
+            }
+        });
+        Assert.assertEquals("Invalid row count.", 3, rows.size());
+        Assert.assertSame("Row view not reused.", rows.get(0), rows.get(2));
+    }
+
+    /**
+     * Test for stopping the scan.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testStop() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "County.db").get(0);
+        final long[] last = new long[1];
+        TableData.scan(table, new ScanContext(), new RowVisitor() {
+            @Override
+            public boolean visit(final TableRow row) {
+                last[0] = row.getRowNumber();
+                return row.getRowNumber() < 1000;
+            }
+        });
+        Assert.assertEquals("Scan not stopped.", 1000L, last[0]);
+    }
+}
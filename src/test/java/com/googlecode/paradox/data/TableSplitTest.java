@@ -0,0 +1,208 @@
+/*
+ * TableSplitTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TableSplit}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.0
+ */
+public class TableSplitTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "geog");
+    }
+
+    /**
+     * Test for the split order.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testOrder() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn, "County.db").get(0);
+        final List<List<FieldValue>> expected = TableData.loadData(table, table.getFields());
+
+        final TableSplit second = table.split();
+        final int blocks = second.estimateBlocks();
+        final TableSplit first = second.trySplit();
+        Assert.assertNotNull("Table not split.", first);
+        Assert.assertEquals("Invalid blocks.", blocks, first.estimateBlocks() + second.estimateBlocks());
+
+        final List<Object> values = new ArrayList<>();
+        final RowVisitor visitor = new RowVisitor() {
+            @Override
+            public boolean visit(final TableRow row) throws SQLException {
+                values.add(row.getObject(0));
+                return true;
+            }
+        };
+        Assert.assertTrue("Traversal stopped.", first.forEachRemaining(visitor));
+        Assert.assertTrue("Traversal stopped.", second.forEachRemaining(visitor));
+        Assert.assertEquals("Split not exhausted.", 0, first.estimateBlocks());
+
+        Assert.assertEquals("Invalid row count.", expected.size(), values.size());
+        for (int loop = 0; loop < values.size(); loop++) {
+            Assert.assertEquals("Invalid value.", expected.get(loop).get(0).getValue(), values.get(loop));
+        }
+    }
+
+    /**
+     * Test for the parallel traversal.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testParallel() throws Exception {
+        final ParadoxTable table = TableData.listTables(this.conn, "County.db").get(0);
+        final List<TableSplit> splits = new ArrayList<>();
+        splits.add(table.split());
+        for (int loop = 0; loop < splits.size(); loop++) {
+            TableSplit split = splits.get(loop).trySplit();
+            while (split != null) {
+                splits.add(split);
+                split = splits.get(loop).trySplit();
+            }
+        }
+        Assert.assertTrue("Table not split.", splits.size() > 1);
+
+        final AtomicLong count = new AtomicLong();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (final TableSplit split : splits) {
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() throws SQLException {
+                        return split.forEachRemaining(new RowVisitor() {
+                            @Override
+                            public boolean visit(final TableRow row) {
+                                count.incrementAndGet();
+                                return true;
+                            }
+                        });
+                    }
+                }));
+            }
+            for (final Future<Boolean> result : results) {
+                Assert.assertTrue("Traversal stopped.", result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals("Invalid row count.", TableData.loadData(table, table.getFields()).size(), count.get());
+    }
+
+    /**
+     * Test for a cancelled split traversal.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testCancelled() throws SQLException {
+        final ScanContext context = new ScanContext();
+        final TableSplit second = TableData.split(TableData.listTables(this.conn, "County.db").get(0), context);
+        final TableSplit first = second.trySplit();
+        Assert.assertNotNull("Table not split.", first);
+        context.cancel();
+        final RowVisitor visitor = new RowVisitor() {
+            @Override
+            public boolean visit(final TableRow row) {
+                Assert.fail("Row read after cancel.");
+                return false;
+            }
+        };
+        for (final TableSplit split : new TableSplit[] { first, second }) {
+            try {
+                split.forEachRemaining(visitor);
+                Assert.fail("Traversal not cancelled.");
+            } catch (final SQLException e) {
+                Assert.assertEquals("Invalid state.", SQLStates.STATEMENT_CANCELLED.getValue(), e.getSQLState());
+            }
+        }
+    }
+
+    /**
+     * Test for a split with a single block.
+     *
+     * @throws SQLException
+     *             in case of failures.
+     */
+    @Test
+    public void testSingleBlock() throws SQLException {
+        final TableSplit split = TableData.split(TableData.listTables(this.conn, "County.db").get(0));
+        while (split.estimateBlocks() > 1) {
+            split.trySplit();
+        }
+        Assert.assertNull("Single block split.", split.trySplit());
+        Assert.assertTrue("Invalid estimate.", split.estimateSize() > 0);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * BCDFieldTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.field;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.data.table.value.Row;
+import com.googlecode.paradox.metadata.ParadoxField;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.Types;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BCDField} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public class BCDFieldTest {
+
+    /**
+     * Creates a BCD field.
+     *
+     * @param scale
+     *            the field scale.
+     * @return the field.
+     * @throws SQLException
+     *             in case of errors.
+     */
+    private static ParadoxField createField(final int scale) throws SQLException {
+        final ParadoxField field = new ParadoxField();
+        field.setType((byte) 0x17);
+        field.setSize(scale);
+        return field;
+    }
+
+    /**
+     * Encodes a BCD value.
+     *
+     * @param digits
+     *            the value digits, without sign.
+     * @param positive
+     *            the value sign.
+     * @param scale
+     *            the value scale.
+     * @return the value buffer.
+     */
+    private static ByteBuffer encode(final String digits, final boolean positive, final int scale) {
+        final byte[] data = new byte[17];
+        data[0] = (byte) ((positive ? 0x80 : 0) | scale);
+        final int complement = positive ? 0 : 0xF;
+        for (int nibble = 2; nibble < 34; nibble++) {
+            final int index = (nibble - 34) + digits.length();
+            int digit = 0;
+            if (index >= 0) {
+                digit = digits.charAt(index) - '0';
+            }
+            digit ^= complement;
+            if ((nibble % 2) == 0) {
+                data[nibble / 2] |= (byte) (digit << 4);
+            } else {
+                data[nibble / 2] |= (byte) digit;
+            }
+        }
+        return ByteBuffer.wrap(data);
+    }
+
+    /**
+     * Test for field metadata.
+     *
+     * @throws SQLException
+     *             in case of errors.
+     */
+    @Test
+    public void testField() throws SQLException {
+        final ParadoxField field = BCDFieldTest.createField(4);
+        Assert.assertEquals("Invalid physics size.", 17, field.getPhysicsSize());
+        Assert.assertEquals("Invalid scale.", 4, field.getScale());
+        Assert.assertEquals("Invalid precision.", 32, field.getSize());
+    }
+
+    /**
+     * Test for valid match.
+     */
+    @Test
+    public void testValidMatch() {
+        final BCDField field = new BCDField();
+        Assert.assertTrue(field.match(0x17));
+        Assert.assertFalse(field.match(0x18));
+    }
+
+    /**
+     * Test for parse method.
+     *
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    @Test
+    public void testParse() throws SQLException {
+        final ParadoxField field = BCDFieldTest.createField(2);
+        final ByteBuffer buffer = BCDFieldTest.encode("12345", true, 2);
+        final FieldValue value = new BCDField().parse(null, buffer, field);
+        Assert.assertEquals("Invalid value.", new BigDecimal("123.45"), value.getValue());
+        Assert.assertEquals("Invalid type.", Types.NUMERIC, value.getType());
+        Assert.assertEquals("Invalid position.", 17, buffer.position());
+    }
+
+    /**
+     * Test for negative values in primitive slots.
+     *
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    @Test
+    public void testNegative() throws SQLException {
+        final ParadoxField field = BCDFieldTest.createField(2);
+        final Row row = new Row(new ParadoxField[] { field });
+        new BCDField().parse(null, BCDFieldTest.encode("1050", false, 2), field, row, 0);
+        Assert.assertEquals("Invalid double.", -10.5D, row.getDouble(0), 0D);
+        Assert.assertEquals("Invalid long.", -10L, row.getLong(0));
+        Assert.assertEquals("Invalid unscaled value.", -1050L, row.getBatch().getVector(0).getLongs()[0]);
+        Assert.assertEquals("Invalid value.", new BigDecimal("-10.50"), row.getValue(0));
+    }
+
+    /**
+     * Test for values larger than a long.
+     *
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    @Test
+    public void testLarge() throws SQLException {
+        final ParadoxField field = BCDFieldTest.createField(3);
+        final Row row = new Row(new ParadoxField[] { field });
+        new BCDField().parse(null, BCDFieldTest.encode("12345678901234567890123", true, 3), field, row, 0);
+        Assert.assertEquals("Invalid value.", new BigDecimal("12345678901234567890.123"), row.getValue(0));
+        Assert.assertEquals("Invalid double.", 12345678901234567890.123D, row.getDouble(0), 1D);
+    }
+
+    /**
+     * Test for NULL values.
+     *
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    @Test
+    public void testNull() throws SQLException {
+        final FieldValue value = new BCDField().parse(null, ByteBuffer.wrap(new byte[17]),
+                BCDFieldTest.createField(0));
+        Assert.assertTrue("Invalid null.", value.isNull());
+    }
+
+    /**
+     * Test for invalid digits.
+     *
+     * @throws SQLException
+     *             expected.
+     */
+    @Test(expected = SQLDataException.class)
+    public void testInvalidDigit() throws SQLException {
+        final byte[] data = new byte[17];
+        data[0] = (byte) 0x80;
+        data[16] = (byte) 0xAA;
+        new BCDField().parse(null, ByteBuffer.wrap(data), BCDFieldTest.createField(0));
+    }
+}
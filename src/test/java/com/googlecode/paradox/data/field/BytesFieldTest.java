@@ -0,0 +1,55 @@
+/*
+ * BytesFieldTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.field;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.sql.Types;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BytesField} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public class BytesFieldTest {
+
+    /**
+     * Test for valid match.
+     */
+    @Test
+    public void testValidMatch() {
+        final BytesField field = new BytesField();
+        Assert.assertTrue(field.match(0x18));
+        Assert.assertFalse(field.match(0x17));
+    }
+
+    /**
+     * Test for parse method.
+     *
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    @Test
+    public void testParse() throws SQLException {
+        final ParadoxField field = new ParadoxField();
+        field.setType((byte) 0x18);
+        field.setSize(3);
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 1, 0, (byte) 0xFF, 9 });
+        final FieldValue value = new BytesField().parse(null, buffer, field);
+        Assert.assertEquals("Invalid type.", Types.BINARY, value.getType());
+        Assert.assertArrayEquals("Invalid value.", new byte[] { 1, 0, (byte) 0xFF }, (byte[]) value.getValue());
+        Assert.assertEquals("Invalid position.", 3, buffer.position());
+    }
+}
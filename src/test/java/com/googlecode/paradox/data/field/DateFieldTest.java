@@ -19,7 +19,7 @@ import org.junit.Test;
  *
  * @author Leonardo Alves da Costa
  * @since 1.3
- * @version 1.0
+ * @version 1.1
  */
 public class DateFieldTest {
     /**
@@ -59,6 +59,21 @@ public class DateFieldTest {
         Assert.assertEquals("1996-05-04", value.getDate().toString());
     }
     
+    /**
+     * Test for null date, stored as all bytes zero.
+     *
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    @Test
+    public void testParseNull() throws SQLException {
+        final DateField field = new DateField();
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 0, 0, 0, 0 });
+        final FieldValue value = field.parse(null, buffer, null);
+        Assert.assertTrue(value.isNull());
+        Assert.assertNull(value.getDate());
+    }
+    
     /**
      * Test for valid match.
      */
@@ -22,7 +22,7 @@ import org.junit.Test;
  *
  * @author Leonardo Alves da Costa
  * @since 1.3
- * @version 1.0
+ * @version 1.1
  */
 public class TimeFieldTest {
     /**
@@ -66,6 +66,24 @@ public class TimeFieldTest {
         Assert.assertNull(value.getTime());
     }
     
+    /**
+     * Test for time with the sign bit set and the low bytes over 0x7F.
+     *
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    @Test
+    public void testParseSignBit() throws SQLException {
+        final Calendar calendar = new GregorianCalendar(1, 0, 0);
+        calendar.add(Calendar.MILLISECOND, 100000);
+        final Time time = new Time(calendar.getTimeInMillis());
+        
+        final TimeField field = new TimeField();
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 0x80, 0x01, (byte) 0x86, (byte) 0xA0 });
+        final FieldValue value = field.parse(null, buffer, null);
+        Assert.assertEquals(time, value.getTime());
+    }
+    
     /**
      * Test for valid match.
      */
@@ -0,0 +1,106 @@
+/*
+ * BatchListTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.table.value;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+import java.sql.SQLDataException;
+import java.sql.Types;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BatchList} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.0
+ */
+public class BatchListTest {
+
+    /**
+     * Test for rows split in batches.
+     *
+     * @throws SQLDataException
+     *             in case of errors.
+     */
+    @Test
+    public void testBatches() throws SQLDataException {
+        final BatchList list = new BatchList(new ParadoxField[1]);
+        for (int loop = 0; loop < (RowBatch.SIZE + 10); loop++) {
+            list.appendRow().setLong(0, loop, Types.INTEGER);
+        }
+
+        Assert.assertEquals("Invalid size.", RowBatch.SIZE + 10, list.size());
+        Assert.assertEquals("Invalid batch count.", 2, list.getBatches().size());
+        Assert.assertEquals("Invalid batch size.", 10, list.getBatches().get(1).size());
+        Assert.assertEquals("Invalid value.", RowBatch.SIZE + 5, list.get(RowBatch.SIZE + 5).getInt(0));
+        Assert.assertEquals("Invalid value.", Integer.valueOf(3), list.get(3).get(0).getValue());
+    }
+
+    /**
+     * Test for lists with batches not full.
+     *
+     * @throws SQLDataException
+     *             in case of errors.
+     */
+    @Test
+    public void testAppend() throws SQLDataException {
+        final ParadoxField[] fields = new ParadoxField[1];
+        final BatchList list = new BatchList(fields);
+        for (int part = 0; part < 3; part++) {
+            final BatchList other = new BatchList(fields);
+            for (int loop = 0; loop < 3; loop++) {
+                other.appendRow().setLong(0, (part * 3) + loop, Types.BIGINT);
+            }
+            list.append(other);
+            list.append(new BatchList(fields));
+        }
+
+        Assert.assertEquals("Invalid size.", 9, list.size());
+        for (int loop = 0; loop < list.size(); loop++) {
+            Assert.assertEquals("Invalid value.", loop, list.get(loop).getLong(0));
+        }
+    }
+
+    /**
+     * Test for the compaction of the appended batches not full.
+     *
+     * @throws SQLDataException
+     *             in case of errors.
+     */
+    @Test
+    public void testAppendCompact() throws SQLDataException {
+        final ParadoxField[] fields = new ParadoxField[2];
+        final BatchList other = new BatchList(fields);
+        for (int loop = 0; loop < 3; loop++) {
+            final RowBatch batch = other.appendRow();
+            batch.setLong(0, loop, Types.INTEGER);
+            batch.setValue(1, new FieldValue("row" + loop, Types.VARCHAR));
+        }
+        other.appendRow().setNull(1, Types.VARCHAR);
+
+        final BatchList list = new BatchList(fields);
+        list.append(other);
+        final RowBatch compacted = list.getBatches().get(0);
+        Assert.assertNotSame("Batch not compacted.", other.getBatches().get(0), compacted);
+        Assert.assertTrue("Invalid capacity.", compacted.isFull());
+        Assert.assertTrue("Batch not smaller.", compacted.estimateSize() < other.estimateSize());
+        Assert.assertEquals("Invalid value.", 2, list.get(2).getInt(0));
+        Assert.assertEquals("Invalid value.", "row1", list.get(1).get(1).getValue());
+        Assert.assertTrue("Invalid null.", list.get(3).isNull(1));
+    }
+
+    /**
+     * Test for invalid row index.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testInvalidIndex() {
+        new BatchList(new ParadoxField[1]).get(0);
+    }
+}
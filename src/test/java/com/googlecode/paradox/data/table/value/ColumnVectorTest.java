@@ -0,0 +1,104 @@
+/*
+ * ColumnVectorTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.table.value;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLDataException;
+import java.sql.Types;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ColumnVector} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.0
+ */
+public class ColumnVectorTest {
+
+    /**
+     * Test for the validity mask.
+     */
+    @Test
+    public void testValidity() {
+        final ColumnVector vector = new ColumnVector(RowBatch.SIZE);
+        vector.setLong(100, 1, Types.INTEGER);
+        vector.setLong(101, 2, Types.INTEGER);
+        vector.setNull(101, Types.INTEGER);
+
+        Assert.assertFalse("Invalid null.", vector.isNull(100));
+        Assert.assertTrue("Invalid null.", vector.isNull(101));
+        Assert.assertTrue("Row not set is not null.", vector.isNull(0));
+        Assert.assertEquals("Invalid type.", Types.INTEGER, vector.getType());
+    }
+
+    /**
+     * Test for the numeric conversions.
+     *
+     * @throws SQLDataException
+     *             in case of errors.
+     */
+    @Test
+    public void testNumbers() throws SQLDataException {
+        final ColumnVector vector = new ColumnVector(2);
+        vector.setDouble(0, 1E10D);
+        vector.setNull(1, Types.DOUBLE);
+
+        Assert.assertEquals("Invalid double.", 1E10D, vector.getDouble(0), 0D);
+        Assert.assertEquals("Invalid int.", Double.valueOf(1E10D).intValue(), vector.getInt(0));
+        Assert.assertEquals("Invalid long.", 10_000_000_000L, vector.getLong(0));
+        Assert.assertEquals("Invalid null value.", 0D, vector.getDouble(1), 0D);
+    }
+
+    /**
+     * Test for the copy between vectors.
+     */
+    @Test
+    public void testCopy() {
+        final ColumnVector source = new ColumnVector(2);
+        source.setValue(0, new FieldValue("text", Types.VARCHAR));
+        source.setNull(1, Types.VARCHAR);
+
+        final ColumnVector target = new ColumnVector(2);
+        target.copy(0, source, 1);
+        target.copy(1, source, 0);
+        Assert.assertTrue("Invalid null.", target.isNull(0));
+        Assert.assertEquals("Invalid value.", "text", target.get(1, null).getValue());
+    }
+
+    /**
+     * Test for the size estimate of strings not decoded yet.
+     */
+    @Test
+    public void testEstimateSizeLazy() {
+        final byte[] bytes = "text".getBytes(StandardCharsets.US_ASCII);
+        final FieldValue value = FieldValue.ofString(bytes, StandardCharsets.US_ASCII);
+        final ColumnVector vector = new ColumnVector(1);
+        vector.setValue(0, value);
+
+        final long size = vector.estimateSize();
+        Assert.assertSame("String decoded by the estimate.", bytes, value.getRawValue());
+        Assert.assertEquals("Invalid value.", "text", value.getValue());
+        Assert.assertTrue("Estimate without the value.", size > new ColumnVector(1).estimateSize());
+    }
+
+    /**
+     * Test for invalid typed access.
+     *
+     * @throws SQLDataException
+     *             expected.
+     */
+    @Test(expected = SQLDataException.class)
+    public void testInvalidType() throws SQLDataException {
+        final ColumnVector vector = new ColumnVector(1);
+        vector.setLong(0, 1, Types.BOOLEAN);
+        vector.getLong(0);
+    }
+}
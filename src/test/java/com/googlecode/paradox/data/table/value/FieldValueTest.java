@@ -8,7 +8,9 @@
  */
 package com.googlecode.paradox.data.table.value;
 
+import java.nio.charset.Charset;
 import java.sql.SQLDataException;
+import java.sql.Timestamp;
 import java.sql.Types;
 import org.junit.Assert;
 import org.junit.Test;
@@ -17,7 +19,7 @@ import org.junit.Test;
  * Unit test for {@link FieldValue} class.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public class FieldValueTest {
@@ -36,6 +38,56 @@ public class FieldValueTest {
         Assert.assertNull("Testing for invalid field.", fieldValue.getField());
     }
     
+    /**
+     * Test for date values stored in milliseconds.
+     *
+     * @throws SQLDataException
+     *             in case of errors.
+     */
+    @Test
+    public void testMillis() throws SQLDataException {
+        final FieldValue fieldValue = FieldValue.ofMillis(1_000L, Types.TIMESTAMP);
+        Assert.assertFalse("Invalid null value.", fieldValue.isNull());
+        Assert.assertEquals("Invalid milliseconds.", 1_000L, fieldValue.getMillis());
+        Assert.assertEquals("Invalid value.", new Timestamp(1_000L), fieldValue.getTimestamp());
+        Assert.assertSame("Value created twice.", fieldValue.getValue(), fieldValue.getValue());
+    }
+    
+    /**
+     * Test for strings decoded on demand.
+     */
+    @Test
+    public void testString() {
+        final FieldValue fieldValue = FieldValue.ofString(new byte[] { 'a', 'b' }, Charset.forName("cp1252"));
+        Assert.assertFalse("Invalid null value.", fieldValue.isNull());
+        Assert.assertEquals("Invalid value.", "ab", fieldValue.getValue());
+    }
+    
+    /**
+     * Test for milliseconds in not date values.
+     *
+     * @throws SQLDataException
+     *             in there are no errors.
+     */
+    @Test(expected = SQLDataException.class)
+    public void testInvalidMillis() throws SQLDataException {
+        final FieldValue fieldValue = new FieldValue("test value", Types.VARCHAR);
+        fieldValue.getMillis();
+    }
+    
+    /**
+     * Test for milliseconds of a string already decoded.
+     *
+     * @throws SQLDataException
+     *             in there are no errors.
+     */
+    @Test(expected = SQLDataException.class)
+    public void testInvalidMillisDecoded() throws SQLDataException {
+        final FieldValue fieldValue = FieldValue.ofString(new byte[] { 'a', 'b' }, Charset.forName("cp1252"));
+        Assert.assertEquals("Invalid value.", "ab", fieldValue.getValue());
+        fieldValue.getMillis();
+    }
+    
     /**
      * Test for invalid {@link Boolean} value.
      *
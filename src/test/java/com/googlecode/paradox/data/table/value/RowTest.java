@@ -0,0 +1,141 @@
+/*
+ * RowTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.table.value;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+import java.sql.Date;
+import java.sql.SQLDataException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Row} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public class RowTest {
+
+    /**
+     * Test for the primitive slots.
+     *
+     * @throws SQLDataException
+     *             in case of errors.
+     */
+    @Test
+    public void testPrimitives() throws SQLDataException {
+        final Row row = new Row(new ParadoxField[4]);
+        row.setLong(0, 10, Types.INTEGER);
+        row.setDouble(1, 2.5D);
+        row.setLong(2, 1, Types.BOOLEAN);
+        row.setLong(3, Long.MAX_VALUE, Types.BIGINT);
+
+        Assert.assertEquals("Invalid size.", 4, row.size());
+        Assert.assertEquals("Invalid int.", 10, row.getInt(0));
+        Assert.assertEquals("Invalid double.", 2.5D, row.getDouble(1), 0D);
+        Assert.assertEquals("Invalid conversion.", 2, row.getInt(1));
+        Assert.assertTrue("Invalid boolean.", row.getBoolean(2));
+        Assert.assertEquals("Invalid long.", Long.MAX_VALUE, row.getLong(3));
+        Assert.assertEquals("Invalid value.", Integer.valueOf(10), row.get(0).getValue());
+        Assert.assertEquals("Invalid value.", Double.valueOf(2.5D), row.get(1).getValue());
+        Assert.assertEquals("Invalid value.", Boolean.TRUE, row.get(2).getValue());
+        Assert.assertEquals("Invalid type.", Types.BIGINT, row.get(3).getType());
+    }
+
+    /**
+     * Test for NULL values.
+     */
+    @Test
+    public void testNull() {
+        final Row row = new Row(new ParadoxField[70]);
+        row.setNull(65, Types.DATE);
+        row.setLong(66, 0, Types.INTEGER);
+
+        Assert.assertTrue("Invalid null.", row.isNull(65));
+        Assert.assertFalse("Invalid null.", row.isNull(66));
+        Assert.assertTrue("Column not set is not null.", row.isNull(0));
+        Assert.assertTrue("Invalid value.", row.get(65).isNull());
+        Assert.assertEquals("Invalid type.", Types.DATE, row.get(65).getType());
+    }
+
+    /**
+     * Test for values without primitive representation.
+     */
+    @Test
+    public void testObjects() {
+        final ParadoxField field = new ParadoxField();
+        final Row row = new Row(new ParadoxField[] { field });
+        final FieldValue value = new FieldValue("value", Types.VARCHAR);
+        row.setValue(0, value);
+
+        Assert.assertSame("Invalid value.", value, row.get(0));
+        Assert.assertSame("Invalid field.", field, row.get(0).getField());
+        Assert.assertFalse("Invalid null.", row.isNull(0));
+    }
+
+    /**
+     * Test for boxed values stored in primitive slots.
+     *
+     * @throws SQLDataException
+     *             in case of errors.
+     */
+    @Test
+    public void testUnbox() throws SQLDataException {
+        final Row row = new Row(new ParadoxField[2]);
+        row.setValue(0, new FieldValue(Integer.valueOf(5), Types.INTEGER));
+        row.setValue(1, FieldValue.ofMillis(1_000L, Types.DATE));
+
+        Assert.assertEquals("Invalid int.", 5, row.getInt(0));
+        Assert.assertEquals("Invalid date.", new Date(1_000L), row.get(1).getDate());
+    }
+
+    /**
+     * Test for the copy between rows.
+     *
+     * @throws SQLDataException
+     *             in case of errors.
+     */
+    @Test
+    public void testCopy() throws SQLDataException {
+        final Row source = new Row(new ParadoxField[3]);
+        source.setLong(0, 7, Types.BIGINT);
+        source.setNull(1, Types.DOUBLE);
+        source.setValue(2, new FieldValue("text", Types.VARCHAR));
+
+        final Row target = new Row(new ParadoxField[3]);
+        target.set(0, source, 2);
+        target.set(1, source, 0);
+        target.set(2, source, 1);
+        Assert.assertEquals("Invalid value.", "text", target.get(0).getValue());
+        Assert.assertEquals("Invalid long.", 7L, target.getLong(1));
+        Assert.assertTrue("Invalid null.", target.isNull(2));
+
+        final List<FieldValue> list = new ArrayList<>();
+        list.add(new FieldValue(Double.valueOf(1.5D), Types.DOUBLE));
+        target.set(0, list, 0);
+        Assert.assertEquals("Invalid double.", 1.5D, target.getDouble(0), 0D);
+    }
+
+    /**
+     * Test for invalid typed access.
+     *
+     * @throws SQLDataException
+     *             expected.
+     */
+    @Test(expected = SQLDataException.class)
+    public void testInvalidType() throws SQLDataException {
+        final Row row = new Row(new ParadoxField[1]);
+        row.setValue(0, new FieldValue("text", Types.VARCHAR));
+        row.getInt(0);
+    }
+}
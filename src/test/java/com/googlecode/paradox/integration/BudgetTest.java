@@ -0,0 +1,317 @@
+/*
+ * BudgetTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.integration;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.TableGenerator;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Allocation and latency budgets of the data path.
+ * <p>
+ * Each workload runs against a generated table and fails when the bytes allocated per row or the best wall time exceed
+ * the budget stored in <code>budgets.properties</code>. The allocated bytes are read from the HotSpot
+ * {@link com.sun.management.ThreadMXBean} for all threads, so the parallel decoding is also counted: the allocation
+ * budget is the bytes per row plus the bytes per processor of the decode pool. The allocation checks are skipped in
+ * virtual machines without this counter.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.0
+ */
+@Category(IntegrationTest.class)
+public class BudgetTest {
+
+    /**
+     * Amount of measured runs.
+     */
+    private static final int RUNS = 5;
+
+    /**
+     * Amount of rows in the generated table.
+     */
+    private static final int ROWS = 20_000;
+
+    /**
+     * Amount of warm up runs.
+     */
+    private static final int WARM_UP = 5;
+
+    /**
+     * The budgets by workload.
+     */
+    private static final Properties BUDGETS = new Properties();
+
+    /**
+     * The database connection.
+     */
+    private static ParadoxConnection conn;
+
+    /**
+     * The directory of the generated table.
+     */
+    private static File directory;
+
+    /**
+     * The generated table.
+     */
+    private static ParadoxTable table;
+
+    /**
+     * A measured workload.
+     */
+    private interface Workload {
+
+        /**
+         * Runs the workload once.
+         *
+         * @return the amount of rows processed.
+         * @throws SQLException
+         *             in case of failures.
+         */
+        int run() throws SQLException;
+    }
+
+    /**
+     * Generates the table and loads the budgets.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @BeforeClass
+    public static void setUp() throws Exception {
+        Class.forName(Driver.class.getName());
+        try (InputStream in = BudgetTest.class.getResourceAsStream("budgets.properties")) {
+            BudgetTest.BUDGETS.load(in);
+        }
+
+        BudgetTest.directory = Files.createTempDirectory("budget").toFile();
+        final TableGenerator generator = new TableGenerator(BudgetTest.directory, "budget");
+        generator.addField("ID", 0x16, 4);
+        generator.addField("NAME", 1, 20);
+        generator.addField("BIRTH", 2, 4);
+        generator.addField("AMOUNT", 4, 4);
+        generator.addField("PRICE", 6, 8);
+        generator.addField("ACTIVE", 9, 1);
+        generator.addField("TOTAL", 0x17, 2);
+        generator.setRows(BudgetTest.ROWS);
+        generator.generate();
+
+        BudgetTest.conn = (ParadoxConnection) DriverManager.getConnection("jdbc:paradox:"
+                + BudgetTest.directory.getPath());
+        BudgetTest.table = TableData.listTables(BudgetTest.conn, "budget.db").get(0);
+    }
+
+    /**
+     * Closes the connection and removes the generated table.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @AfterClass
+    public static void tearDown() throws Exception {
+        if (BudgetTest.conn != null) {
+            BudgetTest.conn.close();
+        }
+        if (BudgetTest.directory != null) {
+            for (final File file : BudgetTest.directory.listFiles()) {
+                Assert.assertTrue("File not deleted.", file.delete());
+            }
+            Assert.assertTrue("Directory not deleted.", BudgetTest.directory.delete());
+        }
+    }
+
+    /**
+     * Gets the allocation counter, if supported.
+     *
+     * @return the allocation counter or null if not supported.
+     */
+    private static com.sun.management.ThreadMXBean getAllocationCounter() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) bean;
+            if (counter.isThreadAllocatedMemorySupported()) {
+                counter.setThreadAllocatedMemoryEnabled(true);
+                return counter;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the bytes allocated by each live thread.
+     *
+     * @param counter
+     *            the allocation counter.
+     * @return the bytes allocated by thread ID.
+     */
+    private static Map<Long, Long> getAllocatedBytes(final com.sun.management.ThreadMXBean counter) {
+        final long[] ids = counter.getAllThreadIds();
+        final long[] bytes = counter.getThreadAllocatedBytes(ids);
+        final Map<Long, Long> allocated = new HashMap<>();
+        for (int loop = 0; loop < ids.length; loop++) {
+            if (bytes[loop] >= 0) {
+                allocated.put(ids[loop], bytes[loop]);
+            }
+        }
+        return allocated;
+    }
+
+    /**
+     * Gets a budget value.
+     *
+     * @param key
+     *            the budget key.
+     * @return the budget value.
+     */
+    private static long getBudget(final String key) {
+        final String value = BudgetTest.BUDGETS.getProperty(key);
+        Assert.assertNotNull("Budget not defined: " + key, value);
+        return Long.parseLong(value.trim());
+    }
+
+    /**
+     * Test for the table load budget.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testLoadData() throws Exception {
+        this.check("loadData", new Workload() {
+
+            @Override
+            public int run() throws SQLException {
+                return TableData.loadData(BudgetTest.table, BudgetTest.table.getFields()).size();
+            }
+        });
+    }
+
+    /**
+     * Test for the filtered select budget.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testFilter() throws Exception {
+        this.check("filter", new Workload() {
+
+            @Override
+            public int run() throws SQLException {
+                try (Statement stmt = BudgetTest.conn.createStatement();
+                        ResultSet rs = stmt.executeQuery("SELECT ID, PRICE FROM budget WHERE AMOUNT > 0")) {
+                    while (rs.next()) {
+                        rs.getInt(1);
+                    }
+                }
+                return BudgetTest.ROWS;
+            }
+        });
+    }
+
+    /**
+     * Test for the result set iteration budget.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testResultSet() throws Exception {
+        this.check("resultSet", new Workload() {
+
+            @Override
+            public int run() throws SQLException {
+                int rows = 0;
+                try (Statement stmt = BudgetTest.conn.createStatement();
+                        ResultSet rs = stmt.executeQuery("SELECT * FROM budget")) {
+                    while (rs.next()) {
+                        rs.getInt("ID");
+                        rs.getString("NAME");
+                        rs.getDate("BIRTH");
+                        rs.getInt("AMOUNT");
+                        rs.getDouble("PRICE");
+                        rs.getBoolean("ACTIVE");
+                        rs.getBigDecimal("TOTAL");
+                        rows++;
+                    }
+                }
+                return rows;
+            }
+        });
+    }
+
+    /**
+     * Runs a workload and checks its budgets.
+     *
+     * @param name
+     *            the workload name, the prefix of the budget keys.
+     * @param workload
+     *            the workload.
+     * @throws SQLException
+     *             in case of failures.
+     */
+    private void check(final String name, final Workload workload) throws SQLException {
+        for (int loop = 0; loop < BudgetTest.WARM_UP; loop++) {
+            Assert.assertEquals("Invalid row count.", BudgetTest.ROWS, workload.run());
+        }
+
+        long millis = Long.MAX_VALUE;
+        for (int loop = 0; loop < BudgetTest.RUNS; loop++) {
+            final long start = System.nanoTime();
+            workload.run();
+            millis = Math.min(millis, (System.nanoTime() - start) / 1_000_000L);
+        }
+        final long millisBudget = BudgetTest.getBudget(name + ".millis");
+        Assert.assertTrue(name + " took " + millis + " ms, budget is " + millisBudget + " ms.",
+                millis <= millisBudget);
+
+        final com.sun.management.ThreadMXBean counter = BudgetTest.getAllocationCounter();
+        Assume.assumeNotNull(counter);
+        long bytes = Long.MAX_VALUE;
+        for (int loop = 0; loop < BudgetTest.RUNS; loop++) {
+            final Map<Long, Long> before = BudgetTest.getAllocatedBytes(counter);
+            workload.run();
+            long total = 0;
+            for (final Map.Entry<Long, Long> entry : BudgetTest.getAllocatedBytes(counter).entrySet()) {
+                final Long previous = before.get(entry.getKey());
+                total += entry.getValue() - (previous == null ? 0 : previous.longValue());
+            }
+            bytes = Math.min(bytes, total);
+        }
+        final long bytesPerRow = bytes / BudgetTest.ROWS;
+        // Each decode thread reads its own block range, so the budget grows with the decode pool.
+        final long bytesBudget = BudgetTest.getBudget(name + ".bytesPerRow")
+                + ((BudgetTest.getBudget(name + ".bytesPerThread") * Runtime.getRuntime().availableProcessors())
+                        / BudgetTest.ROWS);
+        Assert.assertTrue(name + " allocated " + bytesPerRow + " bytes per row, budget is " + bytesBudget + ".",
+                bytesPerRow <= bytesBudget);
+    }
+}
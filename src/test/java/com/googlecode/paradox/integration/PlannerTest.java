@@ -6,7 +6,9 @@ import com.googlecode.paradox.parser.SQLParser;
 import com.googlecode.paradox.planner.Planner;
 import com.googlecode.paradox.planner.plan.SelectPlan;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -18,7 +20,7 @@ import org.junit.experimental.categories.Category;
  * Integration test for SQL planning.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 @Category(IntegrationTest.class)
@@ -99,4 +101,60 @@ public class PlannerTest {
         Assert.assertEquals("Second column not 'State'.", "STATE", plan.getColumns().get(1).getName());
         Assert.assertEquals("Third column not 'Cities'.", "CITIES", plan.getColumns().get(2).getName());
     }
+    
+    /**
+     * Test for an EXPLAIN plan.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testExplain() throws Exception {
+        try (Statement stmt = this.conn.createStatement();
+                ResultSet rs = stmt.executeQuery("EXPLAIN SELECT AC FROM areacodes WHERE State = 'NY'")) {
+            Assert.assertTrue("No project.", rs.next());
+            Assert.assertEquals("Invalid operator.", "PROJECT", rs.getString("OPERATOR"));
+            Assert.assertEquals("Invalid detail.", "AC", rs.getString("DETAIL"));
+            Assert.assertNull("Invalid parent.", rs.getObject("PARENT"));
+            Assert.assertTrue("No filter.", rs.next());
+            Assert.assertEquals("Invalid operator.", "FILTER", rs.getString("OPERATOR"));
+            Assert.assertEquals("Invalid parent.", 1, rs.getInt("PARENT"));
+            Assert.assertTrue("No scan.", rs.next());
+            Assert.assertEquals("Invalid operator.", "TABLE SCAN", rs.getString("OPERATOR"));
+            Assert.assertEquals("Invalid parent.", 2, rs.getInt("PARENT"));
+            Assert.assertTrue("Invalid estimated rows.", rs.getInt("ESTIMATED_ROWS") > 0);
+            Assert.assertNull("Not analyzed.", rs.getObject("ROWS"));
+            Assert.assertFalse("Too many operators.", rs.next());
+        }
+    }
+    
+    /**
+     * Test for an EXPLAIN ANALYZE plan.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testExplainAnalyze() throws Exception {
+        int expected = 0;
+        try (Statement stmt = this.conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT AC FROM areacodes WHERE State = 'NY'")) {
+            while (rs.next()) {
+                expected++;
+            }
+        }
+        
+        try (Statement stmt = this.conn.createStatement();
+                ResultSet rs = stmt.executeQuery("EXPLAIN ANALYZE SELECT AC FROM areacodes WHERE State = 'NY'")) {
+            Assert.assertTrue("No project.", rs.next());
+            Assert.assertEquals("Invalid result rows.", expected, rs.getInt("ROWS"));
+            Assert.assertTrue("Invalid blocks.", rs.getInt("BLOCKS") > 0);
+            Assert.assertTrue("Invalid time.", rs.getDouble("TIME_MS") >= 0D);
+            Assert.assertTrue("No filter.", rs.next());
+            Assert.assertEquals("Invalid filter rows.", expected, rs.getInt("ROWS"));
+            Assert.assertTrue("No scan.", rs.next());
+            Assert.assertEquals("Invalid scan rows.", rs.getInt("ESTIMATED_ROWS"), rs.getInt("ROWS"));
+            Assert.assertTrue("Invalid memory.", rs.getInt("MEMORY_KB") > 0);
+        }
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * BlockCacheTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.io;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BlockCache} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public class BlockCacheTest {
+
+    /**
+     * The file used in tests.
+     */
+    private static final File FILE = new File("target/test-classes/db/areacodes.DB");
+
+    /**
+     * Test for LRU eviction.
+     */
+    @Test
+    public void testEviction() {
+        final BlockCache cache = new BlockCache(300);
+        final BlockCache.Generation generation = new BlockCache.Generation(BlockCacheTest.FILE);
+        cache.put(generation, 1, new byte[100]);
+        cache.put(generation, 2, new byte[100]);
+        cache.put(generation, 3, new byte[100]);
+        Assert.assertNotNull("Block not in cache.", cache.get(generation, 1));
+
+        cache.put(generation, 4, new byte[100]);
+        Assert.assertEquals("Invalid cache size.", 300, cache.getBytes());
+        Assert.assertNull("Least used block not evicted.", cache.get(generation, 2));
+        Assert.assertNotNull("Recent block evicted.", cache.get(generation, 1));
+    }
+
+    /**
+     * Test for cacheable files.
+     */
+    @Test
+    public void testCacheable() {
+        final BlockCache cache = new BlockCache(4096);
+        Assert.assertTrue("Small file not cacheable.", cache.isCacheable(1024));
+        Assert.assertFalse("Big file cacheable.", cache.isCacheable(1025));
+    }
+
+    /**
+     * Test for file changes.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testGeneration() throws IOException {
+        final BlockCache cache = new BlockCache(BlockCache.DEFAULT_MAX_BYTES);
+        final File file = File.createTempFile("paradox", ".DB");
+        try {
+            final BlockCache.Generation first = new BlockCache.Generation(file);
+            cache.put(first, 1, new byte[10]);
+            Assert.assertNotNull("Block not in cache.", cache.get(first, 1));
+
+            try (FileOutputStream out = new FileOutputStream(file)) {
+                out.write(new byte[10]);
+            }
+            final BlockCache.Generation second = new BlockCache.Generation(file);
+            Assert.assertNull("Changed file in cache.", cache.get(second, 1));
+            Assert.assertEquals("Old blocks not removed.", 0, cache.getBytes());
+        } finally {
+            Assert.assertTrue("Temporary file not removed.", file.delete());
+        }
+    }
+
+    /**
+     * Test for block reading.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testReader() throws IOException {
+        final BlockCache.Generation generation = new BlockCache.Generation(BlockCacheTest.FILE);
+        try (BlockReader reader = new BlockReader(BlockCacheTest.FILE, 0x800, 0x4000)) {
+            Assert.assertEquals("Invalid block size.", 0x4000, reader.read(1).remaining());
+        }
+        Assert.assertNotNull("Block not in cache.", BlockCache.getInstance().get(generation, 1));
+    }
+}
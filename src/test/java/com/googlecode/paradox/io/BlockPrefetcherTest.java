@@ -0,0 +1,124 @@
+/*
+ * BlockPrefetcherTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you
+ * can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any later version. This program is
+ * distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should
+ * have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BlockPrefetcher} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.0
+ */
+public class BlockPrefetcherTest {
+
+    /**
+     * Amount of blocks in test file.
+     */
+    private static final int BLOCKS = 8;
+
+    /**
+     * The block size of test file.
+     */
+    private static final int BLOCK_SIZE = 0x4000;
+
+    /**
+     * The file used in tests.
+     */
+    private static final File FILE = new File("target/test-classes/geog/County.DB");
+
+    /**
+     * The header size of test file.
+     */
+    private static final int HEADER_SIZE = 0x800;
+
+    /**
+     * Test for reading ahead with reused buffers.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testRing() throws IOException {
+        this.assertChain(new BlockCache(0), 2);
+    }
+
+    /**
+     * Test for reading ahead cached blocks.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testCached() throws IOException {
+        this.assertChain(new BlockCache(BlockCache.DEFAULT_MAX_BYTES), 4);
+    }
+
+    /**
+     * Test for stopping before the end of chain.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testClose() throws IOException {
+        try (BlockPrefetcher prefetcher = new BlockPrefetcher(new BlockReader(BlockPrefetcherTest.FILE,
+                BlockPrefetcherTest.HEADER_SIZE, BlockPrefetcherTest.BLOCK_SIZE, new BlockCache(0)), 1, 1)) {
+            Assert.assertNotNull("First block not read.", prefetcher.next());
+        }
+    }
+
+    /**
+     * Test for a chain out of file bounds, that must fail instead of ending the chain.
+     *
+     * @throws IOException
+     *             expected.
+     */
+    @Test(expected = IOException.class)
+    public void testOutOfBounds() throws IOException {
+        try (BlockPrefetcher prefetcher = new BlockPrefetcher(new BlockReader(BlockPrefetcherTest.FILE,
+                BlockPrefetcherTest.HEADER_SIZE, BlockPrefetcherTest.BLOCK_SIZE, new BlockCache(0)),
+                BlockPrefetcherTest.BLOCKS + 100, 1)) {
+            prefetcher.next();
+        }
+    }
+
+    /**
+     * Reads the chain and compare with the blocks read directly.
+     *
+     * @param cache
+     *            the block cache.
+     * @param depth
+     *            the blocks to read ahead.
+     * @throws IOException
+     *             in case of failures.
+     */
+    private void assertChain(final BlockCache cache, final int depth) throws IOException {
+        try (BlockReader direct = new BlockReader(BlockPrefetcherTest.FILE, BlockPrefetcherTest.HEADER_SIZE,
+                BlockPrefetcherTest.BLOCK_SIZE, new BlockCache(0));
+                BlockPrefetcher prefetcher = new BlockPrefetcher(new BlockReader(BlockPrefetcherTest.FILE,
+                        BlockPrefetcherTest.HEADER_SIZE, BlockPrefetcherTest.BLOCK_SIZE, cache), 1, depth)) {
+            int count = 0;
+            ByteBuffer block = prefetcher.next();
+            while (block != null) {
+                count++;
+                Assert.assertEquals("Invalid block data.", direct.read(count, 1), block);
+                block = prefetcher.next();
+            }
+            Assert.assertEquals("Invalid block count.", BlockPrefetcherTest.BLOCKS, count);
+            Assert.assertNull("Read after end of chain.", prefetcher.next());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * BlockReaderTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BlockReader} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.3
+ * @since 1.4.0
+ */
+public class BlockReaderTest {
+
+    /**
+     * Amount of blocks in test file.
+     */
+    private static final int BLOCKS = 8;
+
+    /**
+     * The block size of test file.
+     */
+    private static final int BLOCK_SIZE = 0x4000;
+
+    /**
+     * The file used in tests, with all blocks in sequence.
+     */
+    private static final File FILE = new File("target/test-classes/geog/County.DB");
+
+    /**
+     * The header size of test file.
+     */
+    private static final int HEADER_SIZE = 0x800;
+
+    /**
+     * Test for run reads in not cached files.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testRunWithoutCache() throws IOException {
+        try (BlockReader reader = new BlockReader(BlockReaderTest.FILE, BlockReaderTest.HEADER_SIZE,
+                BlockReaderTest.BLOCK_SIZE, new BlockCache(0));
+                BlockReader single = new BlockReader(BlockReaderTest.FILE, BlockReaderTest.HEADER_SIZE,
+                        BlockReaderTest.BLOCK_SIZE, new BlockCache(0))) {
+            for (int block = 1; block <= BlockReaderTest.BLOCKS; block++) {
+                final ByteBuffer data = reader.read(block);
+                Assert.assertEquals("Invalid block size.", BlockReaderTest.BLOCK_SIZE, data.remaining());
+                Assert.assertEquals("Invalid block data.", single.read(block, 1), data);
+            }
+            Assert.assertEquals("Invalid single read count.", BlockReaderTest.BLOCKS, single.getReads());
+            Assert.assertTrue("Blocks not read in runs.", reader.getReads() < (BlockReaderTest.BLOCKS / 2));
+        }
+    }
+
+    /**
+     * Test for a larger run after a small one in not cached files.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testWindowGrowth() throws IOException {
+        try (BlockReader reader = new BlockReader(BlockReaderTest.FILE, BlockReaderTest.HEADER_SIZE,
+                BlockReaderTest.BLOCK_SIZE, new BlockCache(0));
+                BlockReader single = new BlockReader(BlockReaderTest.FILE, BlockReaderTest.HEADER_SIZE,
+                        BlockReaderTest.BLOCK_SIZE, new BlockCache(0))) {
+            Assert.assertEquals("Invalid block data.", single.read(1, 1), reader.read(1, 1));
+            reader.read(2, BlockReaderTest.BLOCKS);
+            for (int block = 2; block <= BlockReaderTest.BLOCKS; block++) {
+                Assert.assertEquals("Invalid block data.", single.read(block, 1), reader.read(block));
+            }
+            Assert.assertEquals("Blocks not read in a single run.", 2, reader.getReads());
+        }
+    }
+
+    /**
+     * Test for the chain headers read in runs in not cached files.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testChainWithoutCache() throws IOException {
+        try (BlockReader reader = new BlockReader(BlockReaderTest.FILE, BlockReaderTest.HEADER_SIZE,
+                BlockReaderTest.BLOCK_SIZE, new BlockCache(0))) {
+            int count = 0;
+            int nextBlock = 1;
+            do {
+                count++;
+                nextBlock = reader.getNextBlock(nextBlock);
+            } while (nextBlock != 0);
+            Assert.assertEquals("Invalid block count.", BlockReaderTest.BLOCKS, count);
+            Assert.assertTrue("Headers not read in runs.", reader.getReads() < (BlockReaderTest.BLOCKS / 2));
+        }
+    }
+
+    /**
+     * Test for run reads in cached files.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testRunWithCache() throws IOException {
+        final BlockCache cache = new BlockCache(BlockCache.DEFAULT_MAX_BYTES);
+        try (BlockReader reader = new BlockReader(BlockReaderTest.FILE, BlockReaderTest.HEADER_SIZE,
+                BlockReaderTest.BLOCK_SIZE, cache)) {
+            Assert.assertEquals("Invalid block size.", BlockReaderTest.BLOCK_SIZE,
+                    reader.read(1, BlockReaderTest.BLOCKS).remaining());
+            Assert.assertEquals("Blocks not read in a single run.", 1, reader.getReads());
+            Assert.assertEquals("Run not in cache.", BlockReaderTest.BLOCKS, cache.size());
+        }
+        try (BlockReader reader = new BlockReader(BlockReaderTest.FILE, BlockReaderTest.HEADER_SIZE,
+                BlockReaderTest.BLOCK_SIZE, cache)) {
+            for (int block = 1; block <= BlockReaderTest.BLOCKS; block++) {
+                reader.read(block);
+            }
+            Assert.assertEquals("Cached blocks read again.", 0, reader.getReads());
+        }
+    }
+
+    /**
+     * Test for the block chain.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testNextBlock() throws IOException {
+        try (BlockReader reader = new BlockReader(BlockReaderTest.FILE, BlockReaderTest.HEADER_SIZE,
+                BlockReaderTest.BLOCK_SIZE, new BlockCache(0))) {
+            Assert.assertEquals("Invalid next block.", 2, reader.getNextBlock(1));
+            Assert.assertEquals("Invalid last block.", 0, reader.getNextBlock(BlockReaderTest.BLOCKS));
+        }
+    }
+
+    /**
+     * Test for block numbers and file positions out of the signed short and int ranges, using a sparse file.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testLargeFile() throws IOException {
+        final int blockSize = 0x8000;
+        final int first = 40_000;
+        final int last = 0xFFFF;
+        final File file = File.createTempFile("large", ".db");
+        try {
+            try (RandomAccessFile out = new RandomAccessFile(file, "rw")) {
+                out.setLength(BlockReaderTest.HEADER_SIZE + ((long) last * blockSize));
+                final ByteBuffer header = ByteBuffer.allocate(2).order(ByteOrder.LITTLE_ENDIAN);
+                header.putShort(0, (short) last);
+                out.getChannel().write(header, BlockReaderTest.HEADER_SIZE + ((first - 1L) * blockSize));
+                header.putShort(0, (short) 0);
+                header.rewind();
+                out.getChannel().write(header, BlockReaderTest.HEADER_SIZE + ((last - 1L) * blockSize));
+                header.putShort(0, (short) 0x7F7F);
+                header.rewind();
+                out.getChannel().write(header, (BlockReaderTest.HEADER_SIZE + ((long) last * blockSize)) - 2);
+            }
+            try (BlockReader reader = new BlockReader(file, BlockReaderTest.HEADER_SIZE, blockSize,
+                    new BlockCache(0))) {
+                Assert.assertEquals("Invalid next block.", last, reader.getNextBlock(first));
+                Assert.assertEquals("Invalid last block.", 0, reader.getNextBlock(last));
+                final ByteBuffer data = reader.read(last);
+                Assert.assertEquals("Invalid block size.", blockSize, data.remaining());
+                Assert.assertEquals("Invalid block data.", 0x7F7F, data.getShort(blockSize - 2));
+            }
+        } finally {
+            Assert.assertTrue("File not deleted.", file.delete());
+        }
+    }
+}
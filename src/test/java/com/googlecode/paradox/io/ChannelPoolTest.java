@@ -0,0 +1,130 @@
+/*
+ * ChannelPoolTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ChannelPool} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.0
+ */
+public class ChannelPoolTest {
+
+    /**
+     * The file used in tests.
+     */
+    private static final File FILE = new File("target/test-classes/db/areacodes.DB");
+
+    /**
+     * Test for channel sharing.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testShared() throws IOException {
+        final ChannelPool pool = new ChannelPool(ChannelPool.DEFAULT_IDLE_TIMEOUT, ChannelPool.DEFAULT_MAX_IDLE);
+        try (PooledChannel first = pool.acquire(ChannelPoolTest.FILE);
+                PooledChannel second = pool.acquire(ChannelPoolTest.FILE)) {
+            Assert.assertEquals("Invalid channel count.", 1, pool.size());
+            Assert.assertEquals("Invalid file size.", ChannelPoolTest.FILE.length(), second.size());
+        }
+        Assert.assertEquals("Idle channel closed.", 1, pool.size());
+        pool.closeIdle();
+        Assert.assertEquals("Idle channel not closed.", 0, pool.size());
+    }
+
+    /**
+     * Test for channel in use.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testInUse() throws IOException {
+        final ChannelPool pool = new ChannelPool(ChannelPool.DEFAULT_IDLE_TIMEOUT, ChannelPool.DEFAULT_MAX_IDLE);
+        try (PooledChannel channel = pool.acquire(ChannelPoolTest.FILE)) {
+            pool.closeIdle(ChannelPoolTest.FILE.getParentFile());
+            Assert.assertEquals("Channel in use closed.", 1, pool.size());
+            Assert.assertEquals("Invalid file.", ChannelPoolTest.FILE.getAbsoluteFile(), channel.getFile());
+        }
+        pool.closeIdle(ChannelPoolTest.FILE.getParentFile());
+        Assert.assertEquals("Idle channel not closed.", 0, pool.size());
+    }
+
+    /**
+     * Test for idle timeout.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testIdleTimeout() throws IOException {
+        final ChannelPool pool = new ChannelPool(0, ChannelPool.DEFAULT_MAX_IDLE);
+        pool.acquire(ChannelPoolTest.FILE).close();
+        Assert.assertEquals("Idle channel not evicted.", 0, pool.size());
+    }
+
+    /**
+     * Test for positional reads.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testPositionalRead() throws IOException {
+        final ChannelPool pool = new ChannelPool(ChannelPool.DEFAULT_IDLE_TIMEOUT, ChannelPool.DEFAULT_MAX_IDLE);
+        try (PooledChannel channel = pool.acquire(ChannelPoolTest.FILE)) {
+            final ByteBuffer first = ByteBuffer.allocate(16);
+            final ByteBuffer second = ByteBuffer.allocate(8);
+            Assert.assertEquals("Invalid read size.", 16, channel.read(first, 0));
+            Assert.assertEquals("Invalid read size.", 8, channel.read(second, 8));
+            for (int loop = 0; loop < 8; loop++) {
+                Assert.assertEquals("Invalid data.", first.get(loop + 8), second.get(loop));
+            }
+            Assert.assertEquals("Invalid end of file.", -1, channel.read(ByteBuffer.allocate(1), channel.size()));
+        } finally {
+            pool.closeIdle();
+        }
+    }
+
+    /**
+     * Test for a channel closed by an interrupt.
+     *
+     * @throws IOException
+     *             in case of failures.
+     */
+    @Test
+    public void testClosedByInterrupt() throws IOException {
+        final ChannelPool pool = new ChannelPool(ChannelPool.DEFAULT_IDLE_TIMEOUT, ChannelPool.DEFAULT_MAX_IDLE);
+        try (PooledChannel channel = pool.acquire(ChannelPoolTest.FILE)) {
+            Thread.currentThread().interrupt();
+            try {
+                channel.read(ByteBuffer.allocate(16), 0);
+                Assert.fail("Channel not interrupted.");
+            } catch (final ClosedByInterruptException e) {
+                Assert.assertTrue("Thread not interrupted.", Thread.interrupted());
+            }
+            try (PooledChannel reopened = pool.acquire(ChannelPoolTest.FILE)) {
+                Assert.assertEquals("Invalid read size.", 16, reopened.read(ByteBuffer.allocate(16), 0));
+                Assert.assertEquals("Invalid channel count.", 1, pool.size());
+            }
+        } finally {
+            pool.closeIdle();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * DriverEventsTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.management;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.integration.MainTest;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DriverEvents} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public class DriverEventsTest {
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void setUp() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Removes the test listener.
+     */
+    @After
+    public void removeListener() {
+        DriverEvents.setListener(null);
+    }
+
+    /**
+     * Test for the events without listener.
+     */
+    @Test
+    public void testNoListener() {
+        DriverEvents.setListener(null);
+        Assert.assertNull("Invalid listener.", DriverEvents.getListener());
+        Assert.assertNull("Invalid event.", DriverEvents.beginScan("table"));
+        DriverEvents.endScan(null, 1, 1);
+    }
+
+    /**
+     * Test for the events of a query.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testQuery() throws Exception {
+        final RecordingListener listener = new RecordingListener();
+        DriverEvents.setListener(listener);
+
+        try (Connection conn = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+                Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT COMMENTS FROM CUSTOMER")) {
+            while (rs.next()) {
+                rs.getString(1);
+            }
+        }
+
+        Assert.assertEquals("Invalid event.", "begin PARSE SELECT COMMENTS FROM CUSTOMER", listener.events.get(0));
+        Assert.assertTrue("Invalid event.", listener.events.contains("begin PLAN SELECT COMMENTS FROM CUSTOMER"));
+        Assert.assertTrue("Invalid event.", listener.events.contains("begin EXECUTE SELECT COMMENTS FROM CUSTOMER"));
+        Assert.assertTrue("Invalid event.", listener.events.contains("scan CUSTOMER 4 20"));
+        Assert.assertTrue("Invalid event.", listener.events.contains("blob CUSTOMER"));
+        Assert.assertEquals("Invalid phase ends.", 3, Collections.frequency(listener.events, "end phase"));
+    }
+
+    /**
+     * A listener recording the events.
+     *
+     * @author Leonardo Alves da Costa
+     * @version 1.0
+     * @since 1.4.0
+     */
+    private static final class RecordingListener implements DriverEventListener {
+
+        /**
+         * The events received.
+         */
+        private final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public Object beginBlobRead(final String file, final long offset) {
+            return "blob " + file;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public Object beginPhase(final QueryPhase phase, final String sql) {
+            this.events.add("begin " + phase + " " + sql);
+            return phase;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public Object beginScan(final String table) {
+            return table;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void endBlobRead(final Object event, final int bytes, final boolean cached) {
+            if (bytes > 0) {
+                this.events.add((String) event);
+            }
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void endPhase(final Object event) {
+            if (event instanceof QueryPhase) {
+                this.events.add("end phase");
+            }
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void endScan(final Object event, final long blocks, final long rows) {
+            this.events.add("scan " + event + " " + blocks + " " + rows);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * LatencyHistogramTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.management;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LatencyHistogram} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public class LatencyHistogramTest {
+
+    /**
+     * Test for the bucket bounds.
+     */
+    @Test
+    public void testBuckets() {
+        Assert.assertEquals("Invalid bucket.", 0, LatencyHistogram.bucketOf(999L));
+        Assert.assertEquals("Invalid bucket.", 1, LatencyHistogram.bucketOf(1_000L));
+        Assert.assertEquals("Invalid bucket.", 2, LatencyHistogram.bucketOf(3_999L));
+        Assert.assertEquals("Invalid bucket.", 11, LatencyHistogram.bucketOf(1_500_000L));
+        Assert.assertEquals("Invalid bucket.", LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    /**
+     * Test for the percentiles.
+     */
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int loop = 0; loop < 98; loop++) {
+            histogram.record(10_000L);
+        }
+        histogram.record(1_000_000L);
+        histogram.record(5_000_000L);
+
+        final LatencyStats stats = histogram.snapshot();
+        Assert.assertEquals("Invalid count.", 100, stats.getCount());
+        Assert.assertEquals("Invalid max.", 5_000_000L, stats.getMaxNanos());
+        Assert.assertEquals("Invalid mean.", 69L, stats.getMeanMicros());
+        Assert.assertEquals("Invalid median.", 16L, stats.getP50Micros());
+        Assert.assertEquals("Invalid 90th percentile.", 16L, stats.getP90Micros());
+        Assert.assertEquals("Invalid 99th percentile.", 1_024L, stats.getP99Micros());
+        Assert.assertEquals("Invalid max percentile.", 5_000L, stats.getPercentileMicros(1D));
+    }
+
+    /**
+     * Test for the reset.
+     */
+    @Test
+    public void testReset() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000L);
+        histogram.reset();
+
+        final LatencyStats stats = histogram.snapshot();
+        Assert.assertEquals("Invalid count.", 0, stats.getCount());
+        Assert.assertEquals("Invalid max.", 0, stats.getMaxNanos());
+        Assert.assertEquals("Invalid median.", 0, stats.getP50Micros());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * ParadoxMetricsTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.management;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.integration.MainTest;
+import java.lang.management.ManagementFactory;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Set;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ParadoxMetrics} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public class ParadoxMetricsTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void setUp() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to the test database.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Test for the addition to the parent metrics.
+     */
+    @Test
+    public void testParent() {
+        final ParadoxMetrics parent = new ParadoxMetrics(null);
+        final ParadoxMetrics child = new ParadoxMetrics(parent);
+        child.addReads("a.db", 3, 6144, 1, 2);
+        child.addReads("b.db", 1, 0, 1, 0);
+        child.addQuery(10, 20, 5);
+        child.addBlobRead(100, true);
+
+        Assert.assertEquals("Invalid blocks.", 4, parent.getBlocksRead());
+        Assert.assertEquals("Invalid bytes.", 6144, parent.getBytesRead());
+        Assert.assertEquals("Invalid table blocks.", Long.valueOf(3), parent.getBlocksReadByTable().get("a.db"));
+        Assert.assertEquals("Invalid hit rate.", 0.5D, parent.getBlockCacheHitRate(), 0D);
+        Assert.assertEquals("Invalid queries.", 1, parent.getQueriesExecuted());
+        Assert.assertEquals("Invalid rows.", 5, parent.getRowsReturned());
+        Assert.assertEquals("Invalid BLOB hits.", 1, parent.getBlobCacheHits());
+
+        child.reset();
+        Assert.assertEquals("Invalid reset.", 0, child.getBlocksRead());
+        Assert.assertEquals("Invalid parent.", 4, parent.getBlocksRead());
+    }
+
+    /**
+     * Test for the connection metrics of a query.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testQuery() throws Exception {
+        final ParadoxMetrics metrics = this.conn.getMetrics();
+        int rows = 0;
+        try (Statement stmt = this.conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT AC FROM areacodes WHERE State = 'NY'")) {
+            while (rs.next()) {
+                rows++;
+            }
+        }
+
+        Assert.assertEquals("Invalid queries.", 1, metrics.getQueriesExecuted());
+        Assert.assertEquals("Invalid rows returned.", rows, metrics.getRowsReturned());
+        Assert.assertTrue("Invalid rows decoded.", metrics.getRowsDecoded() > rows);
+        Assert.assertTrue("Invalid blocks.", metrics.getBlocksReadByTable().get("areacodes.DB").longValue() > 0);
+        Assert.assertEquals("Invalid parse count.", 1, metrics.getParseLatency().getCount());
+        Assert.assertEquals("Invalid plan count.", 1, metrics.getPlanLatency().getCount());
+        Assert.assertEquals("Invalid execute count.", 1, metrics.getExecuteLatency().getCount());
+        Assert.assertTrue("Invalid driver queries.", ParadoxMetrics.getDriverMetrics().getQueriesExecuted() > 0);
+    }
+
+    /**
+     * Test for the MBean registration.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testRegistration() throws Exception {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        Assert.assertTrue("Driver not registered.",
+                server.isRegistered(new ObjectName(ParadoxMetrics.DOMAIN + ":type=Driver")));
+
+        final ObjectName pattern = new ObjectName(ParadoxMetrics.DOMAIN + ":type=Connection,catalog=\"db\",*");
+        final Set<ObjectName> before = server.queryNames(pattern, null);
+        final ParadoxConnection other = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING
+                + "db");
+        final Set<ObjectName> names = server.queryNames(pattern, null);
+        names.removeAll(before);
+        Assert.assertEquals("Connection not registered.", 1, names.size());
+        final ObjectName current = names.iterator().next();
+
+        try (Statement stmt = other.createStatement()) {
+            stmt.executeQuery("SELECT * FROM areacodes").close();
+        }
+        Assert.assertEquals("Invalid queries.", Long.valueOf(1), server.getAttribute(current, "QueriesExecuted"));
+        final CompositeData latency = (CompositeData) server.getAttribute(current, "ExecuteLatency");
+        Assert.assertEquals("Invalid latency.", Long.valueOf(1), latency.get("count"));
+        final TabularData tables = (TabularData) server.getAttribute(current, "BlocksReadByTable");
+        Assert.assertEquals("Invalid tables.", 1, tables.size());
+
+        other.close();
+        Assert.assertFalse("Connection not unregistered.", server.isRegistered(current));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * QueryStatisticsTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.management;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.utils.Constants;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Properties;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link QueryStatistics} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4.0
+ */
+public class QueryStatisticsTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException
+     *             in case of connection errors.
+     */
+    @BeforeClass
+    public static void setUp() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception
+     *             in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to the test database, with a memory limit to account the memory used.
+     *
+     * @throws Exception
+     *             in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        final Properties info = new Properties();
+        info.setProperty(Constants.PROPERTY_MAX_QUERY_MEMORY, "1048576");
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+    }
+
+    /**
+     * Test for the statistics of a statement.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testStatement() throws Exception {
+        try (Statement stmt = this.conn.createStatement()) {
+            Assert.assertTrue("Not a wrapper.", stmt.isWrapperFor(StatementStatistics.class));
+            final StatementStatistics statement = stmt.unwrap(StatementStatistics.class);
+            Assert.assertNull("Not executed.", statement.getStatistics());
+
+            int rows = 0;
+            try (ResultSet rs = stmt.executeQuery("SELECT AC FROM areacodes WHERE State = 'NY'")) {
+                while (rs.next()) {
+                    rows++;
+                }
+            }
+            final QueryStatistics statistics = statement.getStatistics();
+            Assert.assertNotNull("No statistics.", statistics);
+            Assert.assertEquals("Invalid rows returned.", rows, statistics.getRowsReturned());
+            Assert.assertTrue("Invalid rows scanned.", statistics.getRowsScanned() >= rows);
+            Assert.assertTrue("No blocks read.", statistics.getBlocksRead() > 0);
+            Assert.assertTrue("No memory used.", statistics.getMemoryUsed() > 0);
+            Assert.assertEquals("Invalid cache reads.", statistics.getBlocksRead(), statistics.getBlockCacheHits()
+                    + statistics.getBlockCacheMisses());
+            Assert.assertTrue("No parse time.", statistics.getParseNanos() > 0);
+            Assert.assertTrue("No execution time.", statistics.getExecuteNanos() > 0);
+            Assert.assertEquals("Invalid total.", statistics.getParseNanos() + statistics.getPlanNanos()
+                    + statistics.getExecuteNanos(), statistics.getTotalNanos());
+
+            stmt.executeQuery("SELECT AC FROM areacodes").close();
+            Assert.assertNotSame("Statistics not renewed.", statistics, statement.getStatistics());
+            Assert.assertEquals("Only the last execution.", statement.getStatistics().getRowsScanned(), statement
+                    .getStatistics().getRowsReturned());
+        }
+    }
+}
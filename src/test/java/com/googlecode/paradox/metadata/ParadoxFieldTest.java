@@ -198,9 +198,10 @@ public class ParadoxFieldTest {
         field.setSize(20);
         Assert.assertEquals("Field size invalid.", 10, field.getSize());
         
+        // Bytes are stored in the row, without BLOB leader.
         field.setType((byte) 0x18);
         field.setSize(20);
-        Assert.assertEquals("Field size invalid.", 10, field.getSize());
+        Assert.assertEquals("Field size invalid.", 20, field.getSize());
         
         // Not changed by type
         field.setType((byte) 0xF);
@@ -8,6 +8,7 @@
  */
 package com.googlecode.paradox.parser;
 
+import com.googlecode.paradox.parser.nodes.ExplainNode;
 import com.googlecode.paradox.parser.nodes.FieldNode;
 import com.googlecode.paradox.parser.nodes.SQLNode;
 import com.googlecode.paradox.parser.nodes.SelectNode;
@@ -17,6 +18,7 @@ import com.googlecode.paradox.parser.nodes.comparisons.NotEqualsNode;
 import com.googlecode.paradox.parser.nodes.conditional.ANDNode;
 import com.googlecode.paradox.parser.nodes.values.CharacterNode;
 import com.googlecode.paradox.parser.nodes.values.NumericNode;
+import java.sql.SQLException;
 import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
@@ -26,7 +28,7 @@ import org.junit.Test;
  *
  * @author Leonardo Alves da Costa
  * @since 1.0
- * @version 1.1
+ * @version 1.2
  */
 public class SQLParserTest {
     
@@ -246,4 +248,32 @@ public class SQLParserTest {
         Assert.assertEquals("c", ((EqualsNode) select.getConditions().get(0)).getLast().getTableName());
         Assert.assertEquals("b", ((EqualsNode) select.getConditions().get(0)).getLast().getName());
     }
+    
+    /**
+     * Test for EXPLAIN statements.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testExplain() throws Exception {
+        List<StatementNode> list = new SQLParser("EXPLAIN SELECT a FROM client").parse();
+        Assert.assertTrue(list.get(0) instanceof ExplainNode);
+        Assert.assertFalse(((ExplainNode) list.get(0)).isAnalyze());
+        Assert.assertEquals("client", ((ExplainNode) list.get(0)).getSelect().getTables().get(0).getName());
+        
+        list = new SQLParser("EXPLAIN ANALYZE SELECT a FROM client").parse();
+        Assert.assertTrue(((ExplainNode) list.get(0)).isAnalyze());
+    }
+    
+    /**
+     * Test for EXPLAIN of a statement that is not a SELECT.
+     *
+     * @throws Exception
+     *             expected.
+     */
+    @Test(expected = SQLException.class)
+    public void testExplainNotSelect() throws Exception {
+        new SQLParser("EXPLAIN ANALYZE client").parse();
+    }
 }
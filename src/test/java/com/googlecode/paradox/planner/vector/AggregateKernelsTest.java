@@ -0,0 +1,122 @@
+/*
+ * AggregateKernelsTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.vector;
+
+import com.googlecode.paradox.data.table.value.ColumnVector;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLDataException;
+import java.sql.Types;
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link AggregateKernels} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public class AggregateKernelsTest {
+
+    /**
+     * Test for count.
+     */
+    @Test
+    public void testCount() {
+        final long[] validity = new long[2];
+        Arrays.fill(validity, -1L);
+        Assert.assertEquals("Invalid count.", 70L, AggregateKernels.count(validity, 70));
+        Assert.assertEquals("Invalid count.", 64L, AggregateKernels.count(validity, 64));
+        validity[1] = 0L;
+        Assert.assertEquals("Invalid count.", 64L, AggregateKernels.count(validity, 70));
+        Assert.assertEquals("Invalid count.", 1L, AggregateKernels.count(validity, new int[] { 1, 65 }, 2));
+    }
+
+    /**
+     * Test for integer aggregates.
+     */
+    @Test
+    public void testLong() {
+        // Row 1 is NULL.
+        final long[] values = { -7, 0, 3, 9 };
+        final long[] validity = { 0xDL };
+        Assert.assertEquals("Invalid sum.", 5L, AggregateKernels.sum(values, 4));
+        Assert.assertEquals("Invalid sum.", 12L, AggregateKernels.sum(values, new int[] { 2, 3 }, 2));
+        Assert.assertEquals("Invalid min.", -7L, AggregateKernels.min(values, validity, 4));
+        Assert.assertEquals("Invalid max.", 9L, AggregateKernels.max(values, validity, 4));
+        Assert.assertEquals("Invalid min.", 3L, AggregateKernels.min(values, new long[] { 0xCL }, 4));
+    }
+
+    /**
+     * Test for floating point aggregates.
+     */
+    @Test
+    public void testDouble() {
+        final long[] bits = { Double.doubleToRawLongBits(1.5D), 0L, Double.doubleToRawLongBits(-2D) };
+        final long[] validity = { 0x5L };
+        Assert.assertEquals("Invalid sum.", -0.5D, AggregateKernels.sumDouble(bits, 3), 0D);
+        Assert.assertEquals("Invalid sum.", 1.5D, AggregateKernels.sumDouble(bits, new int[] { 0 }, 1), 0D);
+        Assert.assertEquals("Invalid min.", -2D, AggregateKernels.minDouble(bits, validity, 3), 0D);
+        Assert.assertEquals("Invalid max.", 1.5D, AggregateKernels.maxDouble(bits, validity, 3), 0D);
+        Assert.assertEquals("Invalid max.", Double.NEGATIVE_INFINITY,
+                AggregateKernels.maxDouble(bits, new long[] { 0L }, 3), 0D);
+    }
+
+    /**
+     * Test for exact integer sums.
+     */
+    @Test
+    public void testSumExact() {
+        final long[] values = { Long.MAX_VALUE, Long.MAX_VALUE, -1, Long.MIN_VALUE };
+        Assert.assertEquals("Invalid sum.", BigInteger.valueOf(Long.MAX_VALUE).subtract(BigInteger.valueOf(2)),
+                AggregateKernels.sumExact(values, 4));
+    }
+
+    /**
+     * Test for compensated and scaled sums.
+     */
+    @Test
+    public void testSumMoney() {
+        final long[] bits = new long[10_000];
+        Arrays.fill(bits, Double.doubleToRawLongBits(0.1D));
+        Assert.assertEquals("Invalid sum.", 1_000D, AggregateKernels.sumCompensated(bits, bits.length), 0D);
+        Assert.assertEquals("Invalid sum.", new BigDecimal("1000.00"),
+                AggregateKernels.sumScaled(bits, bits.length, 2));
+        bits[0] = Double.doubleToRawLongBits(0.125D);
+        Assert.assertNull("Value with more digits.", AggregateKernels.sumScaled(bits, bits.length, 2));
+    }
+
+    /**
+     * Test for column sums.
+     *
+     * @throws SQLDataException
+     *             in case of errors.
+     */
+    @Test
+    public void testSumDecimal() throws SQLDataException {
+        final ColumnVector decimals = new ColumnVector(3);
+        decimals.setDecimal(0, 1050, 2);
+        decimals.setValue(1, new FieldValue(new BigDecimal("123456789012345678901.25"), Types.NUMERIC));
+        decimals.setNull(2, Types.NUMERIC);
+        Assert.assertEquals("Invalid sum.", new BigDecimal("123456789012345678911.75"),
+                AggregateKernels.sumDecimal(decimals, 3));
+
+        final ColumnVector money = new ColumnVector(2);
+        money.setDouble(0, 0.1D);
+        money.setDouble(1, 0.2D);
+        Assert.assertEquals("Invalid sum.", new BigDecimal("0.30"), AggregateKernels.sumDecimal(money, 2));
+
+        final ColumnVector empty = new ColumnVector(1);
+        empty.setNull(0, Types.DOUBLE);
+        Assert.assertNull("Invalid sum.", AggregateKernels.sumDecimal(empty, 1));
+    }
+}
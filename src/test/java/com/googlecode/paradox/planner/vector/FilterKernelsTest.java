@@ -0,0 +1,75 @@
+/*
+ * FilterKernelsTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.vector;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link FilterKernels} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public class FilterKernelsTest {
+
+    /**
+     * The test values.
+     */
+    private static final long[] VALUES = { 3, 1, 4, 1, 5 };
+
+    /**
+     * Test for integer comparisons.
+     */
+    @Test
+    public void testCompare() {
+        final boolean[] mask = new boolean[5];
+        FilterKernels.compare(Comparison.EQUALS, FilterKernelsTest.VALUES, 5, 1L, mask);
+        Assert.assertArrayEquals("Invalid equals.", new boolean[] { false, true, false, true, false }, mask);
+        FilterKernels.compare(Comparison.NOT_EQUALS, FilterKernelsTest.VALUES, 5, 1L, mask);
+        Assert.assertArrayEquals("Invalid not equals.", new boolean[] { true, false, true, false, true }, mask);
+        FilterKernels.compare(Comparison.GREATER_THAN, FilterKernelsTest.VALUES, 5, 3L, mask);
+        Assert.assertArrayEquals("Invalid greater than.", new boolean[] { false, false, true, false, true }, mask);
+        FilterKernels.compare(Comparison.LESS_THAN, FilterKernelsTest.VALUES, 5, 3L, mask);
+        Assert.assertArrayEquals("Invalid less than.", new boolean[] { false, true, false, true, false }, mask);
+    }
+
+    /**
+     * Test for floating point comparisons.
+     */
+    @Test
+    public void testCompareDouble() {
+        final long[] bits = { Double.doubleToRawLongBits(-1.5D), Double.doubleToRawLongBits(2.5D) };
+        final boolean[] mask = new boolean[2];
+        FilterKernels.compare(Comparison.GREATER_THAN, bits, 2, 0D, mask);
+        Assert.assertArrayEquals("Invalid greater than.", new boolean[] { false, true }, mask);
+        FilterKernels.compare(Comparison.EQUALS, bits, 2, -1.5D, mask);
+        Assert.assertArrayEquals("Invalid equals.", new boolean[] { true, false }, mask);
+    }
+
+    /**
+     * Test for mask combination and selection.
+     */
+    @Test
+    public void testSelect() {
+        final boolean[] mask = { true, true, false, true, true };
+        FilterKernels.and(mask, new boolean[] { true, false, false, true, true }, 5);
+        FilterKernels.or(mask, new boolean[] { false, false, true, false, false }, 5);
+        // Row 4 is NULL.
+        FilterKernels.clearNulls(mask, new long[] { 0xFL }, 5);
+
+        final int[] selection = new int[5];
+        final int count = FilterKernels.select(mask, 5, selection);
+        Assert.assertEquals("Invalid count.", 3, count);
+        Assert.assertEquals("Invalid selection.", 0, selection[0]);
+        Assert.assertEquals("Invalid selection.", 2, selection[1]);
+        Assert.assertEquals("Invalid selection.", 3, selection[2]);
+    }
+}
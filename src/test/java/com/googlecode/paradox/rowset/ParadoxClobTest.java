@@ -29,7 +29,7 @@ import org.junit.Test;
  * Unit test for {@link ParadoxClob} class.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public class ParadoxClobTest {
@@ -424,4 +424,24 @@ public class ParadoxClobTest {
             Assert.assertEquals("Testing for truncate.", 0, clob.length());
         }
     }
+    
+    /**
+     * Test for {@link Clob#length()} after {@link Clob#free()}.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testUseAfterFree() throws Exception {
+        try (Statement stmt = this.conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT comments FROM customer")) {
+            Assert.assertTrue("First record not exists", rs.next());
+            
+            final Clob clob = rs.getClob("comments");
+            Assert.assertNotNull("First comment is null", clob);
+            
+            clob.free();
+            clob.length();
+        }
+    }
 }
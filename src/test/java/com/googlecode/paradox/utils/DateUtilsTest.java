@@ -9,7 +9,10 @@
 package com.googlecode.paradox.utils;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -17,7 +20,7 @@ import org.junit.Test;
  * Unit test for {@link DateUtils}.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public class DateUtilsTest {
@@ -113,4 +116,79 @@ public class DateUtilsTest {
         Assert.assertNull("Date is not null.", DateUtils.sdnToGregorian(0));
         Assert.assertNull("Date is not null.", DateUtils.sdnToGregorian(-1));
     }
+    
+    /**
+     * Test the date conversion against the Java calendar.
+     */
+    @Test
+    public void testSdnToMillis() {
+        final Calendar utc = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        // From October 15, 1582 to 2132.
+        for (long sdn = 2_299_161; sdn < 2_500_000; sdn += 97) {
+            utc.setTimeInMillis((sdn - 2_440_588) * 86_400_000L);
+            final Calendar expected = new GregorianCalendar(utc.get(Calendar.YEAR), utc.get(Calendar.MONTH),
+                    utc.get(Calendar.DAY_OF_MONTH));
+            Assert.assertEquals("Invalid date for SDN " + sdn, expected.getTimeInMillis(), DateUtils.sdnToMillis(sdn));
+        }
+    }
+    
+    /**
+     * Test the date conversion in time zones where daylight saving time starts at midnight.
+     */
+    @Test
+    public void testSdnToMillisDaylightGap() {
+        final TimeZone previous = TimeZone.getDefault();
+        try {
+            for (final String id : new String[] { "America/Sao_Paulo", "Asia/Tehran", "America/Havana",
+                "Pacific/Apia" }) {
+                TimeZone.setDefault(TimeZone.getTimeZone(id));
+                for (long sdn = 2_299_161; sdn < 2_500_000; sdn++) {
+                    final Calendar expected = DateUtilsTest.toCalendar(sdn);
+                    Assert.assertEquals("Invalid date for SDN " + sdn + " in " + id, expected.getTimeInMillis(),
+                            DateUtils.sdnToMillis(sdn));
+                }
+            }
+        } finally {
+            TimeZone.setDefault(previous);
+        }
+    }
+    
+    /**
+     * Test the time conversion after a change of the default time zone.
+     */
+    @Test
+    public void testTimeToMillisZoneChange() {
+        final TimeZone previous = TimeZone.getDefault();
+        try {
+            for (final String id : new String[] { "UTC", "America/Sao_Paulo", "UTC" }) {
+                TimeZone.setDefault(TimeZone.getTimeZone(id));
+                final Calendar expected = new GregorianCalendar(1, 0, 0);
+                expected.add(Calendar.MILLISECOND, 30_000);
+                Assert.assertEquals("Invalid time in " + id, expected.getTimeInMillis(), DateUtils.timeToMillis(30_000));
+            }
+        } finally {
+            TimeZone.setDefault(previous);
+        }
+    }
+    
+    /**
+     * Test the dates before the Gregorian calendar.
+     */
+    @Test
+    public void testSdnToGregorianJulian() {
+        Assert.assertEquals("Invalid date.", "0100-01-01", DateUtils.sdnToGregorian(1_757_585).toString());
+    }
+    
+    /**
+     * Converts a date with the Java calendar in the default time zone.
+     *
+     * @param sdn
+     *            the Paradox date.
+     * @return the date at local midnight.
+     */
+    private static Calendar toCalendar(final long sdn) {
+        final Calendar utc = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        utc.setTimeInMillis((sdn - 2_440_588) * 86_400_000L);
+        return new GregorianCalendar(utc.get(Calendar.YEAR), utc.get(Calendar.MONTH), utc.get(Calendar.DAY_OF_MONTH));
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * DecimalUtilsTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.math.BigDecimal;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DecimalUtils} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public class DecimalUtilsTest {
+
+    /**
+     * Test for double to decimal conversion.
+     */
+    @Test
+    public void testToBigDecimal() {
+        Assert.assertEquals("Invalid value.", new BigDecimal("0.1"), DecimalUtils.toBigDecimal(0.1D));
+        Assert.assertEquals("Invalid value.", new BigDecimal("-1234.56"), DecimalUtils.toBigDecimal(-1234.56D));
+        Assert.assertEquals("Invalid value.", new BigDecimal("300"), DecimalUtils.toBigDecimal(300D));
+        Assert.assertEquals("Invalid value.", new BigDecimal(1e300), DecimalUtils.toBigDecimal(1e300));
+        Assert.assertEquals("Invalid value.", 0.1D + 0.2D, DecimalUtils.toBigDecimal(0.1D + 0.2D).doubleValue(), 0D);
+    }
+
+    /**
+     * Test for invalid double values.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void testNaN() {
+        DecimalUtils.toBigDecimal(Double.NaN);
+    }
+
+    /**
+     * Test for scaled values.
+     */
+    @Test
+    public void testToScaled() {
+        Assert.assertEquals("Invalid value.", 1999L, DecimalUtils.toScaled(19.99D, 2));
+        Assert.assertEquals("Invalid value.", Long.MIN_VALUE, DecimalUtils.toScaled(19.999D, 2));
+        Assert.assertEquals("Invalid value.", 19.99D, DecimalUtils.toDouble(1999L, 2), 0D);
+        Assert.assertEquals("Invalid value.", 1e-30D, DecimalUtils.toDouble(1L, 30), 0D);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * StringDecoderTest.java 10/18/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StringDecoder} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.0
+ */
+public class StringDecoderTest {
+
+    /**
+     * Test for ASCII strings.
+     */
+    @Test
+    public void testAscii() {
+        final byte[] data = "xxParadox".getBytes(Charset.forName("US-ASCII"));
+        Assert.assertEquals("Invalid string.", "Paradox",
+                StringDecoder.decode(data, 2, data.length - 2, Charset.forName("cp1252")));
+    }
+
+    /**
+     * Test for all single byte values.
+     */
+    @Test
+    public void testSingleByte() {
+        final byte[] data = new byte[256];
+        for (int loop = 0; loop < data.length; loop++) {
+            data[loop] = (byte) loop;
+        }
+        for (final String name : new String[] { "cp437", "cp850", "cp1251", "cp1252" }) {
+            final Charset charset = Charset.forName(name);
+            Assert.assertEquals("Invalid string in " + name, charset.decode(ByteBuffer.wrap(data)).toString(),
+                    StringDecoder.decode(data, 0, data.length, charset));
+        }
+    }
+
+    /**
+     * Test for multi byte code pages.
+     */
+    @Test
+    public void testMultiByte() {
+        final Charset charset = Charset.forName("cp932");
+        final byte[] data = "\u65e5\u672c".getBytes(charset);
+        Assert.assertEquals("Invalid string.", "\u65e5\u672c", StringDecoder.decode(data, 0, data.length, charset));
+    }
+
+    /**
+     * Test for class sanity.
+     *
+     * @throws NoSuchMethodException
+     *             in case of errors.
+     * @throws InstantiationException
+     *             in case of errors.
+     * @throws IllegalAccessException
+     *             in case of errors.
+     * @throws InvocationTargetException
+     *             in case of errors.
+     */
+    @Test
+    public void testSanity()
+            throws NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
+        Assert.assertTrue("Utility class in wrong format.",
+                TestUtil.assertUtilityClassWellDefined(StringDecoder.class));
+    }
+}